@@ -4,8 +4,10 @@ import com.minecolonies.api.colony.buildings.views.MobEntryView;
 import com.minecolonies.api.colony.guardtype.GuardType;
 import com.minecolonies.api.entity.ai.citizen.guards.GuardTask;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
@@ -183,6 +185,14 @@ public interface IGuardBuilding extends ISchematicProvider, ICitizenAssignable,
      */
     void setMobsToAttack(List<MobEntryView> list);
 
+    /**
+     * Check if the guards of the building attack an entity, by the mobs to attack.
+     *
+     * @param entity the entity.
+     * @return true if its class or a super class is a mob to attack.
+     */
+    boolean isMobToAttack(@NotNull Entity entity);
+
     /**
      * Gets the player to follow.
      *
@@ -91,6 +91,12 @@ public interface IColonyPackageManager
      */
     void removeCloseSubscriber(@NotNull final EntityPlayerMP player);
 
+    /**
+     * Send a full request system snapshot to a subscriber which missed a delta, with the next view update.
+     * @param subscriber the subscriber.
+     */
+    void addRequestSystemResync(@NotNull final EntityPlayerMP subscriber);
+
     /**
      * Returns the global subscribers.
      *
@@ -214,7 +214,7 @@ public final class StandardFactoryController implements IFactoryController
         primaryInputFactories.add(factory);
         primaryOutputFactories.add(factory);
 
-        final Set<TypeToken> outputSuperTypes = ReflectionUtils.getSuperClasses(factory.getFactoryOutputType());
+        final Set<TypeToken> outputSuperTypes = new LinkedHashSet<>(ReflectionUtils.getSuperClasses(factory.getFactoryOutputType()));
 
         outputSuperTypes.remove(factory.getFactoryOutputType());
 
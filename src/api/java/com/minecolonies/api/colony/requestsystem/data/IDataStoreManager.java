@@ -3,6 +3,7 @@ package com.minecolonies.api.colony.requestsystem.data;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 
+import java.util.Map;
 import java.util.function.Supplier;
 
 public interface IDataStoreManager
@@ -11,6 +12,10 @@ public interface IDataStoreManager
 
     <T extends IDataStore> T get(IToken<?> id, Supplier<T> factory);
 
+    void put(IToken<?> id, IDataStore store);
+
+    Map<IToken<?>, IDataStore> getAll();
+
     void remove(IToken<?> id);
 
     void removeAll();
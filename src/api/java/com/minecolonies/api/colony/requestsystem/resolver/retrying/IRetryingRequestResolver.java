@@ -54,4 +54,10 @@ public interface IRetryingRequestResolver extends IQueuedRequestResolver<IRetrya
      */
     @Nullable
     IToken<?> getCurrentlyBeingReassignedRequest();
+
+    /**
+     * Retry all assigned requests with the next update, without counting it as an attempt.
+     * Called when a new resolver is registered, which might be able to resolve them.
+     */
+    void retryAllEarly();
 }
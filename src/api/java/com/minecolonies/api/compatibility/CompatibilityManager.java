@@ -8,6 +8,7 @@ import com.minecolonies.api.util.BlockStateStorage;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.NBTUtils;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockOre;
 import net.minecraft.block.BlockRedstoneOre;
@@ -136,6 +137,46 @@ public class CompatibilityManager implements ICompatibilityManager
      */
     private boolean discoveredAlready = false;
 
+    /**
+     * Classification flag of compostable items.
+     */
+    private static final int COMPOST = 1;
+
+    /**
+     * Classification flag of plantable items.
+     */
+    private static final int PLANTABLE = 1 << 1;
+
+    /**
+     * Classification flag of lucky blocks.
+     */
+    private static final int LUCKY_BLOCK = 1 << 2;
+
+    /**
+     * Classification flag of items with an ore dictionary name containing "ore".
+     */
+    private static final int MINEABLE_ORE = 1 << 3;
+
+    /**
+     * Classification flag of mineable ores with a smelting result.
+     */
+    private static final int SMELTABLE_ORE = 1 << 4;
+
+    /**
+     * The items configured by registry name, with the flags of the lists they are configured in.
+     */
+    private final Map<Item, Integer> configuredItems = new HashMap<>();
+
+    /**
+     * The flags each ore dictionary id gives, by ore id.
+     */
+    private int[] oreIdFlags = null;
+
+    /**
+     * The classification flags of the items, by packed item id and meta, computed on first use.
+     */
+    private final Long2IntOpenHashMap classifications = new Long2IntOpenHashMap();
+
     /**
      * Random obj.
      */
@@ -183,6 +224,7 @@ public class CompatibilityManager implements ICompatibilityManager
     @Override
     public void discover()
     {
+        invalidateClassifications();
         discoverBlockList();
 
         discoverSaplings();
@@ -234,76 +276,19 @@ public class CompatibilityManager implements ICompatibilityManager
     @Override
     public boolean isCompost(final ItemStack itemStack)
     {
-        if (itemStack.isEmpty())
-        {
-            return false;
-        }
-
-        for (final String string : Configurations.gameplay.listOfCompostableItems)
-        {
-            if (itemStack.getItem().getRegistryName().toString().equals(string))
-            {
-                return true;
-            }
-            for (final int id : OreDictionary.getOreIDs(itemStack))
-            {
-                if (OreDictionary.getOreName(id).equals(string))
-                {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return (getClassification(itemStack) & COMPOST) != 0;
     }
 
     @Override
     public boolean isPlantable(final ItemStack itemStack)
     {
-        if (itemStack.isEmpty())
-        {
-            return false;
-        }
-
-        for (final String string : Configurations.gameplay.listOfPlantables)
-        {
-            if (itemStack.getItem().getRegistryName().toString().equals(string))
-            {
-                return true;
-            }
-            for (final int id : OreDictionary.getOreIDs(itemStack))
-            {
-                if (OreDictionary.getOreName(id).equals(string))
-                {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return (getClassification(itemStack) & PLANTABLE) != 0;
     }
 
     @Override
     public boolean isLuckyBlock(final ItemStack itemStack)
     {
-        if (itemStack.isEmpty())
-        {
-            return false;
-        }
-
-        for (final String string : Configurations.gameplay.luckyBlocks)
-        {
-            if (itemStack.getItem().getRegistryName().toString().equals(string))
-            {
-                return true;
-            }
-            for (final int id : OreDictionary.getOreIDs(itemStack))
-            {
-                if (OreDictionary.getOreName(id).equals(string))
-                {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return (getClassification(itemStack) & LUCKY_BLOCK) != 0;
     }
 
     @Override
@@ -368,39 +353,24 @@ public class CompatibilityManager implements ICompatibilityManager
     @Override
     public boolean isOre(@NotNull final ItemStack stack)
     {
-        if (isEmpty(stack))
-        {
-            return false;
-        }
-        final int[] ids = OreDictionary.getOreIDs(stack);
-        for (final int id : ids)
-        {
-            if (OreDictionary.getOreName(id).contains(ORE_STRING))
-            {
-                return !FurnaceRecipes.instance().getSmeltingResult(stack).isEmpty();
-            }
-        }
-
-        return false;
+        return (getClassification(stack) & SMELTABLE_ORE) != 0;
     }
 
     @Override
     public boolean isMineableOre(@NotNull final ItemStack stack)
     {
-        if (isEmpty(stack))
-        {
-            return false;
-        }
-        final int[] ids = OreDictionary.getOreIDs(stack);
-        for (final int id : ids)
+        return (getClassification(stack) & MINEABLE_ORE) != 0;
+    }
+
+    @Override
+    public void invalidateClassifications()
+    {
+        synchronized (classifications)
         {
-            if (OreDictionary.getOreName(id).contains(ORE_STRING))
-            {
-                return true;
-            }
+            oreIdFlags = null;
+            configuredItems.clear();
+            classifications.clear();
         }
-
-        return false;
     }
 
     /**
@@ -480,6 +450,111 @@ public class CompatibilityManager implements ICompatibilityManager
 
     //------------------------------- Private Utility Methods -------------------------------//
 
+    /**
+     * Get the classification flags of a stack, computing them for its item and meta on first use.
+     *
+     * @param stack the stack.
+     * @return the flags, 0 for an empty stack.
+     */
+    private int getClassification(@NotNull final ItemStack stack)
+    {
+        if (isEmpty(stack))
+        {
+            return 0;
+        }
+
+        final long key = ((long) Item.getIdFromItem(stack.getItem()) << Integer.SIZE) | (stack.getMetadata() & 0xFFFFFFFFL);
+        synchronized (classifications)
+        {
+            if (oreIdFlags == null)
+            {
+                buildClassificationTables();
+            }
+
+            int flags = classifications.get(key);
+            if (flags < 0)
+            {
+                flags = classify(stack);
+                classifications.put(key, flags);
+            }
+            return flags;
+        }
+    }
+
+    /**
+     * Compute the classification flags of a stack from the tables.
+     *
+     * @param stack the stack.
+     * @return the flags.
+     */
+    private int classify(@NotNull final ItemStack stack)
+    {
+        int flags = configuredItems.getOrDefault(stack.getItem(), 0);
+        for (final int id : OreDictionary.getOreIDs(stack))
+        {
+            if (id < oreIdFlags.length)
+            {
+                flags |= oreIdFlags[id];
+            }
+        }
+
+        if ((flags & MINEABLE_ORE) != 0 && !FurnaceRecipes.instance().getSmeltingResult(stack).isEmpty())
+        {
+            flags |= SMELTABLE_ORE;
+        }
+        return flags;
+    }
+
+    /**
+     * Build the tables of the configured registry names and ore dictionary names.
+     */
+    private void buildClassificationTables()
+    {
+        classifications.defaultReturnValue(-1);
+        configuredItems.clear();
+        classifications.clear();
+
+        final Map<String, Integer> configuredNames = new HashMap<>();
+        addConfiguredNames(configuredNames, Configurations.gameplay.listOfCompostableItems, COMPOST);
+        addConfiguredNames(configuredNames, Configurations.gameplay.listOfPlantables, PLANTABLE);
+        addConfiguredNames(configuredNames, Configurations.gameplay.luckyBlocks, LUCKY_BLOCK);
+
+        for (final Map.Entry<String, Integer> entry : configuredNames.entrySet())
+        {
+            final Item item = Item.getByNameOrId(entry.getKey());
+            if (item != null && item.getRegistryName() != null && item.getRegistryName().toString().equals(entry.getKey()))
+            {
+                configuredItems.merge(item, entry.getValue(), (a, b) -> a | b);
+            }
+        }
+
+        final String[] oreNames = OreDictionary.getOreNames();
+        oreIdFlags = new int[oreNames.length];
+        for (final String oreName : oreNames)
+        {
+            final int id = OreDictionary.getOreID(oreName);
+            if (id < oreIdFlags.length)
+            {
+                oreIdFlags[id] = configuredNames.getOrDefault(oreName, 0) | (oreName.contains(ORE_STRING) ? MINEABLE_ORE : 0);
+            }
+        }
+    }
+
+    /**
+     * Add the names of a configured list with its flag.
+     *
+     * @param names the names with their flags.
+     * @param list  the configured list.
+     * @param flag  the flag of the list.
+     */
+    private static void addConfiguredNames(@NotNull final Map<String, Integer> names, @NotNull final String[] list, final int flag)
+    {
+        for (final String name : list)
+        {
+            names.merge(name, flag, (a, b) -> a | b);
+        }
+    }
+
     private void discoverOres()
     {
         if (smeltableOres.isEmpty())
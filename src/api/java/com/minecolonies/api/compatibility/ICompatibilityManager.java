@@ -120,6 +120,12 @@ public interface ICompatibilityManager
      */
     boolean isCompost(ItemStack stack);
 
+    /**
+     * Drop the classification tables of the items, after the configured item lists changed.
+     * They are built again on their next use.
+     */
+    void invalidateClassifications();
+
     /**
      * Get a map of all the crusher modes.
      * @return the modes.
@@ -186,6 +186,10 @@ public class Configurations
         @Config.Comment("Should the player be allowed to use the '/mc backup' command? [Default: false]")
         public boolean canPlayerUseBackupCommand = false;
 
+        @Config.Comment("Amount of colony backup snapshots to keep, unchanged files are shared between snapshots. [Default: 20]")
+        @Config.RangeInt(min = 1)
+        public int colonyBackupSnapshotsToKeep = 20;
+
         /* Colony TP configs */
         @Config.Comment("Amount of attempts to find a save rtp. [Default: 4]")
         public int numberOfAttemptsForSafeTP = 4;
@@ -614,6 +618,10 @@ public class Configurations
 
         @Config.Comment("Experience multiplier of the enchanter (how much more experience does he get from a citizen than he drains) [Default: 2.0]")
         public double enchanterExperienceMultiplier = 2;
+
+        @Config.Comment("Milliseconds per tick the slow colony updates may take, the remaining updates run in the next ticks. [Default: 5]")
+        @Config.RangeInt(min = 0)
+        public int colonyTickBudgetMs = 5;
     }
 
     public static class Compatibility
@@ -635,6 +643,14 @@ public class Configurations
 
         @Config.Comment("Max amount of Nodes(positions) to map during pathfinding. Lowering increases performance, but might lead to pathing glitches. [Default: 5000]")
         public int pathfindingMaxNodes = 5000;
+
+        @Config.Comment("Amount of ticks a calculated path is reused for citizens walking from the same position to the same destination. [Default: 100]")
+        @Config.RangeInt(min = 0)
+        public int pathfindingCacheTicks = 100;
+
+        @Config.Comment("Max amount of queued path calculations, the least important ones are dropped once it is reached. [Default: 512]")
+        @Config.RangeInt(min = 1)
+        public int pathfindingMaxQueuedJobs = 512;
     }
 
     public static class RequestSystem
@@ -0,0 +1,107 @@
+package com.minecolonies.api.entity.ai.statemachine.tickratestatemachine;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A list of ticking transitions compiled into arrays, for checking them without allocations.
+ * The transitions are grouped into buckets of the same tickrate and offset, a tick only checks the transitions of the due buckets.
+ * The order of the transitions is kept, it decides which transition applies first.
+ */
+final class CompiledTransitions
+{
+    /**
+     * Compiled form of an empty list.
+     */
+    static final CompiledTransitions EMPTY = new CompiledTransitions(new ArrayList<>());
+
+    /**
+     * The transitions, in their original order.
+     */
+    final ITickingTransition[] transitions;
+
+    /**
+     * The bucket of each transition.
+     */
+    private final int[] bucketOf;
+
+    /**
+     * The tickrate of each bucket.
+     */
+    private final int[] bucketRates;
+
+    /**
+     * The tick offset of each bucket.
+     */
+    private final int[] bucketOffsets;
+
+    /**
+     * The tick the due flags were computed for.
+     */
+    private int dueTick = -1;
+
+    /**
+     * If each bucket is due in the current tick.
+     */
+    private final boolean[] due;
+
+    /**
+     * Compile a list of transitions, reading their current tickrates and offsets.
+     *
+     * @param list the transitions.
+     */
+    CompiledTransitions(@NotNull final List<? extends ITickingTransition> list)
+    {
+        transitions = list.toArray(new ITickingTransition[0]);
+        bucketOf = new int[transitions.length];
+
+        final int[] rates = new int[transitions.length];
+        final int[] offsets = new int[transitions.length];
+        int buckets = 0;
+        for (int i = 0; i < transitions.length; i++)
+        {
+            final int rate = transitions[i].getTickRate();
+            final int offset = transitions[i].getTickOffset();
+            int bucket = 0;
+            while (bucket < buckets && (rates[bucket] != rate || offsets[bucket] != offset))
+            {
+                bucket++;
+            }
+            if (bucket == buckets)
+            {
+                rates[bucket] = rate;
+                offsets[bucket] = offset;
+                buckets++;
+            }
+            bucketOf[i] = bucket;
+        }
+
+        bucketRates = new int[buckets];
+        bucketOffsets = new int[buckets];
+        System.arraycopy(rates, 0, bucketRates, 0, buckets);
+        System.arraycopy(offsets, 0, bucketOffsets, 0, buckets);
+        due = new boolean[buckets];
+    }
+
+    /**
+     * Check if a transition is due in a tick.
+     *
+     * @param index the index of the transition.
+     * @param tick  the tick counter of the statemachine.
+     * @return true if it should be checked.
+     */
+    boolean isDue(final int index, final int tick)
+    {
+        if (dueTick != tick)
+        {
+            dueTick = tick;
+            for (int bucket = 0; bucket < due.length; bucket++)
+            {
+                due[bucket] = tick % bucketRates[bucket] == bucketOffsets[bucket];
+            }
+        }
+        return due[bucketOf[index]];
+    }
+}
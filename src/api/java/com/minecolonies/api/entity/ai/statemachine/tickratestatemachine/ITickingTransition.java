@@ -13,7 +13,8 @@ public interface ITickingTransition extends IStateMachineTransition
     int getTickRate();
 
     /**
-     * Allow to dynamically change the tickrate
+     * Allow to dynamically change the tickrate.
+     * A {@link TickRateStateMachine} picks the new rate up once its transitions change.
      *
      * @param tickRate rate at which the AITarget should tick
      */
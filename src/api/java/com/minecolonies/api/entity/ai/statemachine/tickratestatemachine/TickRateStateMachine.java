@@ -4,8 +4,12 @@ import com.minecolonies.api.entity.ai.statemachine.basestatemachine.BasicStateMa
 import com.minecolonies.api.entity.ai.statemachine.states.AIBlockingEventType;
 import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import static com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateConstants.MAX_TICKRATE;
@@ -13,6 +17,7 @@ import static com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.T
 /**
  * Statemachine with an added tickrate limiting of transitions, allowing transitions to be checked at a lower rate.
  * Default tickrate is 20 tps (Minecraft default).
+ * The transition lists are compiled into arrays grouped by tickrate and offset, so that a tick neither allocates nor checks transitions which aren't due.
  */
 public class TickRateStateMachine extends BasicStateMachine<ITickingTransition> implements ITickRateStateMachine
 {
@@ -21,6 +26,17 @@ public class TickRateStateMachine extends BasicStateMachine<ITickingTransition>
      */
     private int tickCounter = 0;
 
+    /**
+     * The compiled transitions of the states, compiled when a state is first ticked.
+     */
+    private final Map<IAIState, CompiledTransitions> compiledStates = new HashMap<>();
+
+    /**
+     * The compiled events, in the order they are checked, null once outdated.
+     */
+    @Nullable
+    private CompiledTransitions[] compiledEvents;
+
     /**
      * Construct a new StateMachine
      */
@@ -34,6 +50,20 @@ public class TickRateStateMachine extends BasicStateMachine<ITickingTransition>
         this.eventTransitionMap.put(AIBlockingEventType.EVENT, new ArrayList<>());
     }
 
+    @Override
+    public void addTransition(final ITickingTransition transition)
+    {
+        super.addTransition(transition);
+        invalidateCompiled();
+    }
+
+    @Override
+    public void removeTransition(final ITickingTransition transition)
+    {
+        super.removeTransition(transition);
+        invalidateCompiled();
+    }
+
     /**
      * Tick the statemachine.
      */
@@ -46,21 +76,77 @@ public class TickRateStateMachine extends BasicStateMachine<ITickingTransition>
             tickCounter = 1;
         }
 
+        if (compiledEvents == null)
+        {
+            compiledEvents = new CompiledTransitions[] {
+              compile(eventTransitionMap.get(AIBlockingEventType.AI_BLOCKING)),
+              compile(eventTransitionMap.get(AIBlockingEventType.EVENT)),
+              compile(eventTransitionMap.get(AIBlockingEventType.STATE_BLOCKING))};
+        }
 
+        for (final CompiledTransitions events : compiledEvents)
+        {
+            if (checkCompiled(events))
+            {
+                return;
+            }
+        }
 
-        if (!eventTransitionMap.get(AIBlockingEventType.AI_BLOCKING).stream().anyMatch(this::checkTransition)
-              && !eventTransitionMap.get(AIBlockingEventType.EVENT).stream().anyMatch(this::checkTransition)
-              && !eventTransitionMap.get(AIBlockingEventType.STATE_BLOCKING).stream().anyMatch(this::checkTransition))
+        final IAIState state = getState();
+        CompiledTransitions compiled = compiledStates.get(state);
+        if (compiled == null)
         {
-            if (!transitionMap.containsKey(getState()))
+            if (!transitionMap.containsKey(state))
             {
                 // Reached Trap/Sink state we cannot leave.
-                onException(new RuntimeException("Missing AI transition for state: " + getState()));
+                onException(new RuntimeException("Missing AI transition for state: " + state));
                 reset();
                 return;
             }
-            transitionMap.get(getState()).stream().anyMatch(this::checkTransition);
+            compiled = compile(transitionMap.get(state));
+            compiledStates.put(state, compiled);
         }
+        checkCompiled(compiled);
+    }
+
+    /**
+     * Check the due transitions of a compiled list in order, until one applies.
+     *
+     * @param compiled the compiled transitions.
+     * @return true if a transition applied.
+     */
+    private boolean checkCompiled(@NotNull final CompiledTransitions compiled)
+    {
+        final ITickingTransition[] transitions = compiled.transitions;
+        for (int i = 0; i < transitions.length; i++)
+        {
+            if (compiled.isDue(i, tickCounter) && super.checkTransition(transitions[i]))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compile a list of transitions.
+     *
+     * @param transitions the transitions, may be null.
+     * @return the compiled transitions.
+     */
+    @NotNull
+    private static CompiledTransitions compile(@Nullable final List<ITickingTransition> transitions)
+    {
+        return transitions == null || transitions.isEmpty() ? CompiledTransitions.EMPTY : new CompiledTransitions(transitions);
+    }
+
+    /**
+     * Drop the compiled transitions after the transitions changed, they are compiled again on the next tick.
+     */
+    private void invalidateCompiled()
+    {
+        compiledEvents = null;
+        compiledStates.clear();
     }
 
     /**
@@ -21,8 +21,7 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
-import java.util.Objects;
+import java.util.*;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -45,6 +44,17 @@ public class StructureIterator
     private final World            targetWorld;
     private       Stage            stage;
 
+    /**
+     * Entity data of a position without entities.
+     */
+    private static final NBTTagCompound[] NO_ENTITIES = new NBTTagCompound[0];
+
+    /**
+     * The entity data of the structure by local position, null until the spawn stage first needs it.
+     */
+    @Nullable
+    private Map<BlockPos, NBTTagCompound[]> entityIndex;
+
     /**
      * Create a new building task.
      *
@@ -278,7 +288,7 @@ public class StructureIterator
         final NBTTagCompound[] entityData;
         if (stage == Stage.SPAWN)
         {
-            entityData = Arrays.stream(this.theStructure.getEntityData()).filter(data -> data != null && isAtPos(data, this.theStructure.getLocalPosition())).toArray(NBTTagCompound[]::new);
+            entityData = getEntityIndex().getOrDefault(this.theStructure.getLocalPosition(), NO_ENTITIES);
         }
         else
         {
@@ -293,13 +303,41 @@ public class StructureIterator
                                    BlockPosUtil.getBlockState(targetWorld, this.theStructure.getBlockPosition()));
     }
 
-    private boolean isAtPos(@NotNull final NBTTagCompound entityData, final BlockPos pos)
+    /**
+     * Get the entity data of the structure by local position, indexing it on first use.
+     *
+     * @return the entity data at each position.
+     */
+    @NotNull
+    private Map<BlockPos, NBTTagCompound[]> getEntityIndex()
+    {
+        if (entityIndex == null)
+        {
+            final Map<BlockPos, List<NBTTagCompound>> grouped = new HashMap<>();
+            for (final NBTTagCompound data : this.theStructure.getEntityData())
+            {
+                if (data != null)
+                {
+                    grouped.computeIfAbsent(getEntityPos(data), pos -> new ArrayList<>()).add(data);
+                }
+            }
+
+            entityIndex = new HashMap<>();
+            for (final Map.Entry<BlockPos, List<NBTTagCompound>> entry : grouped.entrySet())
+            {
+                entityIndex.put(entry.getKey(), entry.getValue().toArray(NO_ENTITIES));
+            }
+        }
+        return entityIndex;
+    }
+
+    private static BlockPos getEntityPos(@NotNull final NBTTagCompound entityData)
     {
         final NBTTagList list = entityData.getTagList("Pos", 6);
         final int x = (int) list.getDoubleAt(0);
         final int y = (int) list.getDoubleAt(1);
         final int z = (int) list.getDoubleAt(2);
-        return new BlockPos(x, y, z).equals(pos);
+        return new BlockPos(x, y, z);
     }
 
     /**
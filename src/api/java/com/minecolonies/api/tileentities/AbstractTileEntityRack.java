@@ -4,6 +4,7 @@ import com.minecolonies.api.blocks.ModBlocks;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
+import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.ItemStackUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
@@ -11,8 +12,10 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.items.IItemHandlerModifiable;
 import net.minecraftforge.items.ItemStackHandler;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Nonnull;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import static com.minecolonies.api.util.constant.Constants.DEFAULT_SIZE;
@@ -37,6 +40,11 @@ public abstract class AbstractTileEntityRack extends TileEntity
      * set by the warehouse building upon being built
      */
     protected boolean inWarehouse = false;
+    /**
+     * Listener notified about content changes, like the item index of a warehouse.
+     */
+    @Nullable
+    protected IRackContentListener contentListener = null;
     /**
      * The inventory of the tileEntity.
      */
@@ -99,6 +107,35 @@ public abstract class AbstractTileEntityRack extends TileEntity
 
     public abstract void updateItemStorage();
 
+    /**
+     * Get the content of the rack, by item and amount.
+     * This method returns the content list, it is therefore extremely fast.
+     *
+     * @return an unmodifiable view of the content.
+     */
+    public abstract Map<ItemStorage, Integer> getAllContent();
+
+    /**
+     * Set the listener notified about content changes and removal of the rack.
+     *
+     * @param contentListener the listener or null to remove it.
+     */
+    public void setContentListener(@Nullable final IRackContentListener contentListener)
+    {
+        this.contentListener = contentListener;
+    }
+
+    /**
+     * Get the listener notified about content changes.
+     *
+     * @return the listener or null.
+     */
+    @Nullable
+    public IRackContentListener getContentListener()
+    {
+        return contentListener;
+    }
+
     protected abstract void updateBlockState();
 
     public abstract AbstractTileEntityRack getOtherChest();
@@ -0,0 +1,23 @@
+package com.minecolonies.api.tileentities;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Listener of a rack which is notified about content changes, used to keep item indices up to date.
+ */
+public interface IRackContentListener
+{
+    /**
+     * Called after the content of the rack changed.
+     *
+     * @param rack the rack.
+     */
+    void onContentChanged(@NotNull AbstractTileEntityRack rack);
+
+    /**
+     * Called when the rack is unloaded or removed from the world.
+     *
+     * @param rack the rack.
+     */
+    void onRackRemoved(@NotNull AbstractTileEntityRack rack);
+}
@@ -264,6 +264,7 @@ public class TileEntityColonyBuilding extends AbstractTileEntityColonyBuilding i
     @Override
     public void onChunkUnload()
     {
+        super.onChunkUnload();
         if (building != null)
         {
             building.setTileEntity(null);
@@ -24,6 +24,7 @@ import net.minecraftforge.items.ItemStackHandler;
 import net.minecraftforge.items.wrapper.CombinedInvWrapper;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -225,6 +226,44 @@ public class TileEntityRack extends AbstractTileEntityRack
 
         updateBlockState();
         markDirty();
+
+        if (contentListener != null)
+        {
+            contentListener.onContentChanged(this);
+        }
+    }
+
+    @Override
+    public Map<ItemStorage, Integer> getAllContent()
+    {
+        return Collections.unmodifiableMap(content);
+    }
+
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        notifyRackRemoved();
+    }
+
+    @Override
+    public void onChunkUnload()
+    {
+        super.onChunkUnload();
+        notifyRackRemoved();
+    }
+
+    /**
+     * Tell the content listener that this rack is gone, it has to be attached to the new tile entity again.
+     */
+    private void notifyRackRemoved()
+    {
+        if (contentListener != null)
+        {
+            final IRackContentListener listener = contentListener;
+            contentListener = null;
+            listener.onRackRemoved(this);
+        }
     }
 
     /**
@@ -13,6 +13,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3i;
 import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
 import net.minecraftforge.common.util.FakePlayer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -73,6 +74,7 @@ public final class EntityUtils
 
     /**
      * Returns the loaded Entity with the given UUID.
+     * Server worlds keep an index by UUID, only client worlds are scanned.
      *
      * @param world world the entity is in
      * @param id    the entity's UUID
@@ -80,6 +82,11 @@ public final class EntityUtils
      */
     public static Entity getEntityFromUUID(@NotNull final World world, @NotNull final UUID id)
     {
+        if (world instanceof WorldServer)
+        {
+            return ((WorldServer) world).getEntityFromUuid(id);
+        }
+
         for (int i = 0; i < world.loadedEntityList.size(); ++i)
         {
             if (id.equals(world.loadedEntityList.get(i).getUniqueID()))
@@ -102,6 +109,19 @@ public final class EntityUtils
     {
         @NotNull final List<Entity> entities = new ArrayList<>();
 
+        if (world instanceof WorldServer)
+        {
+            for (final UUID id : ids)
+            {
+                final Entity entity = ((WorldServer) world).getEntityFromUuid(id);
+                if (entity != null)
+                {
+                    entities.add(entity);
+                }
+            }
+            return entities;
+        }
+
         for (final Object o : world.loadedEntityList)
         {
             if (o instanceof Entity)
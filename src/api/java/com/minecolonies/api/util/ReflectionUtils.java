@@ -4,14 +4,21 @@ import com.google.common.reflect.TypeToken;
 import org.apache.logging.log4j.core.config.AppenderControl;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class with methods regarding reflection.
  */
 public final class ReflectionUtils
 {
+    /**
+     * Cache of the super types of each type, resolving them through reflection is expensive.
+     */
+    private static final Map<TypeToken<?>, Set<TypeToken>> SUPER_CLASSES = new ConcurrentHashMap<>();
 
     /**
      * Private constructor to hide the implicit public one.
@@ -22,13 +29,25 @@ public final class ReflectionUtils
 
     /**
      * Method to get all Super types of a given Class.
+     * The result is cached, it is therefore unmodifiable.
      *
      * @param token The type to get the Supertypes for.
      * @param <T>   The type to get the super types for.
-     * @return A set with the super types of the given type.
+     * @return An unmodifiable set with the super types of the given type.
      */
-    @SuppressWarnings("unchecked")
     public static <T> Set<TypeToken> getSuperClasses(final TypeToken<T> token)
+    {
+        return SUPER_CLASSES.computeIfAbsent(token, ReflectionUtils::computeSuperClasses);
+    }
+
+    /**
+     * Resolve all Super types of a given Class.
+     *
+     * @param token The type to get the Supertypes for.
+     * @return An unmodifiable set with the super types of the given type.
+     */
+    @SuppressWarnings("unchecked")
+    private static Set<TypeToken> computeSuperClasses(final TypeToken<?> token)
     {
         final Set<TypeToken> directSet = new LinkedHashSet<>(token.getTypes());
         final Set<TypeToken> resultingSet = new LinkedHashSet<>();
@@ -39,7 +58,7 @@ public final class ReflectionUtils
             resultingSet.add(TypeToken.of(t.getRawType()));
         });
 
-        return resultingSet;
+        return Collections.unmodifiableSet(resultingSet);
     }
 
     public static void setFMLLoggingLevelOnConsoleToDebug(final AppenderControl control)
@@ -32,15 +32,20 @@ public final class ColonyManagerConstants
      */
     public static final String CHUNK_INFO_PATH = FILENAME_MINECOLONIES_PATH + "/chunkInfo";
 
+    /**
+     * The path of the chunk storage region files.
+     */
+    public static final String CHUNK_REGION_PATH = FILENAME_MINECOLONIES_PATH + "/chunkRegions";
+
     /**
      * The file name of the minecolonies.
      */
     public static final String FILENAME_MINECOLONIES = "colonies.dat";
 
     /**
-     * The file name pattern of the minecolonies backup.
+     * The path of the colony backup store.
      */
-    public static final String FILENAME_MINECOLONIES_BACKUP = "colonies-%s.zip";
+    public static final String BACKUP_PATH = FILENAME_MINECOLONIES_PATH + "/backups";
 
     /**
      * Printed text if world capability couldn't be found.
@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.colony.requestsystem.management.handlers;
 
+import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
@@ -7,6 +8,7 @@ import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.function.Predicate;
 
 public interface IResolverHandler
@@ -84,6 +86,15 @@ public interface IResolverHandler
      */
     Collection<IToken<?>> getRequestsAssignedToResolver(IRequestResolver<?> resolver);
 
+    /**
+     * Method to get the resolvers which can handle a given request type, in the order in which they should be tried.
+     * Sorted by priority first and then by how specific the request type of the resolver is.
+     *
+     * @param requestType The type of the request.
+     * @return An unmodifiable list with the candidate resolvers.
+     */
+    List<IRequestResolver<?>> getResolversForRequestType(TypeToken<?> requestType);
+
     /**
      * Method to get a resolver from a given token.
      * <p>
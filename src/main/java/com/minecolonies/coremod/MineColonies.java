@@ -14,9 +14,11 @@ import com.minecolonies.coremod.commands.CommandEntryPointNew;
 import com.minecolonies.coremod.event.BarbarianSpawnEventHandler;
 import com.minecolonies.coremod.event.EventHandler;
 import com.minecolonies.coremod.event.FMLEventHandler;
+import com.minecolonies.coremod.event.TerrainGenEventHandler;
 import com.minecolonies.coremod.fixers.TileEntityIdFixer;
 import com.minecolonies.coremod.network.messages.*;
 import com.minecolonies.coremod.placementhandlers.MinecoloniesPlacementHandlers;
+import com.minecolonies.coremod.permissions.ColonyPermissionEventDispatcher;
 import com.minecolonies.coremod.proxy.IProxy;
 import com.minecolonies.coremod.util.RecipeHandler;
 import net.minecraft.init.Items;
@@ -76,6 +78,8 @@ public class MineColonies
         MinecraftForge.EVENT_BUS.register(new BarbarianSpawnEventHandler());
         MinecraftForge.EVENT_BUS.register(new EventHandler());
         MinecraftForge.EVENT_BUS.register(new FMLEventHandler());
+        MinecraftForge.EVENT_BUS.register(new ColonyPermissionEventDispatcher());
+        MinecraftForge.TERRAIN_GEN_BUS.register(new TerrainGenEventHandler());
     }
 
     /**
@@ -286,13 +290,15 @@ public class MineColonies
         getNetwork().registerMessage(DirectPlaceMessage.class, DirectPlaceMessage.class, ++id, Side.SERVER);
         getNetwork().registerMessage(EnchanterWorkerSetMessage.class, EnchanterWorkerSetMessage.class, ++id, Side.SERVER);
         getNetwork().registerMessage(EnchanterQtySetMessage.class, EnchanterQtySetMessage.class, ++id, Side.SERVER);
+        getNetwork().registerMessage(RequestSystemResyncMessage.class, RequestSystemResyncMessage.class, ++id, Side.SERVER);
+        getNetwork().registerMessage(ClaimMapResyncMessage.class, ClaimMapResyncMessage.class, ++id, Side.SERVER);
 
         //Client side only
         getNetwork().registerMessage(BlockParticleEffectMessage.class, BlockParticleEffectMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(CompostParticleMessage.class, CompostParticleMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(ItemParticleEffectMessage.class, ItemParticleEffectMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(LocalizedParticleEffectMessage.class, LocalizedParticleEffectMessage.class, ++id, Side.CLIENT);
-        getNetwork().registerMessage(UpdateChunkRangeCapabilityMessage.class, UpdateChunkRangeCapabilityMessage.class, ++id, Side.CLIENT);
+        getNetwork().registerMessage(ClaimMapMessage.class, ClaimMapMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(OpenSuggestionWindowMessage.class, OpenSuggestionWindowMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(StreamParticleEffectMessage.class, StreamParticleEffectMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(CircleParticleEffectMessage.class, CircleParticleEffectMessage.class, ++id, Side.CLIENT);
@@ -319,4 +325,4 @@ public class MineColonies
         event.registerServerCommand(new CommandEntryPoint());
         event.registerServerCommand(new CommandEntryPointNew());
     }
-}
\ No newline at end of file
+}
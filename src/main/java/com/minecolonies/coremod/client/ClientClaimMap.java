@@ -0,0 +1,215 @@
+package com.minecolonies.coremod.client;
+
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.network.messages.ClaimMapResyncMessage;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
+
+/**
+ * Client side map of the claimed chunks in the window around the player.
+ * Updated by the server with the chunks which entered the window only, applied to the chunk capabilities once they are loaded.
+ * The window and claim change messages are numbered, a gap means an update was missed and the full window is requested again.
+ * Only accessed from the client thread.
+ */
+public final class ClientClaimMap
+{
+    /**
+     * The owning colony of each known chunk of the window.
+     */
+    private static final Map<Long, Integer> OWNERS = new HashMap<>();
+
+    /**
+     * The dimension of the map.
+     */
+    private static int dimension = 0;
+
+    /**
+     * The sequence of the last applied update.
+     */
+    private static int sequence = -1;
+
+    /**
+     * If a resync was requested and the full window did not arrive yet.
+     */
+    private static boolean awaitingResync = false;
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private ClientClaimMap()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Start applying an update and drop the chunks which left the window.
+     *
+     * @param newDimension the dimension of the update.
+     * @param newSequence  the sequence of the update.
+     * @param reset        if the previous map has to be dropped.
+     * @param centerX      the center chunk x of the window.
+     * @param centerZ      the center chunk z of the window.
+     * @param range        the range of the window in chunks.
+     * @return false if the update is outdated and has to be ignored.
+     */
+    public static boolean startUpdate(final int newDimension, final int newSequence, final boolean reset, final int centerX, final int centerZ, final int range)
+    {
+        if (reset)
+        {
+            OWNERS.clear();
+            awaitingResync = false;
+        }
+        else if (newDimension != dimension)
+        {
+            requestResync();
+            return false;
+        }
+        else if (newSequence <= sequence)
+        {
+            return false;
+        }
+        else if (newSequence != sequence + 1)
+        {
+            requestResync();
+        }
+
+        dimension = newDimension;
+        sequence = newSequence;
+        OWNERS.keySet().removeIf(key -> Math.abs((int) (long) key - centerX) > range || Math.abs((int) (key >>> Integer.SIZE) - centerZ) > range);
+        return true;
+    }
+
+    /**
+     * Check the sequence of a claim change message and request a resync if an update was missed.
+     *
+     * @param newSequence the sequence of the message, or -1 if it is not part of the window.
+     * @return false if the message is outdated and has to be ignored.
+     */
+    public static boolean acceptClaimChange(final int newSequence)
+    {
+        if (newSequence < 0)
+        {
+            return true;
+        }
+
+        if (newSequence <= sequence)
+        {
+            return false;
+        }
+
+        if (newSequence != sequence + 1)
+        {
+            requestResync();
+        }
+        sequence = newSequence;
+        return true;
+    }
+
+    /**
+     * Set the owner of a chunk and apply it if the chunk is loaded.
+     *
+     * @param world the client world.
+     * @param x     the chunk x.
+     * @param z     the chunk z.
+     * @param owner the owning colony or 0.
+     */
+    public static void setOwner(@NotNull final World world, final int x, final int z, final int owner)
+    {
+        OWNERS.put(ChunkPos.asLong(x, z), owner);
+        final Chunk chunk = getLoadedChunk(world, x, z);
+        final IColonyTagCapability cap = chunk == null ? null : chunk.getCapability(CLOSE_COLONY_CAP, null);
+        if (cap != null)
+        {
+            applyOwner(chunk, cap, owner);
+        }
+    }
+
+    /**
+     * Set the owner and the close colonies of a chunk.
+     *
+     * @param world         the client world.
+     * @param x             the chunk x.
+     * @param z             the chunk z.
+     * @param owner         the owning colony or 0.
+     * @param closeColonies the close colonies.
+     */
+    public static void setChunk(@NotNull final World world, final int x, final int z, final int owner, @NotNull final List<Integer> closeColonies)
+    {
+        if (world.provider.getDimension() == dimension && OWNERS.containsKey(ChunkPos.asLong(x, z)))
+        {
+            OWNERS.put(ChunkPos.asLong(x, z), owner);
+        }
+
+        final Chunk chunk = getLoadedChunk(world, x, z);
+        final IColonyTagCapability cap = chunk == null ? null : chunk.getCapability(CLOSE_COLONY_CAP, null);
+        if (cap != null && cap.getOwningColony() != owner)
+        {
+            cap.reset(chunk);
+            cap.setOwningColony(owner, chunk);
+            for (final int id : closeColonies)
+            {
+                cap.addColony(id, chunk);
+            }
+        }
+    }
+
+    /**
+     * Apply the known owner to a chunk which was loaded on the client.
+     *
+     * @param world the client world.
+     * @param chunk the chunk.
+     */
+    public static void onChunkLoad(@NotNull final World world, @NotNull final Chunk chunk)
+    {
+        if (world.provider.getDimension() != dimension)
+        {
+            return;
+        }
+
+        final Integer owner = OWNERS.get(ChunkPos.asLong(chunk.x, chunk.z));
+        final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
+        if (owner != null && cap != null)
+        {
+            applyOwner(chunk, cap, owner);
+        }
+    }
+
+    /**
+     * Ask the server for the full window, once until it arrived.
+     */
+    private static void requestResync()
+    {
+        if (!awaitingResync)
+        {
+            awaitingResync = true;
+            MineColonies.getNetwork().sendToServer(new ClaimMapResyncMessage());
+        }
+    }
+
+    private static void applyOwner(@NotNull final Chunk chunk, @NotNull final IColonyTagCapability cap, final int owner)
+    {
+        if (cap.getOwningColony() != owner)
+        {
+            cap.setOwningColony(owner, chunk);
+            cap.addColony(owner, chunk);
+        }
+    }
+
+    @Nullable
+    private static Chunk getLoadedChunk(@NotNull final World world, final int x, final int z)
+    {
+        return world.provider.getDimension() == dimension ? world.getChunkProvider().getLoadedChunk(x, z) : null;
+    }
+}
@@ -17,6 +17,8 @@ import com.minecolonies.api.util.LanguageHandler;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.constant.Suppression;
 import com.minecolonies.coremod.entity.ai.basic.AbstractAISkeleton;
+import com.minecolonies.coremod.entity.ai.citizen.deliveryman.DeliveryPlanner;
+import com.minecolonies.coremod.entity.citizen.CitizenEntityIndex;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
 import com.minecolonies.coremod.entity.citizen.citizenhandlers.CitizenHappinessHandler;
 import com.minecolonies.coremod.util.ExperienceUtils;
@@ -671,10 +673,7 @@ public class CitizenData implements ICitizenData
     @Override
     public void updateCitizenEntityIfNecessary()
     {
-        final List<AbstractEntityCitizen> list = colony.getWorld()
-                                                   .getEntities(AbstractEntityCitizen.class,
-                                                     entityCitizen -> entityCitizen.getCitizenColonyHandler().getColonyId() == colony.getID()
-                                                                        && entityCitizen.getCitizenData().getId() == getId());
+        final List<AbstractEntityCitizen> list = CitizenEntityIndex.getCitizens(colony.getWorld(), colony.getID(), getId());
 
         if (!list.isEmpty())
         {
@@ -739,6 +738,7 @@ public class CitizenData implements ICitizenData
         this.job = job;
 
         getCitizenEntity().ifPresent(entityCitizen -> entityCitizen.getCitizenJobHandler().onJobChanged(job));
+        DeliveryPlanner.onJobChanged(this);
 
         markDirty();
     }
@@ -14,6 +14,7 @@ import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.workorders.IWorkManager;
 import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.ITickRateStateMachine;
 import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateStateMachine;
 import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickingTransition;
@@ -43,7 +44,6 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 import org.jetbrains.annotations.NotNull;
@@ -51,7 +51,6 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
-import static com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateConstants.MAX_TICKRATE;
 import static com.minecolonies.api.util.constant.ColonyConstants.*;
 import static com.minecolonies.api.util.constant.Constants.DEFAULT_STYLE;
 import static com.minecolonies.api.util.constant.Constants.STACKSIZE;
@@ -229,6 +228,16 @@ public class Colony implements IColony
      */
     private final ITickRateStateMachine colonyStateMachine;
 
+    /**
+     * Time the phases of the current slow update took so far, in nanoseconds.
+     */
+    private long currentTickCost = 0;
+
+    /**
+     * Time the last slow update took, in nanoseconds.
+     */
+    private long lastTickCost = 0;
+
     /**
      * Mournign parameters.
      */
@@ -326,8 +335,6 @@ public class Colony implements IColony
         colonyStateMachine.addTransition(new TickingTransition(ACTIVE, this::tickRequests, () -> ACTIVE, UPDATE_RS_INTERVAL));
         colonyStateMachine.addTransition(new TickingTransition(ACTIVE, this::checkDayTime, () -> ACTIVE, UPDATE_DAYTIME_INTERVAL));
         colonyStateMachine.addTransition(new TickingTransition(ACTIVE, this::updateWayPoints, () -> ACTIVE, CHECK_WAYPOINT_EVERY));
-        colonyStateMachine.addTransition(new TickingTransition(ACTIVE, this::worldTickSlow , () -> ACTIVE, MAX_TICKRATE));
-        colonyStateMachine.addTransition(new TickingTransition(UNLOADED,this::worldTickUnloaded, () -> UNLOADED, MAX_TICKRATE));
     }
 
 
@@ -379,29 +386,75 @@ public class Colony implements IColony
     }
 
     /**
-     * Called every 500 ticks, for slower updates.
+     * Check if a phase of the slow update should run, depending on the state of the colony.
+     *
+     * @param phase the phase.
+     * @return true if the colony is active, or not loaded and the phase also runs then.
      */
-    private boolean worldTickSlow()
+    public boolean shouldRunTickPhase(@NotNull final ColonyTickPhase phase)
     {
-        buildingManager.cleanUpBuildings(this);
-        MobEventsUtils.tryToRaidColony(this);
-        citizenManager.onColonyTick(this);
-        updateAttackingPlayers();
-        raidManager.onColonyTick(this);
-        buildingManager.onColonyTick(this);
-        workManager.onColonyTick(this);
+        final IAIState state = colonyStateMachine.getState();
+        return state == ACTIVE || (state == UNLOADED && phase.runsUnloaded());
+    }
 
-        updateChildTime();
-        return false;
+    /**
+     * Run a phase of the slow update, called every 500 ticks by the {@link ColonyTickScheduler}.
+     *
+     * @param phase the phase.
+     */
+    public void runTickPhase(@NotNull final ColonyTickPhase phase)
+    {
+        switch (phase)
+        {
+            case BUILDING_CLEANUP:
+                buildingManager.cleanUpBuildings(this);
+                break;
+            case RAIDS:
+                MobEventsUtils.tryToRaidColony(this);
+                updateAttackingPlayers();
+                raidManager.onColonyTick(this);
+                break;
+            case CITIZENS:
+                citizenManager.onColonyTick(this);
+                break;
+            case BUILDINGS:
+                buildingManager.onColonyTick(this);
+                break;
+            case WORK:
+                workManager.onColonyTick(this);
+                break;
+            case CHILD_GROWTH:
+                updateChildTime();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Add the time a phase of the slow update took.
+     *
+     * @param nanos    the time in nanoseconds.
+     * @param lastPhase if it was the last phase of the update.
+     */
+    public void addTickCost(final long nanos, final boolean lastPhase)
+    {
+        currentTickCost += nanos;
+        if (lastPhase)
+        {
+            lastTickCost = currentTickCost;
+            currentTickCost = 0;
+        }
     }
 
     /**
-     * Called every 500 ticks, for slower updates. Only ticked when the colony is not loaded.
+     * Get the time the last slow update took.
+     *
+     * @return the time in milliseconds.
      */
-    private boolean worldTickUnloaded()
+    public double getTickCostMs()
     {
-        updateChildTime();
-        return false;
+        return lastTickCost / 1_000_000D;
     }
 
     /**
@@ -839,9 +892,8 @@ public class Colony implements IColony
     public void onWorldLoad(@NotNull final World w)
     {
         this.world = w;
-        // Register a new event handler
+        // Events are forwarded to the handler by the ColonyPermissionEventDispatcher
         eventHandler = new ColonyPermissionEventHandler(this);
-        MinecraftForge.EVENT_BUS.register(eventHandler);
     }
 
     /**
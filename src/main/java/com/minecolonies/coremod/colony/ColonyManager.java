@@ -15,8 +15,17 @@ import com.minecolonies.api.util.LanguageHandler;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.achievements.ModAchievements;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRecipeManager;
+import com.minecolonies.coremod.entity.ai.citizen.deliveryman.DeliveryPlanner;
+import com.minecolonies.coremod.entity.ai.citizen.farmer.FieldWorkSet;
+import com.minecolonies.coremod.entity.ai.citizen.fisherman.ColonyPondIndex;
+import com.minecolonies.coremod.entity.ai.citizen.guard.ColonyThreatIndex;
+import com.minecolonies.coremod.entity.ai.citizen.lumberjack.ColonyTreeIndex;
+import com.minecolonies.coremod.entity.citizen.CitizenEntityIndex;
+import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
+import com.minecolonies.coremod.util.AsyncSaveWriter;
 import com.minecolonies.coremod.util.BackUpHelper;
 import com.minecolonies.coremod.util.ChunkDataHelper;
+import com.minecolonies.coremod.util.ChunkStorageRegions;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.client.Minecraft;
 import net.minecraft.entity.player.EntityPlayer;
@@ -28,7 +37,6 @@ import net.minecraft.world.World;
 import net.minecraft.world.WorldServerMulti;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.DimensionManager;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
@@ -66,6 +74,11 @@ public final class ColonyManager implements IColonyManager
      */
     private final ICompatibilityManager compatibilityManager = new CompatibilityManager();
 
+    /**
+     * Runs the slow colony updates spread over the ticks.
+     */
+    private final ColonyTickScheduler tickScheduler = new ColonyTickScheduler();
+
     /**
      * Pseudo unique id for the server
      */
@@ -209,15 +222,6 @@ public final class ColonyManager implements IColonyManager
                 }
             }
 
-            try
-            {
-                MinecraftForge.EVENT_BUS.unregister(colony.getEventHandler());
-            }
-            catch (final NullPointerException e)
-            {
-                Log.getLogger().warn("Can't unregister the event handler twice");
-            }
-
             Log.getLogger().info("Deleting colony: " + colony.getID());
 
             final IColonyManagerCapability cap = world.getCapability(COLONY_MANAGER_CAP, null);
@@ -229,6 +233,10 @@ public final class ColonyManager implements IColonyManager
 
             BackUpHelper.markColonyDeleted(colony.getID(),colony.getDimension());
             cap.deleteColony(id);
+            ColonyThreatIndex.onColonyDeleted(world, id);
+            ColonyTreeIndex.onColonyDeleted(world, id);
+            ColonyPondIndex.onColonyDeleted(world, id);
+            DeliveryPlanner.onColonyDeleted(world, id);
             Log.getLogger().info("Done with " + id);
         }
         catch (final RuntimeException e)
@@ -367,7 +375,7 @@ public final class ColonyManager implements IColonyManager
         {
             return true;
         }
-        final ChunkLoadStorage storage = worldCapability.getChunkStorage(centralChunk.x, centralChunk.z);
+        final ChunkLoadStorage storage = ChunkDataHelper.takeChunkStorage(w, worldCapability, centralChunk.x, centralChunk.z);
         if (storage != null)
         {
             storage.applyToCap(colonyCap, centralChunk);
@@ -874,7 +882,9 @@ public final class ColonyManager implements IColonyManager
     {
         if (event.phase == TickEvent.Phase.END)
         {
-            getColonies(event.world).forEach(c -> c.onWorldTick(event));
+            final List<IColony> colonies = getColonies(event.world);
+            colonies.forEach(c -> c.onWorldTick(event));
+            tickScheduler.tick(event.world, colonies);
         }
 
         if (!compatibilityManager.isDiscoveredAlready())
@@ -956,6 +966,19 @@ public final class ColonyManager implements IColonyManager
     @Override
     public void onWorldUnload(@NotNull final World world)
     {
+        if (!world.isRemote)
+        {
+            Pathfinding.onWorldUnload(world);
+            CitizenEntityIndex.onWorldUnload(world);
+            ColonyThreatIndex.onWorldUnload(world);
+            ColonyTreeIndex.onWorldUnload(world);
+            FieldWorkSet.onWorldUnload(world);
+            ColonyPondIndex.onWorldUnload(world);
+            DeliveryPlanner.onWorldUnload(world);
+            ChunkStorageRegions.onWorldUnload(world);
+            tickScheduler.onWorldUnload(world);
+        }
+
         if (!world.isRemote && !(world instanceof WorldServerMulti))
         {
             for (@NotNull final IColony c : getColonies(world))
@@ -965,6 +988,7 @@ public final class ColonyManager implements IColonyManager
             if (loaded)
             {
                 BackUpHelper.backupColonyData();
+                AsyncSaveWriter.flush();
                 loaded = false;
             }
         }
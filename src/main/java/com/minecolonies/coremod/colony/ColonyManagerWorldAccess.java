@@ -2,9 +2,14 @@ package com.minecolonies.coremod.colony;
 
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.coremod.entity.ai.citizen.farmer.FieldWorkSet;
+import com.minecolonies.coremod.entity.ai.citizen.guard.ColonyThreatIndex;
+import com.minecolonies.coremod.entity.citizen.CitizenEntityIndex;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
+import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.SoundEvent;
@@ -22,8 +27,11 @@ public class ColonyManagerWorldAccess implements IWorldEventListener
     @Override
     public void notifyBlockUpdate(@NotNull final World worldIn, @NotNull final BlockPos pos, @NotNull final IBlockState oldState, @NotNull final IBlockState newState, final int flags)
     {
-        //Not needed
-
+        if (oldState != newState)
+        {
+            Pathfinding.onBlockChanged(worldIn, pos, oldState, newState);
+            FieldWorkSet.onBlockChanged(worldIn, pos);
+        }
     }
 
     @Override
@@ -86,6 +94,11 @@ public class ColonyManagerWorldAccess implements IWorldEventListener
         if (entity instanceof EntityCitizen)
         {
             ((AbstractEntityCitizen) entity).getCitizenColonyHandler().updateColonyServer();
+            CitizenEntityIndex.onEntityAdded((AbstractEntityCitizen) entity);
+        }
+        if (entity instanceof EntityLivingBase && !entity.world.isRemote)
+        {
+            ColonyThreatIndex.onEntityAdded((EntityLivingBase) entity);
         }
     }
 
@@ -94,6 +107,7 @@ public class ColonyManagerWorldAccess implements IWorldEventListener
     {
         if (entity instanceof EntityCitizen)
         {
+            CitizenEntityIndex.onEntityRemoved((AbstractEntityCitizen) entity);
             final ICitizenData citizen = ((AbstractEntityCitizen) entity).getCitizenData();
             if (citizen != null)
             {
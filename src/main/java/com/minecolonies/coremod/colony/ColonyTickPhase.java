@@ -0,0 +1,57 @@
+package com.minecolonies.coremod.colony;
+
+/**
+ * The parts of the slow colony update, scheduled on their own ticks by the {@link ColonyTickScheduler}.
+ */
+public enum ColonyTickPhase
+{
+    /**
+     * Removes the buildings whose blocks are gone.
+     */
+    BUILDING_CLEANUP(false),
+
+    /**
+     * Raid checks, attacking players and the raid manager.
+     */
+    RAIDS(false),
+
+    /**
+     * The citizen manager.
+     */
+    CITIZENS(false),
+
+    /**
+     * The building manager.
+     */
+    BUILDINGS(false),
+
+    /**
+     * The work manager.
+     */
+    WORK(false),
+
+    /**
+     * Growth of the children, also runs while the colony is not loaded.
+     */
+    CHILD_GROWTH(true);
+
+    /**
+     * If the phase also runs while the colony is not loaded.
+     */
+    private final boolean runsUnloaded;
+
+    ColonyTickPhase(final boolean runsUnloaded)
+    {
+        this.runsUnloaded = runsUnloaded;
+    }
+
+    /**
+     * Check if the phase also runs while the colony is not loaded.
+     *
+     * @return true if so.
+     */
+    public boolean runsUnloaded()
+    {
+        return runsUnloaded;
+    }
+}
@@ -0,0 +1,154 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.configuration.Configurations;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+import static com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateConstants.MAX_TICKRATE;
+
+/**
+ * Runs the slow updates of the colonies, once every {@link com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateConstants#MAX_TICKRATE} ticks for each colony.
+ * Every colony gets a hashed offset and every phase its own tick after it, so that the colonies don't all update in the same tick.
+ * The phases due in a tick run until the tick budget is used up, the rest is carried over to the next ticks.
+ * Only accessed from the server thread.
+ */
+public class ColonyTickScheduler
+{
+    /**
+     * The phases, in the order they run.
+     */
+    private static final ColonyTickPhase[] PHASES = ColonyTickPhase.values();
+
+    /**
+     * Ticks between the phases of a colony.
+     */
+    private static final int PHASE_SPACING = MAX_TICKRATE / PHASES.length;
+
+    /**
+     * Nanoseconds per millisecond.
+     */
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    /**
+     * The tick counter of each dimension.
+     */
+    private final Map<Integer, Integer> ticks = new HashMap<>();
+
+    /**
+     * The phases which are due but didn't run yet, by dimension, oldest first.
+     */
+    private final Map<Integer, LinkedHashSet<ScheduledPhase>> pending = new HashMap<>();
+
+    /**
+     * Queue the phases of the colonies of a world which are due in this tick and run the pending phases within the budget.
+     * At least one phase runs in each tick, so that the updates can't starve.
+     *
+     * @param world    the ticked world.
+     * @param colonies the colonies of the world.
+     */
+    public void tick(@NotNull final World world, @NotNull final List<IColony> colonies)
+    {
+        final int dimension = world.provider.getDimension();
+        final int tick = ticks.merge(dimension, 1, (old, one) -> (old + one) % MAX_TICKRATE);
+        final LinkedHashSet<ScheduledPhase> queue = pending.computeIfAbsent(dimension, dim -> new LinkedHashSet<>());
+
+        for (final IColony colony : colonies)
+        {
+            if (colony instanceof Colony)
+            {
+                final int slot = Math.floorMod(tick - getOffset(colony), MAX_TICKRATE);
+                final int phase = slot / PHASE_SPACING;
+                if (slot % PHASE_SPACING == 0 && phase < PHASES.length && ((Colony) colony).shouldRunTickPhase(PHASES[phase]))
+                {
+                    queue.add(new ScheduledPhase((Colony) colony, PHASES[phase]));
+                }
+            }
+        }
+
+        if (queue.isEmpty())
+        {
+            return;
+        }
+
+        final long deadline = System.nanoTime() + Configurations.gameplay.colonyTickBudgetMs * NANOS_PER_MILLI;
+        final Iterator<ScheduledPhase> iterator = queue.iterator();
+        do
+        {
+            final ScheduledPhase next = iterator.next();
+            iterator.remove();
+            if (colonies.contains(next.colony))
+            {
+                final long start = System.nanoTime();
+                next.colony.runTickPhase(next.phase);
+                next.colony.addTickCost(System.nanoTime() - start, next.phase == PHASES[PHASES.length - 1]);
+            }
+        }
+        while (iterator.hasNext() && System.nanoTime() < deadline);
+    }
+
+    /**
+     * Forget the pending phases of an unloaded world.
+     *
+     * @param world the world.
+     */
+    public void onWorldUnload(@NotNull final World world)
+    {
+        pending.remove(world.provider.getDimension());
+    }
+
+    /**
+     * Get the tick offset of a colony, hashed from its id and dimension.
+     *
+     * @param colony the colony.
+     * @return the offset in [0, MAX_TICKRATE).
+     */
+    private static int getOffset(@NotNull final IColony colony)
+    {
+        int hash = colony.getID() * 31 + colony.getDimension();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return Math.floorMod(hash, MAX_TICKRATE);
+    }
+
+    /**
+     * A phase of a colony which is due.
+     */
+    private static final class ScheduledPhase
+    {
+        private final Colony          colony;
+        private final ColonyTickPhase phase;
+
+        private ScheduledPhase(@NotNull final Colony colony, @NotNull final ColonyTickPhase phase)
+        {
+            this.colony = colony;
+            this.phase = phase;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof ScheduledPhase))
+            {
+                return false;
+            }
+            final ScheduledPhase other = (ScheduledPhase) o;
+            return colony == other.colony && phase == other.phase;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return System.identityHashCode(colony) * 31 + phase.hashCode();
+        }
+    }
+}
@@ -16,13 +16,17 @@ import com.minecolonies.api.colony.workorders.IWorkManager;
 import com.minecolonies.api.colony.workorders.WorkOrderView;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingTownHall;
 import com.minecolonies.coremod.colony.permissions.PermissionsView;
+import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
+import com.minecolonies.coremod.colony.requestsystem.management.manager.RequestSyncJournal;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
 import com.minecolonies.coremod.colony.workorders.AbstractWorkOrder;
 import com.minecolonies.coremod.network.messages.PermissionsMessage;
+import com.minecolonies.coremod.network.messages.RequestSystemResyncMessage;
 import com.minecolonies.coremod.network.messages.TownHallRenameMessage;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.block.Block;
@@ -146,7 +150,12 @@ public final class ColonyView implements IColonyView
     /**
      * The request manager on the colony view side.
      */
-    private IRequestManager requestManager;
+    private IStandardRequestManager requestManager;
+
+    /**
+     * If a full request system snapshot was requested after a missed delta.
+     */
+    private boolean awaitingRequestSnapshot = false;
 
     /**
      * The number of raiders in the horde.
@@ -203,11 +212,12 @@ public final class ColonyView implements IColonyView
     /**
      * Populate an NBT compound for a network packet representing a ColonyView.
      *
-     * @param colony            Colony to write data about.
-     * @param buf               {@link ByteBuf} to write data in.
-     * @param hasNewSubscribers true if there is a new subscription.
+     * @param colony          Colony to write data about.
+     * @param buf             {@link ByteBuf} to write data in.
+     * @param requestSnapshot true if the request system has to be sent as full snapshot instead of a delta.
+     * @param rebase          true if all subscribers receive the snapshot and the next delta can be based on it.
      */
-    public static void serializeNetworkData(@NotNull Colony colony, @NotNull ByteBuf buf, boolean hasNewSubscribers)
+    public static void serializeNetworkData(@NotNull Colony colony, @NotNull ByteBuf buf, final boolean requestSnapshot, final boolean rebase)
     {
         //  General Attributes
         ByteBufUtils.writeUTF8String(buf, colony.getName());
@@ -248,19 +258,18 @@ public final class ColonyView implements IColonyView
         buf.writeBoolean(colony.canMoveIn());
         //  Citizens are sent as a separate packet
 
-        if (colony.getRequestManager() != null && (colony.getRequestManager().isDirty() || hasNewSubscribers))
+        final IRequestManager manager = colony.getRequestManager();
+        if (manager instanceof IStandardRequestManager && (manager.isDirty() || requestSnapshot))
         {
+            final RequestSyncJournal journal = ((IStandardRequestManager) manager).getSyncJournal();
             final int preSize = buf.writerIndex();
-            final int preState = buf.readerIndex();
             buf.writeBoolean(true);
-            ByteBufUtils.writeTag(buf, colony.getRequestManager().serializeNBT());
-            final int postSize = buf.writerIndex();
-            if ((postSize - preSize) >= ColonyView.MAX_BYTES_NBTCOMPOUND)
+            ByteBufUtils.writeTag(buf, requestSnapshot
+                                         ? journal.createSnapshot((IStandardRequestManager) manager, rebase)
+                                         : journal.createDelta((IStandardRequestManager) manager));
+            if (requestSnapshot && (buf.writerIndex() - preSize) >= ColonyView.MAX_BYTES_NBTCOMPOUND)
             {
-                colony.getRequestManager().reset();
-                buf.setIndex(preState, preSize);
-                buf.writeBoolean(true);
-                ByteBufUtils.writeTag(buf, colony.getRequestManager().serializeNBT());
+                Log.getLogger().warn("Request system snapshot of colony " + colony.getID() + " is " + (buf.writerIndex() - preSize) + " bytes large");
             }
         }
         else
@@ -699,9 +708,7 @@ public final class ColonyView implements IColonyView
 
         if (buf.readBoolean())
         {
-            final NBTTagCompound compound = ByteBufUtils.readTag(buf);
-            this.requestManager = new StandardRequestManager(this);
-            this.requestManager.deserializeNBT(compound);
+            handleRequestSystemSync(ByteBufUtils.readTag(buf));
         }
 
         final int barbSpawnListSize = buf.readInt();
@@ -724,6 +731,27 @@ public final class ColonyView implements IColonyView
         return null;
     }
 
+    /**
+     * Apply a request system snapshot or delta.
+     * If a delta was missed a new snapshot is requested from the server once.
+     *
+     * @param compound the sync compound.
+     */
+    private void handleRequestSystemSync(@NotNull final NBTTagCompound compound)
+    {
+        if (RequestSyncJournal.isSnapshot(compound))
+        {
+            this.requestManager = new StandardRequestManager(this);
+            this.awaitingRequestSnapshot = false;
+        }
+
+        if ((requestManager == null || !requestManager.getSyncJournal().apply(requestManager, compound)) && !awaitingRequestSnapshot)
+        {
+            awaitingRequestSnapshot = true;
+            MineColonies.getNetwork().sendToServer(new RequestSystemResyncMessage(this));
+        }
+    }
+
     /**
      * Update permissions.
      *
@@ -23,6 +23,7 @@ import com.minecolonies.coremod.achievements.ModAchievements;
 import com.minecolonies.coremod.client.gui.WindowHutGuardTower;
 import com.minecolonies.coremod.network.messages.GuardMobAttackListMessage;
 import io.netty.buffer.ByteBuf;
+import net.minecraft.entity.Entity;
 import net.minecraft.entity.SharedMonsterAttributes;
 import net.minecraft.entity.ai.attributes.AttributeModifier;
 import net.minecraft.entity.monster.EntityMob;
@@ -134,6 +135,17 @@ public abstract class AbstractBuildingGuards extends AbstractBuildingWorker impl
      */
     private List<MobEntryView> mobsToAttack = new ArrayList<>();
 
+    /**
+     * The entity classes to attack, null once the mobs to attack changed.
+     */
+    @Nullable
+    private Set<Class<? extends Entity>> attackClasses;
+
+    /**
+     * If entities of a class are attacked, by the class of the entities.
+     */
+    private final Map<Class<?>, Boolean> attackedClassCache = new HashMap<>();
+
     /**
      * The player the guard has been set to follow.
      */
@@ -291,6 +303,7 @@ public abstract class AbstractBuildingGuards extends AbstractBuildingWorker impl
                 mobsToAttack.add(mobEntry);
             }
         }
+        invalidateAttackClasses();
 
         guardPos = NBTUtil.getPosFromTag(compound.getCompoundTag(NBT_GUARD));
     }
@@ -372,6 +385,7 @@ public abstract class AbstractBuildingGuards extends AbstractBuildingWorker impl
         if (mobsToAttack.isEmpty())
         {
             mobsToAttack.addAll(calculateMobs());
+            invalidateAttackClasses();
         }
 
         buf.writeInt(mobsToAttack.size());
@@ -908,6 +922,44 @@ public abstract class AbstractBuildingGuards extends AbstractBuildingWorker impl
     {
         this.mobsToAttack.clear();
         this.mobsToAttack = new ArrayList<>(list);
+        invalidateAttackClasses();
+    }
+
+    @Override
+    public boolean isMobToAttack(@NotNull final Entity entity)
+    {
+        if (attackClasses == null)
+        {
+            attackClasses = new HashSet<>();
+            for (final MobEntryView entry : mobsToAttack)
+            {
+                if (entry.hasAttack() && entry.getEntityEntry() != null)
+                {
+                    attackClasses.add(entry.getEntityEntry().getEntityClass());
+                }
+            }
+        }
+
+        return attackedClassCache.computeIfAbsent(entity.getClass(), entityClass ->
+        {
+            for (final Class<? extends Entity> attackClass : attackClasses)
+            {
+                if (attackClass.isAssignableFrom(entityClass))
+                {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Rebuild the entity classes to attack on their next use.
+     */
+    private void invalidateAttackClasses()
+    {
+        attackClasses = null;
+        attackedClassCache.clear();
     }
 
     /**
@@ -211,6 +211,26 @@ public class JobDeliveryman extends AbstractJob
         getTaskQueueFromDataStore().add(token);
     }
 
+    /**
+     * Method used to add a request to the queue right behind another one, to deliver them in one trip.
+     *
+     * @param token    The token of the request to add.
+     * @param previous The token of the request to add it behind, it is added at the end if not queued.
+     */
+    public void addRequest(@NotNull final IToken<?> token, @NotNull final IToken<?> previous)
+    {
+        final LinkedList<IToken<?>> queue = getTaskQueueFromDataStore();
+        final int index = queue.indexOf(previous);
+        if (index < 0)
+        {
+            queue.add(token);
+        }
+        else
+        {
+            queue.add(index + 1, token);
+        }
+    }
+
     /**
      * Method called to mark the current request as finished.
      *
@@ -45,6 +45,11 @@ public class ColonyPackageManager implements IColonyPackageManager
      */
     private Set<EntityPlayerMP> newSubscribers = new HashSet<>();
 
+    /**
+     * Subscribers which missed a request system delta and need a full snapshot.
+     */
+    private final Set<EntityPlayerMP> requestSystemResyncs = new HashSet<>();
+
     /**
      * Variables taking care of updating the views.
      */
@@ -166,12 +171,36 @@ public class ColonyPackageManager implements IColonyPackageManager
     @Override
     public void sendColonyViewPackets()
     {
-        if (isDirty || !newSubscribers.isEmpty())
+        requestSystemResyncs.retainAll(closeSubscribers);
+        final Set<EntityPlayerMP> snapshotPlayers = new HashSet<>(newSubscribers);
+        snapshotPlayers.addAll(requestSystemResyncs);
+        requestSystemResyncs.clear();
+
+        if (isDirty || !snapshotPlayers.isEmpty())
         {
-            final ByteBuf colonyByteBuf = Unpooled.buffer();
-            ColonyView.serializeNetworkData(colony, colonyByteBuf, !newSubscribers.isEmpty());
-            final Set<EntityPlayerMP> players = isDirty ? closeSubscribers : newSubscribers;
-            players.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewMessage(colony, colonyByteBuf, newSubscribers.contains(player)), player));
+            //  The snapshot only becomes the base of the next delta if every close subscriber receives it,
+            //  else the others get the pending request changes as a delta so that the journal stays in step with them
+            final boolean rebase = snapshotPlayers.containsAll(closeSubscribers);
+            final boolean sendDelta = isDirty || (!rebase && colony.getRequestManager().isDirty());
+            final Set<EntityPlayerMP> players = sendDelta ? closeSubscribers : snapshotPlayers;
+            final boolean needsDelta = !snapshotPlayers.containsAll(players);
+
+            final ByteBuf deltaByteBuf = Unpooled.buffer();
+            if (needsDelta)
+            {
+                ColonyView.serializeNetworkData(colony, deltaByteBuf, false, false);
+            }
+
+            final ByteBuf snapshotByteBuf = Unpooled.buffer();
+            if (!snapshotPlayers.isEmpty())
+            {
+                ColonyView.serializeNetworkData(colony, snapshotByteBuf, true, rebase);
+            }
+
+            players.forEach(player -> MineColonies.getNetwork()
+                                        .sendTo(new ColonyViewMessage(colony,
+                                          snapshotPlayers.contains(player) ? snapshotByteBuf : deltaByteBuf,
+                                          newSubscribers.contains(player)), player));
         }
         colony.getRequestManager().setDirty(false);
     }
@@ -239,6 +268,16 @@ public class ColonyPackageManager implements IColonyPackageManager
     {
         newSubscribers.remove(player);
         closeSubscribers.remove(player);
+        requestSystemResyncs.remove(player);
+    }
+
+    @Override
+    public void addRequestSystemResync(@NotNull final EntityPlayerMP subscriber)
+    {
+        if (closeSubscribers.contains(subscriber))
+        {
+            requestSystemResyncs.add(subscriber);
+        }
     }
 
     /**
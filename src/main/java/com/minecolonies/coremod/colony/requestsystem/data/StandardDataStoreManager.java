@@ -16,6 +16,7 @@ import net.minecraft.util.Tuple;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -53,6 +54,19 @@ public class StandardDataStoreManager implements IDataStoreManager
         return (T) storeMap.get(id);
     }
 
+    @Override
+    public void put(final IToken<?> id, final IDataStore store)
+    {
+        store.setId(id);
+        storeMap.put(id, store);
+    }
+
+    @Override
+    public Map<IToken<?>, IDataStore> getAll()
+    {
+        return Collections.unmodifiableMap(storeMap);
+    }
+
     @Override
     public void remove(final IToken<?> id)
     {
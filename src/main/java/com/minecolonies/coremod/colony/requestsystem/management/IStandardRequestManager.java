@@ -3,6 +3,7 @@ package com.minecolonies.coremod.colony.requestsystem.management;
 import com.minecolonies.api.colony.requestsystem.data.*;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.coremod.colony.requestsystem.management.handlers.*;
+import com.minecolonies.coremod.colony.requestsystem.management.manager.RequestSyncJournal;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
 import org.jetbrains.annotations.NotNull;
 
@@ -37,6 +38,14 @@ public interface IStandardRequestManager extends IRequestManager
 
     IUpdateHandler getUpdateHandler();
 
+    /**
+     * Get the journal used to sync the client side views of this manager.
+     *
+     * @return the journal.
+     */
+    @NotNull
+    RequestSyncJournal getSyncJournal();
+
     int getCurrentVersion();
 
     void setCurrentVersion(int currentVersion);
@@ -2,11 +2,13 @@ package com.minecolonies.coremod.colony.requestsystem.management.handlers;
 
 import com.google.common.collect.Lists;
 import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.data.IRequestableTypeRequestResolverAssignmentDataStore;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.request.RequestState;
 import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
+import com.minecolonies.api.colony.requestsystem.resolver.retrying.IRetryingRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.ReflectionUtils;
 import com.minecolonies.api.util.constant.TypeConstants;
@@ -28,6 +30,19 @@ public class ResolverHandler implements IResolverHandler
 
     private final IStandardRequestManager manager;
 
+    /**
+     * The candidate resolvers of each request type, sorted by priority and then by how specific their request type is.
+     * Dropped when a resolver is registered or removed, or the assignment data store is replaced.
+     */
+    @SuppressWarnings(RAWTYPES)
+    private final Map<TypeToken, List<IRequestResolver<?>>> resolversByRequestType = new HashMap<>();
+
+    /**
+     * The assignment data store the cached resolver lists were built from.
+     */
+    @Nullable
+    private IRequestableTypeRequestResolverAssignmentDataStore cachedAssignmentDataStore = null;
+
     public ResolverHandler(final IStandardRequestManager manager)
     {
         this.manager = manager;
@@ -87,9 +102,10 @@ public class ResolverHandler implements IResolverHandler
 
         manager.getRequestResolverIdentitiesDataStore().getIdentities().put(resolver.getId(), resolver);
 
+        resolversByRequestType.clear();
+
         @SuppressWarnings(RAWTYPES) final Set<TypeToken> resolverTypes = ReflectionUtils.getSuperClasses(resolver.getRequestType());
-        resolverTypes.remove(TypeConstants.OBJECT);
-        resolverTypes.forEach(c -> {
+        resolverTypes.stream().filter(c -> !c.equals(TypeConstants.OBJECT)).forEach(c -> {
             if (!manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().containsKey(c))
             {
                 manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().put(c, new ArrayList<>());
@@ -99,6 +115,12 @@ public class ResolverHandler implements IResolverHandler
             manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().get(c).add(resolver.getId());
         });
 
+        // The new resolver might take the requests which are waiting for a retry.
+        if (!(resolver instanceof IRetryingRequestResolver))
+        {
+            manager.getRetryingRequestResolver().retryAllEarly();
+        }
+
         return resolver.getId();
     }
 
@@ -194,6 +216,58 @@ public class ResolverHandler implements IResolverHandler
         return Lists.newArrayList();
     }
 
+    @Override
+    @SuppressWarnings(RAWTYPES)
+    public List<IRequestResolver<?>> getResolversForRequestType(final TypeToken<?> requestType)
+    {
+        final IRequestableTypeRequestResolverAssignmentDataStore assignmentDataStore = manager.getRequestableTypeRequestResolverAssignmentDataStore();
+        if (assignmentDataStore != cachedAssignmentDataStore)
+        {
+            resolversByRequestType.clear();
+            cachedAssignmentDataStore = assignmentDataStore;
+        }
+
+        List<IRequestResolver<?>> resolvers = resolversByRequestType.get(requestType);
+        if (resolvers == null)
+        {
+            resolvers = computeResolversForRequestType(requestType, assignmentDataStore);
+            resolversByRequestType.put(requestType, resolvers);
+        }
+        return resolvers;
+    }
+
+    /**
+     * Collect and sort the resolvers registered for the request type or any of its super types.
+     *
+     * @param requestType         The type of the request.
+     * @param assignmentDataStore The data store with the resolvers of each type.
+     * @return An unmodifiable list with the candidate resolvers.
+     */
+    @SuppressWarnings(RAWTYPES)
+    private List<IRequestResolver<?>> computeResolversForRequestType(
+      final TypeToken<?> requestType,
+      final IRequestableTypeRequestResolverAssignmentDataStore assignmentDataStore)
+    {
+        final Map<TypeToken, Integer> typeIndices = new LinkedHashMap<>();
+        for (final TypeToken type : ReflectionUtils.getSuperClasses(requestType))
+        {
+            if (!type.equals(TypeConstants.OBJECT))
+            {
+                typeIndices.putIfAbsent(type, typeIndices.size());
+            }
+        }
+
+        final Map<TypeToken<?>, Collection<IToken<?>>> assignments = assignmentDataStore.getAssignments();
+        return Collections.unmodifiableList(typeIndices.keySet().stream()
+                                              .filter(assignments::containsKey)
+                                              .flatMap(type -> assignments.get(type).stream().map(this::getResolver))
+                                              .filter(resolver -> typeIndices.containsKey(resolver.getRequestType()))
+                                              .distinct()
+                                              .sorted(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
+                                                        .thenComparingInt((IRequestResolver<?> r) -> typeIndices.get(r.getRequestType())))
+                                              .collect(Collectors.toList()));
+    }
+
     /**
      * Method to get a resolver from a given token.
      * <p>
@@ -224,9 +298,10 @@ public class ResolverHandler implements IResolverHandler
     public void removeResolverInternal(final IRequestResolver<?> resolver)
     {
         manager.getRequestResolverIdentitiesDataStore().getIdentities().remove(resolver.getId());
+        resolversByRequestType.clear();
+
         @SuppressWarnings(RAWTYPES) final Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(resolver.getRequestType());
-        requestTypes.remove(TypeConstants.OBJECT);
-        requestTypes.forEach(c -> {
+        requestTypes.stream().filter(c -> !c.equals(TypeConstants.OBJECT)).forEach(c -> {
             manager.getLogger().debug("Removing resolver: " + resolver + " with request type: " + c);
             manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().get(c).remove(resolver.getId());
         });
@@ -0,0 +1,265 @@
+package com.minecolonies.coremod.colony.requestsystem.management.manager;
+
+import com.minecolonies.api.colony.requestsystem.data.IDataStore;
+import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.util.NBTUtils;
+import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraftforge.common.util.Constants;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_TOKEN;
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_VALUE;
+
+/**
+ * Change journal of a request manager, used to keep the client side views in sync with small delta packets.
+ * On the server it records the requests touched since the last delta, on the client it tracks the last applied sequence.
+ * Every delta is based on the sequence of the previous one, a client which misses one needs a new snapshot.
+ */
+public class RequestSyncJournal
+{
+    ////---------------------------NBTTags-------------------------\\\\
+    private static final String TAG_SNAPSHOT       = "Snapshot";
+    private static final String TAG_MANAGER        = "Manager";
+    private static final String TAG_BASE           = "Base";
+    private static final String TAG_SEQUENCE       = "Sequence";
+    private static final String TAG_REQUESTS       = "Requests";
+    private static final String TAG_REMOVED        = "Removed";
+    private static final String TAG_STORES         = "Stores";
+    private static final String TAG_REMOVED_STORES = "RemovedStores";
+    ////---------------------------NBTTags-------------------------\\\\
+
+    /**
+     * The requests touched since the last delta.
+     */
+    private final Set<IToken<?>> changedRequests = new HashSet<>();
+
+    /**
+     * The requests known to the clients after the last delta.
+     */
+    private final Set<IToken<?>> sentRequests = new HashSet<>();
+
+    /**
+     * The data stores as they were sent with the last delta.
+     */
+    private final Map<IToken<?>, NBTTagCompound> sentStores = new HashMap<>();
+
+    /**
+     * The sequence of the last created or applied delta.
+     */
+    private int sequence = 0;
+
+    /**
+     * Record a created, assigned, updated or removed request.
+     * Its parent and children are recorded as well, as their state follows it.
+     *
+     * @param manager the manager.
+     * @param token   the token of the request.
+     */
+    public void record(@NotNull final IStandardRequestManager manager, @NotNull final IToken<?> token)
+    {
+        changedRequests.add(token);
+
+        final IRequest<?> request = manager.getRequestIdentitiesDataStore().getIdentities().get(token);
+        if (request != null)
+        {
+            if (request.hasParent())
+            {
+                changedRequests.add(request.getParent());
+            }
+            for (final IToken<?> child : request.getChildren())
+            {
+                changedRequests.add(child);
+            }
+        }
+    }
+
+    /**
+     * Check if a sync compound contains a full snapshot.
+     *
+     * @param compound the compound.
+     * @return true if so.
+     */
+    public static boolean isSnapshot(@NotNull final NBTTagCompound compound)
+    {
+        return compound.getBoolean(TAG_SNAPSHOT);
+    }
+
+    /**
+     * Create a full snapshot of the manager.
+     * If no client depends on the deltas anymore the snapshot becomes the base of the next delta.
+     *
+     * @param manager the manager.
+     * @param rebase  true if all clients receive this snapshot.
+     * @return the sync compound.
+     */
+    @NotNull
+    public NBTTagCompound createSnapshot(@NotNull final IStandardRequestManager manager, final boolean rebase)
+    {
+        if (rebase)
+        {
+            final IFactoryController controller = manager.getFactoryController();
+            final IToken<?> requestStoreId = manager.getRequestIdentitiesDataStore().getId();
+
+            changedRequests.clear();
+            sentRequests.clear();
+            sentRequests.addAll(manager.getRequestIdentitiesDataStore().getIdentities().keySet());
+            sentStores.clear();
+            for (final Map.Entry<IToken<?>, IDataStore> entry : manager.getDataStoreManager().getAll().entrySet())
+            {
+                if (!entry.getKey().equals(requestStoreId))
+                {
+                    sentStores.put(entry.getKey(), controller.serialize(entry.getValue()));
+                }
+            }
+        }
+
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setBoolean(TAG_SNAPSHOT, true);
+        compound.setInteger(TAG_SEQUENCE, sequence);
+        compound.setTag(TAG_MANAGER, manager.serializeNBT());
+        return compound;
+    }
+
+    /**
+     * Create a delta with all changes since the last delta.
+     * Requests are only sent if they were recorded, created or removed, the other data stores if their content changed.
+     *
+     * @param manager the manager.
+     * @return the sync compound.
+     */
+    @NotNull
+    public NBTTagCompound createDelta(@NotNull final IStandardRequestManager manager)
+    {
+        final IFactoryController controller = manager.getFactoryController();
+        final Map<IToken<?>, IRequest<?>> requests = manager.getRequestIdentitiesDataStore().getIdentities();
+
+        //  Creations and removals which happened without passing the manager, like cascading cancellations
+        for (final IToken<?> token : requests.keySet())
+        {
+            if (!sentRequests.contains(token))
+            {
+                changedRequests.add(token);
+            }
+        }
+        for (final IToken<?> token : sentRequests)
+        {
+            if (!requests.containsKey(token))
+            {
+                changedRequests.add(token);
+            }
+        }
+
+        final NBTTagList updated = new NBTTagList();
+        final NBTTagList removed = new NBTTagList();
+        for (final IToken<?> token : changedRequests)
+        {
+            final IRequest<?> request = requests.get(token);
+            if (request == null)
+            {
+                if (sentRequests.remove(token))
+                {
+                    removed.appendTag(controller.serialize(token));
+                }
+            }
+            else
+            {
+                updated.appendTag(writeEntry(controller, token, controller.serialize(request)));
+                sentRequests.add(token);
+            }
+        }
+        changedRequests.clear();
+
+        final IToken<?> requestStoreId = manager.getRequestIdentitiesDataStore().getId();
+        final NBTTagList stores = new NBTTagList();
+        final Set<IToken<?>> removedStores = new HashSet<>(sentStores.keySet());
+        for (final Map.Entry<IToken<?>, IDataStore> entry : manager.getDataStoreManager().getAll().entrySet())
+        {
+            if (entry.getKey().equals(requestStoreId))
+            {
+                continue;
+            }
+
+            removedStores.remove(entry.getKey());
+            final NBTTagCompound storeCompound = controller.serialize(entry.getValue());
+            if (!storeCompound.equals(sentStores.get(entry.getKey())))
+            {
+                sentStores.put(entry.getKey(), storeCompound);
+                stores.appendTag(writeEntry(controller, entry.getKey(), storeCompound));
+            }
+        }
+
+        final NBTTagList removedStoreList = new NBTTagList();
+        for (final IToken<?> token : removedStores)
+        {
+            sentStores.remove(token);
+            removedStoreList.appendTag(controller.serialize(token));
+        }
+
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setInteger(TAG_BASE, sequence);
+        compound.setInteger(TAG_SEQUENCE, ++sequence);
+        compound.setTag(TAG_REQUESTS, updated);
+        compound.setTag(TAG_REMOVED, removed);
+        compound.setTag(TAG_STORES, stores);
+        compound.setTag(TAG_REMOVED_STORES, removedStoreList);
+        return compound;
+    }
+
+    /**
+     * Apply a snapshot or delta on the client.
+     *
+     * @param manager  the client side manager.
+     * @param compound the sync compound.
+     * @return false if the delta doesn't follow the last applied sequence and a new snapshot is needed.
+     */
+    public boolean apply(@NotNull final IStandardRequestManager manager, @NotNull final NBTTagCompound compound)
+    {
+        if (isSnapshot(compound))
+        {
+            manager.deserializeNBT(compound.getCompoundTag(TAG_MANAGER));
+            sequence = compound.getInteger(TAG_SEQUENCE);
+            return true;
+        }
+
+        if (compound.getInteger(TAG_BASE) != sequence)
+        {
+            return false;
+        }
+
+        final IFactoryController controller = manager.getFactoryController();
+        final Map<IToken<?>, IRequest<?>> requests = manager.getRequestIdentitiesDataStore().getIdentities();
+
+        NBTUtils.streamCompound(compound.getTagList(TAG_REMOVED, Constants.NBT.TAG_COMPOUND))
+          .forEach(tokenCompound -> requests.remove(controller.<IToken<?>>deserialize(tokenCompound)));
+        NBTUtils.streamCompound(compound.getTagList(TAG_REQUESTS, Constants.NBT.TAG_COMPOUND))
+          .forEach(entry -> manager.getRequestIdentitiesDataStore().getIdentities().forcePut(
+            controller.deserialize(entry.getCompoundTag(TAG_TOKEN)),
+            controller.deserialize(entry.getCompoundTag(TAG_VALUE))));
+
+        NBTUtils.streamCompound(compound.getTagList(TAG_REMOVED_STORES, Constants.NBT.TAG_COMPOUND))
+          .forEach(tokenCompound -> manager.getDataStoreManager().remove(controller.deserialize(tokenCompound)));
+        NBTUtils.streamCompound(compound.getTagList(TAG_STORES, Constants.NBT.TAG_COMPOUND))
+          .forEach(entry -> manager.getDataStoreManager().put(
+            controller.deserialize(entry.getCompoundTag(TAG_TOKEN)),
+            controller.deserialize(entry.getCompoundTag(TAG_VALUE))));
+
+        sequence = compound.getInteger(TAG_SEQUENCE);
+        return true;
+    }
+
+    @NotNull
+    private static NBTTagCompound writeEntry(@NotNull final IFactoryController controller, @NotNull final IToken<?> token, @Nullable final NBTTagCompound value)
+    {
+        final NBTTagCompound entry = new NBTTagCompound();
+        entry.setTag(TAG_TOKEN, controller.serialize(token));
+        entry.setTag(TAG_VALUE, value == null ? new NBTTagCompound() : value);
+        return entry;
+    }
+}
@@ -102,6 +102,12 @@ public class StandardRequestManager implements IStandardRequestManager
     @NotNull
     private final IProviderHandler providerHandler = new ProviderHandler(this);
 
+    /**
+     * The journal of the changes to sync to the client side views.
+     */
+    @NotNull
+    private final RequestSyncJournal syncJournal = new RequestSyncJournal();
+
     private int version = -1;
 
     public StandardRequestManager(@NotNull final IColony colony)
@@ -124,11 +130,12 @@ public class StandardRequestManager implements IStandardRequestManager
         final IRequestResolver<?> playerRequestResolver = StandardFactoryController.getInstance().getNewInstance(TypeConstants.PLAYER_REQUEST_RESOLVER, this);
         final IRequestResolver<?> retryingRequestResolver = StandardFactoryController.getInstance().getNewInstance(TypeConstants.RETRYING_REQUEST_RESOLVER, this);
 
-        getResolverHandler().registerResolver(playerRequestResolver);
+        // The retrying resolver goes first, registering any other resolver retries its requests.
         getResolverHandler().registerResolver(retryingRequestResolver);
+        this.retryingRequestResolverId = retryingRequestResolver.getId();
 
+        getResolverHandler().registerResolver(playerRequestResolver);
         this.playerRequestResolverId = playerRequestResolver.getId();
-        this.retryingRequestResolverId = retryingRequestResolver.getId();
     }
 
     private IToken<?> registerDataStore(TypeToken<? extends IDataStore> typeToken)
@@ -175,6 +182,7 @@ public class StandardRequestManager implements IStandardRequestManager
     public <T extends IRequestable> IToken<?> createRequest(@NotNull final IRequester requester, @NotNull final T object)
     {
         final IRequest<T> request = getRequestHandler().createRequest(requester, object);
+        syncJournal.record(this, request.getId());
         markDirty();
         return request.getId();
     }
@@ -219,6 +227,7 @@ public class StandardRequestManager implements IStandardRequestManager
     public void assignRequest(@NotNull final IToken<?> token)
     {
         getRequestHandler().assignRequest(getRequestHandler().getRequest(token));
+        syncJournal.record(this, token);
         markDirty();
     }
 
@@ -246,7 +255,9 @@ public class StandardRequestManager implements IStandardRequestManager
     {
         final IRequest<?> request = getRequestHandler().getRequest(token);
         markDirty();
-        return getRequestHandler().reassignRequest(request, resolverTokenBlackList);
+        final IToken<?> resolverToken = getRequestHandler().reassignRequest(request, resolverTokenBlackList);
+        syncJournal.record(this, token);
+        return resolverToken;
     }
 
     @Nullable
@@ -289,6 +300,7 @@ public class StandardRequestManager implements IStandardRequestManager
         getLogger().debug("Updating request state from:" + token + ". With original state: " + request.getState() + " to : " + state);
 
         request.setState(new WrappedStaticStateRequestManager(this), state);
+        syncJournal.record(this, token);
         markDirty();
 
         switch (request.getState())
@@ -587,6 +599,13 @@ public class StandardRequestManager implements IStandardRequestManager
         }
     }
 
+    @NotNull
+    @Override
+    public RequestSyncJournal getSyncJournal()
+    {
+        return syncJournal;
+    }
+
     @Override
     public int getCurrentVersion()
     {
@@ -8,20 +8,16 @@ import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.requestable.Delivery;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
-import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.constant.TranslationConstants;
 import com.minecolonies.coremod.MineColonies;
-import com.minecolonies.coremod.colony.Colony;
-import com.minecolonies.coremod.colony.ColonyView;
 import com.minecolonies.coremod.colony.jobs.JobDeliveryman;
 import com.minecolonies.coremod.colony.requestsystem.resolvers.core.AbstractRequestResolver;
-import net.minecraft.util.math.BlockPos;
+import com.minecolonies.coremod.entity.ai.citizen.deliveryman.DeliveryPlanner;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.TextComponentTranslation;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Comparator;
 import java.util.List;
 
 public class DeliveryRequestResolver extends AbstractRequestResolver<Delivery>
@@ -47,19 +43,7 @@ public class DeliveryRequestResolver extends AbstractRequestResolver<Delivery>
             return false;
         }
 
-        final Colony colony = (Colony) manager.getColony();
-        final ICitizenData freeDeliveryMan = colony.getCitizenManager().getCitizens()
-                                              .stream()
-                                              .filter(citizenData -> citizenData.getCitizenEntity()
-                                                                       .map(entityCitizen -> requestToCheck.getRequest()
-                                                                                               .getTarget()
-                                                                                               .isReachableFromLocation(entityCitizen.getLocation()))
-                                                                       .orElse(false))
-                                              .filter(c -> c.getJob() instanceof JobDeliveryman)
-                                              .findFirst()
-                                              .orElse(null);
-
-        return freeDeliveryMan != null;
+        return DeliveryPlanner.get(manager.getColony()).canDeliver(requestToCheck.getRequest());
     }
 
     @Nullable
@@ -71,35 +55,11 @@ public class DeliveryRequestResolver extends AbstractRequestResolver<Delivery>
             return null;
         }
 
-        final Colony colony = (Colony) manager.getColony();
-        //We can do an instant get here, since we are already filtering on anything that has no entity.
-        final ICitizenData freeDeliveryMan = colony.getCitizenManager()
-                                              .getCitizens()
-                                              .stream()
-                                              .filter(citizenData -> citizenData.getCitizenEntity()
-                                                                       .map(entityCitizen -> request.getRequest()
-                                                                                               .getTarget()
-                                                                                               .isReachableFromLocation(entityCitizen.getLocation()))
-                                                                       .orElse(false))
-                                              .filter(c -> c.getJob() instanceof JobDeliveryman)
-                                              .min(Comparator.comparing((ICitizenData c) -> ((JobDeliveryman) c.getJob()).getTaskQueue().size())
-                                                     .thenComparing(Comparator.comparing(c -> {
-                                                         BlockPos targetPos = request.getRequest().getTarget().getInDimensionLocation();
-                                                         //We can do an instant get here, since we are already filtering on anything that has no entity.
-                                                         BlockPos entityLocation = c.getCitizenEntity().get().getLocation().getInDimensionLocation();
-
-                                                         return BlockPosUtil.getDistanceSquared(targetPos, entityLocation);
-                                                     })))
-                                              .orElse(null);
-
-        if (freeDeliveryMan == null)
+        if (DeliveryPlanner.get(manager.getColony()).assign(request) == null)
         {
             return null;
         }
 
-        final JobDeliveryman job = (JobDeliveryman) freeDeliveryMan.getJob();
-        job.addRequest(request.getId());
-
         return Lists.newArrayList();
     }
 
@@ -129,8 +89,7 @@ public class DeliveryRequestResolver extends AbstractRequestResolver<Delivery>
     {
         if (!manager.getColony().getWorld().isRemote)
         {
-            final Colony colony = (Colony) manager.getColony();
-            final ICitizenData freeDeliveryMan = colony.getCitizenManager().getCitizens()
+            final ICitizenData freeDeliveryMan = DeliveryPlanner.get(manager.getColony()).getDeliverymen()
                                                    .stream()
                                                    .filter(c -> c.getJob() instanceof JobDeliveryman && ((JobDeliveryman) c.getJob()).getTaskQueue().contains(request.getId()))
                                                    .findFirst()
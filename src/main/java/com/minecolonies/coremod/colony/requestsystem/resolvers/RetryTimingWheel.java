@@ -0,0 +1,199 @@
+package com.minecolonies.coremod.colony.requestsystem.resolvers;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * A hierarchical timing wheel which schedules entries a number of ticks ahead.
+ * Every level has {@link #SLOTS} slots, a slot of a level spans all slots of the level below.
+ * Entries are placed in the lowest level their delay fits in and move down a level once their slot comes up,
+ * so that advancing a tick only touches the entries which are due or move down.
+ *
+ * @param <T> the type of the entries.
+ */
+class RetryTimingWheel<T>
+{
+    /**
+     * Bits of the slot index of a level.
+     */
+    private static final int SLOT_BITS = 6;
+
+    /**
+     * Slots of a level.
+     */
+    private static final int SLOTS = 1 << SLOT_BITS;
+
+    /**
+     * Amount of levels.
+     */
+    private static final int LEVELS = 4;
+
+    /**
+     * The longest delay the wheel can hold, longer delays are shortened to it.
+     */
+    static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    /**
+     * The slots of each level, created when used.
+     */
+    @SuppressWarnings("unchecked")
+    private final Set<T>[][] slots = new Set[LEVELS][SLOTS];
+
+    /**
+     * The due tick of each entry.
+     */
+    private final Map<T, Long> dueTicks = new HashMap<>();
+
+    /**
+     * The slot each entry is in.
+     */
+    private final Map<T, Set<T>> slotOf = new HashMap<>();
+
+    /**
+     * The current tick.
+     */
+    private long now = 0;
+
+    /**
+     * Schedule an entry, replacing its earlier schedule.
+     *
+     * @param entry the entry.
+     * @param delay the ticks until it is due, at least one.
+     */
+    void schedule(@NotNull final T entry, final long delay)
+    {
+        remove(entry);
+        final long due = now + Math.min(Math.max(delay, 1), MAX_DELAY);
+        dueTicks.put(entry, due);
+        place(entry, due);
+    }
+
+    /**
+     * Remove the schedule of an entry.
+     *
+     * @param entry the entry.
+     * @return true if it was scheduled.
+     */
+    boolean remove(@NotNull final T entry)
+    {
+        if (dueTicks.remove(entry) == null)
+        {
+            return false;
+        }
+        slotOf.remove(entry).remove(entry);
+        return true;
+    }
+
+    /**
+     * Advance the wheel by one tick.
+     *
+     * @return the entries which are due now, in the order they were scheduled.
+     */
+    @NotNull
+    List<T> advance()
+    {
+        now++;
+        for (int level = 1; level < LEVELS && (now & ((1L << (SLOT_BITS * level)) - 1)) == 0; level++)
+        {
+            final Set<T> slot = slots[level][getIndex(now, level)];
+            if (slot != null && !slot.isEmpty())
+            {
+                final List<T> cascading = new ArrayList<>(slot);
+                slot.clear();
+                for (final T entry : cascading)
+                {
+                    place(entry, dueTicks.get(entry));
+                }
+            }
+        }
+
+        final Set<T> slot = slots[0][getIndex(now, 0)];
+        if (slot == null || slot.isEmpty())
+        {
+            return Collections.emptyList();
+        }
+
+        final List<T> due = new ArrayList<>(slot);
+        slot.clear();
+        for (final T entry : due)
+        {
+            dueTicks.remove(entry);
+            slotOf.remove(entry);
+        }
+        return due;
+    }
+
+    /**
+     * Get the ticks until each entry is due.
+     *
+     * @return the remaining ticks by entry.
+     */
+    @NotNull
+    Map<T, Integer> getRemainingTicks()
+    {
+        final Map<T, Integer> remaining = new HashMap<>();
+        dueTicks.forEach((entry, due) -> remaining.put(entry, (int) (due - now)));
+        return remaining;
+    }
+
+    /**
+     * Check if an entry is scheduled.
+     *
+     * @param entry the entry.
+     * @return true if so.
+     */
+    boolean contains(@NotNull final T entry)
+    {
+        return dueTicks.containsKey(entry);
+    }
+
+    /**
+     * Remove all entries.
+     */
+    void clear()
+    {
+        dueTicks.clear();
+        slotOf.clear();
+        for (final Set<T>[] level : slots)
+        {
+            Arrays.fill(level, null);
+        }
+    }
+
+    /**
+     * Put an entry into the slot of the lowest level its remaining delay fits in.
+     *
+     * @param entry the entry.
+     * @param due   the tick it is due at.
+     */
+    private void place(@NotNull final T entry, final long due)
+    {
+        final long delay = due - now;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= (1L << (SLOT_BITS * (level + 1))))
+        {
+            level++;
+        }
+
+        final int index = getIndex(due, level);
+        if (slots[level][index] == null)
+        {
+            slots[level][index] = new LinkedHashSet<>();
+        }
+        slots[level][index].add(entry);
+        slotOf.put(entry, slots[level][index]);
+    }
+
+    /**
+     * Get the slot index of a tick in a level.
+     *
+     * @param tick  the tick.
+     * @param level the level.
+     * @return the index.
+     */
+    private static int getIndex(final long tick, final int level)
+    {
+        return (int) ((tick >> (SLOT_BITS * level)) & (SLOTS - 1));
+    }
+}
@@ -19,7 +19,6 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.RSConstants.CONST_RETRYING_RESOLVER_PRIORITY;
 import static com.minecolonies.api.util.constant.Suppression.RAWTYPES;
@@ -33,9 +32,19 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     private final ILocation       location;
     private final IToken<?>       id;
     private       IToken<?>       current;
-    private final HashMap<IToken<?>, Integer> delays           = new HashMap<>();
+    private final RetryTimingWheel<IToken<?>> delays           = new RetryTimingWheel<>();
     private final HashMap<IToken<?>, Integer> assignedRequests = new HashMap<>();
 
+    /**
+     * Requests a colony update made resolvable by another resolver, handed over with the next update.
+     */
+    private final Set<IToken<?>> colonyUpdateRetries = new LinkedHashSet<>();
+
+    /**
+     * If all requests are retried with the next update, because a new resolver was registered.
+     */
+    private boolean retryAll = false;
+
     public StandardRetryingRequestResolver(final IFactoryController factoryController, final IRequestManager manager)
     {
         this.updateManager(manager);
@@ -104,7 +113,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     @Override
     public void resolveRequest(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends IRetryable> request) throws RuntimeException
     {
-        delays.put(request.getId(), getMaximalDelayBetweenRetriesInTicks());
+        delays.schedule(request.getId(), getMaximalDelayBetweenRetriesInTicks());
         assignedRequests.put(request.getId(), assignedRequests.containsKey(request.getId()) ? assignedRequests.get(request.getId()) + 1 : 1);
     }
 
@@ -125,6 +134,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
         {
             delays.remove(request.getId());
             assignedRequests.remove(request.getId());
+            colonyUpdateRetries.remove(request.getId());
         }
     }
 
@@ -144,53 +154,107 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     @Override
     public void update()
     {
-        manager.getLogger().debug("Starting reassignment.");
-
-        //Lets decrement all delays
-        getAllAssignedRequests().forEach(t -> {
-            Integer current = delays.remove(t);
-            delays.put(t, --current);
-        });
-
-        //Lets get all keys with 0 residual delay:
-        final Set<IToken<?>> retryables = delays.keySet().stream().filter(t -> delays.get(t) == 0).collect(Collectors.toSet());
-        final Set<IToken<?>> successfully = retryables.stream().filter(t -> {
-            final Set<IToken<?>> blackList = assignedRequests.get(t) < getMaximalTries() ? ImmutableSet.of() : ImmutableSet.of(id);
+        final List<IToken<?>> due = delays.advance();
+        if (due.isEmpty() && colonyUpdateRetries.isEmpty() && !retryAll)
+        {
+            return;
+        }
 
-            Integer currentAttempt = assignedRequests.get(t);
+        manager.getLogger().debug("Starting reassignment.");
 
-            this.setCurrent(t);
-            final IToken<?> resultingResolver;
+        for (final IToken<?> token : new ArrayList<>(colonyUpdateRetries))
+        {
+            colonyUpdateRetries.remove(token);
+            final IToken<?> newResolverToken = manager.reassignRequest(token, ImmutableList.of(getId()));
+            if (newResolverToken != getId())
+            {
+                assignedRequests.remove(token);
+                delays.remove(token);
+            }
+        }
 
-            try
+        if (retryAll)
+        {
+            retryAll = false;
+            final Set<IToken<?>> dueTokens = new HashSet<>(due);
+            for (final IToken<?> token : getAllAssignedRequests())
             {
-                resultingResolver = manager.reassignRequest(t, blackList);
+                if (!dueTokens.contains(token))
+                {
+                    retry(token, false);
+                }
             }
-            catch (Exception ex)
+        }
+
+        for (final IToken<?> token : due)
+        {
+            if (assignedRequests.containsKey(token) && !retry(token, true))
             {
-                assignedRequests.remove(t);
-                delays.remove(t);
-                return false;
+                manager.getLogger().debug("Failed to reassign a retryable request: " + token);
             }
+        }
 
-            this.setCurrent(null);
+        manager.getLogger().debug("Finished reassignment.");
+    }
 
-            assignedRequests.put(t, ++currentAttempt);
+    /**
+     * Try to reassign a request to another resolver.
+     *
+     * @param token        the token of the request.
+     * @param countAttempt if the retry counts as an attempt, early retries don't.
+     * @return true if a resolver took the request.
+     */
+    private boolean retry(@NotNull final IToken<?> token, final boolean countAttempt)
+    {
+        final Integer currentAttempt = assignedRequests.get(token);
+        if (currentAttempt == null)
+        {
+            return false;
+        }
+        if (!countAttempt && currentAttempt >= getMaximalTries())
+        {
+            // An early retry would blacklist this resolver and hand the request to the player before its last delay passed.
+            return false;
+        }
+        final Set<IToken<?>> blackList = currentAttempt < getMaximalTries() ? ImmutableSet.of() : ImmutableSet.of(id);
 
-            if (resultingResolver != null && !resultingResolver.equals(getId()))
+        this.setCurrent(token);
+        final IToken<?> resultingResolver;
+
+        try
+        {
+            resultingResolver = manager.reassignRequest(token, blackList);
+        }
+        catch (Exception ex)
+        {
+            assignedRequests.remove(token);
+            delays.remove(token);
+            return false;
+        }
+
+        this.setCurrent(null);
+
+        if (resultingResolver != null && !resultingResolver.equals(getId()))
+        {
+            assignedRequests.remove(token);
+            delays.remove(token);
+        }
+        else if (assignedRequests.containsKey(token))
+        {
+            assignedRequests.put(token, countAttempt ? currentAttempt + 1 : currentAttempt);
+            if (!delays.contains(token))
             {
-                assignedRequests.remove(t);
-                delays.remove(t);
+                delays.schedule(token, getMaximalDelayBetweenRetriesInTicks());
             }
+        }
 
-            return resultingResolver != null;
-        }).collect(Collectors.toSet());
-
-        successfully.forEach(t -> {
-            manager.getLogger().debug("Failed to reassign a retryable request: " + id);
-        });
+        return resultingResolver != null;
+    }
 
-        manager.getLogger().debug("Finished reassignment.");
+    @Override
+    public void retryAllEarly()
+    {
+        retryAll = true;
     }
 
     @Override
@@ -204,6 +268,8 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     {
         assignedRequests.clear();
         delays.clear();
+        colonyUpdateRetries.clear();
+        retryAll = false;
     }
 
     public void setCurrent(@Nullable final IToken<?> token)
@@ -249,12 +315,17 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
         this.assignedRequests.putAll(newAssignedRequests);
 
         this.delays.clear();
-        this.delays.putAll(newDelays);
+        newDelays.forEach(this.delays::schedule);
     }
 
+    /**
+     * Get the ticks until the next retry of each request.
+     *
+     * @return the remaining ticks by request token.
+     */
     public Map<IToken<?>, Integer> getDelays()
     {
-        return delays;
+        return delays.getRemainingTicks();
     }
 
     public Map<IToken<?>, Integer> getAssignedRequests()
@@ -269,14 +340,6 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
                 .map(manager::getRequestForToken)
                 .filter(shouldTriggerReassign)
                 .filter(Objects::nonNull)
-                .forEach(request ->
-                {
-                    final IToken newResolverToken = manager.reassignRequest(request.getId(), ImmutableList.of(getId()));
-
-                    if (newResolverToken != getId())
-                    {
-                        assignedRequests.remove(request.getId());
-                    }
-                });
+                .forEach(request -> colonyUpdateRetries.add(request.getId()));
     }
 }
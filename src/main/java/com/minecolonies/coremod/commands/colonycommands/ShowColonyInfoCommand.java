@@ -2,9 +2,13 @@ package com.minecolonies.coremod.commands.colonycommands;
 
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.commands.AbstractSingleCommand;
 import com.minecolonies.coremod.commands.ActionMenuState;
 import com.minecolonies.coremod.commands.IActionCommand;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
+import com.minecolonies.coremod.entity.pathfinding.PathJobScheduler;
+import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
 import com.mojang.authlib.GameProfile;
 import net.minecraft.command.CommandException;
 import net.minecraft.command.ICommandSender;
@@ -40,6 +44,10 @@ public class ShowColonyInfoCommand extends AbstractSingleCommand implements IAct
     private static final String LAST_CONTACT_TEXT          = "Last contact with Owner or Officer: %d hours ago!";
     private static final String IS_DELETABLE               = "If true this colony cannot be deleted: ";
     private static final String CANNOT_BE_RAIDED           = "This colony is unable to be raided";
+    private static final String TICK_COST_TEXT             = "§2Last slow update: §f%.2f ms";
+    private static final String PATH_CACHE_TEXT            = "§2Path cache: §f%d paths, %d hits, %d misses, %d merged";
+    private static final String PATH_JOBS_TEXT             = "§2Path jobs: §f%d queued, %d running, %d done, %d rejected, %d superseded";
+    private static final String PATH_TIMES_TEXT            = "§2Path job times: §fwait %.2f/%.2f ms, compute %.2f/%.2f ms (avg/max)";
 
     /**
      * no-args constructor called by new CommandEntryPoint executer.
@@ -204,6 +212,24 @@ public class ShowColonyInfoCommand extends AbstractSingleCommand implements IAct
         sender.sendMessage(new TextComponentString(COORDINATES_TEXT + String.format(COORDINATES_XYZ, position.getX(), position.getY(), position.getZ())));
         sender.sendMessage(new TextComponentString(String.format(LAST_CONTACT_TEXT, colony.getLastContactInHours())));
         sender.sendMessage(new TextComponentString(IS_DELETABLE + !colony.canBeAutoDeleted()));
+        if (colony instanceof Colony)
+        {
+            sender.sendMessage(new TextComponentString(String.format(TICK_COST_TEXT, ((Colony) colony).getTickCostMs())));
+        }
+        final PathCache pathCache = Pathfinding.getPathCache();
+        sender.sendMessage(new TextComponentString(String.format(PATH_CACHE_TEXT, pathCache.size(), pathCache.getHits(), pathCache.getMisses(), pathCache.getCoalesced())));
+        final PathJobScheduler scheduler = Pathfinding.getScheduler();
+        sender.sendMessage(new TextComponentString(String.format(PATH_JOBS_TEXT,
+          scheduler.getQueueSize(),
+          scheduler.getActiveThreads(),
+          scheduler.getCompleted(),
+          scheduler.getRejected(),
+          Pathfinding.getSuperseded())));
+        sender.sendMessage(new TextComponentString(String.format(PATH_TIMES_TEXT,
+          scheduler.getAverageWaitTime(),
+          scheduler.getMaxWaitTime(),
+          scheduler.getAverageComputeTime(),
+          scheduler.getMaxComputeTime())));
 
         if (!colony.isCanHaveBarbEvents())
         {
@@ -0,0 +1,363 @@
+package com.minecolonies.coremod.entity.ai.citizen.deliveryman;
+
+import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.IBuildingWorker;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.requestable.Delivery;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.coremod.colony.jobs.JobDeliveryman;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+import static com.minecolonies.api.util.constant.Suppression.UNCHECKED;
+
+/**
+ * Plans the deliveries of a colony: keeps the deliverymen of the colony and batches the deliveries they get.
+ * Deliveries from the same start to targets close to each other are queued next to each other, up to the amount of stacks a deliveryman can carry.
+ * A deliveryman gathers such a batch in a single visit at the start and then drops it off target by target.
+ * Only accessed from the server thread.
+ */
+public final class DeliveryPlanner
+{
+    /**
+     * The planners of the colonies of each world, by colony id.
+     */
+    private static final Map<World, Map<Integer, DeliveryPlanner>> PLANNERS = new HashMap<>();
+
+    /**
+     * Maximum distance of the targets of a batch to the target of its first delivery.
+     */
+    private static final int BATCH_RADIUS = 32;
+
+    /**
+     * Maximum amount of deliveries of a batch, the capacity of deliverymen of a fully upgraded hut.
+     */
+    private static final int MAX_BATCH_SIZE = 16;
+
+    /**
+     * The colony of the planner.
+     */
+    private final IColony colony;
+
+    /**
+     * The ids of the deliverymen of the colony, checked when used.
+     */
+    private final Set<Integer> deliverymen = new LinkedHashSet<>();
+
+    /**
+     * Create the planner of a colony.
+     *
+     * @param colony the colony.
+     */
+    private DeliveryPlanner(@NotNull final IColony colony)
+    {
+        this.colony = colony;
+        for (final ICitizenData citizen : colony.getCitizenManager().getCitizens())
+        {
+            if (citizen.getJob() instanceof JobDeliveryman)
+            {
+                deliverymen.add(citizen.getId());
+            }
+        }
+    }
+
+    /**
+     * Get the planner of a colony.
+     *
+     * @param colony the colony.
+     * @return the planner.
+     */
+    @NotNull
+    public static DeliveryPlanner get(@NotNull final IColony colony)
+    {
+        return PLANNERS.computeIfAbsent(colony.getWorld(), w -> new HashMap<>()).computeIfAbsent(colony.getID(), id -> new DeliveryPlanner(colony));
+    }
+
+    /**
+     * Add a citizen which became a deliveryman to the planner of its colony, if the colony has one yet.
+     *
+     * @param citizen the citizen.
+     */
+    public static void onJobChanged(@NotNull final ICitizenData citizen)
+    {
+        if (!(citizen.getJob() instanceof JobDeliveryman) || citizen.getColony() == null || citizen.getColony().getWorld() == null)
+        {
+            return;
+        }
+
+        final Map<Integer, DeliveryPlanner> planners = PLANNERS.get(citizen.getColony().getWorld());
+        final DeliveryPlanner planner = planners == null ? null : planners.get(citizen.getColony().getID());
+        if (planner != null)
+        {
+            planner.deliverymen.add(citizen.getId());
+        }
+    }
+
+    /**
+     * Drop the planners of an unloaded world.
+     *
+     * @param world the world.
+     */
+    public static void onWorldUnload(@NotNull final World world)
+    {
+        PLANNERS.remove(world);
+    }
+
+    /**
+     * Drop the planner of a deleted colony.
+     *
+     * @param world the world of the colony.
+     * @param id    the id of the colony.
+     */
+    public static void onColonyDeleted(@NotNull final World world, final int id)
+    {
+        final Map<Integer, DeliveryPlanner> colonies = PLANNERS.get(world);
+        if (colonies != null)
+        {
+            colonies.remove(id);
+        }
+    }
+
+    /**
+     * Get the deliverymen of the colony, dropping the citizens which aren't anymore.
+     *
+     * @return the deliverymen.
+     */
+    @NotNull
+    public List<ICitizenData> getDeliverymen()
+    {
+        final List<ICitizenData> result = new ArrayList<>();
+        final Iterator<Integer> iterator = deliverymen.iterator();
+        while (iterator.hasNext())
+        {
+            final ICitizenData citizen = colony.getCitizenManager().getCitizen(iterator.next());
+            if (citizen == null || !(citizen.getJob() instanceof JobDeliveryman))
+            {
+                iterator.remove();
+            }
+            else
+            {
+                result.add(citizen);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Check if any deliveryman can reach the target of a delivery.
+     *
+     * @param delivery the delivery.
+     * @return true if so.
+     */
+    public boolean canDeliver(@NotNull final Delivery delivery)
+    {
+        for (final ICitizenData citizen : getDeliverymen())
+        {
+            if (canReach(citizen, delivery))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Queue a delivery at a deliveryman.
+     * The free deliveryman is the one with the shortest queue, and of those the closest one to the target, it would get the delivery at the end of its queue.
+     * A deliveryman with a batch the delivery fits into gets it right behind that batch instead,
+     * as long as the delivery isn't queued behind more tasks than at the free deliveryman.
+     *
+     * @param request the delivery request.
+     * @return the deliveryman, or null if none can reach the target.
+     */
+    @Nullable
+    public ICitizenData assign(@NotNull final IRequest<? extends Delivery> request)
+    {
+        final Delivery delivery = request.getRequest();
+        final BlockPos target = delivery.getTarget().getInDimensionLocation();
+
+        ICitizenData batchDeliveryman = null;
+        IToken<?> batchEnd = null;
+        int batchPosition = Integer.MAX_VALUE;
+        ICitizenData freeDeliveryman = null;
+        int freeQueueSize = Integer.MAX_VALUE;
+        long freeDistance = Long.MAX_VALUE;
+
+        for (final ICitizenData citizen : getDeliverymen())
+        {
+            if (!canReach(citizen, delivery))
+            {
+                continue;
+            }
+
+            final List<IToken<?>> queue = ((JobDeliveryman) citizen.getJob()).getTaskQueue();
+            final IToken<?> end = findBatchEnd(colony, queue, delivery, getCapacity(citizen));
+            //  The amount of tasks done before the delivery, up to the end of the batch
+            final int position = end == null ? Integer.MAX_VALUE : queue.indexOf(end) + 1;
+            if (position < batchPosition)
+            {
+                batchDeliveryman = citizen;
+                batchEnd = end;
+                batchPosition = position;
+            }
+
+            //We can do an instant get here, since canReach filters on anything that has no entity.
+            final long distance = BlockPosUtil.getDistanceSquared(target, citizen.getCitizenEntity().get().getLocation().getInDimensionLocation());
+            if (queue.size() < freeQueueSize || (queue.size() == freeQueueSize && distance < freeDistance))
+            {
+                freeDeliveryman = citizen;
+                freeQueueSize = queue.size();
+                freeDistance = distance;
+            }
+        }
+
+        if (batchDeliveryman != null && batchPosition <= freeQueueSize)
+        {
+            ((JobDeliveryman) batchDeliveryman.getJob()).addRequest(request.getId(), batchEnd);
+            return batchDeliveryman;
+        }
+        if (freeDeliveryman != null)
+        {
+            ((JobDeliveryman) freeDeliveryman.getJob()).addRequest(request.getId());
+        }
+        return freeDeliveryman;
+    }
+
+    /**
+     * Get the batch at the head of the queue of a deliveryman: the current task and the following ones which can be gathered with it.
+     *
+     * @param job      the job of the deliveryman.
+     * @param capacity the amount of deliveries the deliveryman can carry.
+     * @return the requests of the batch, empty if there is no current task.
+     */
+    @NotNull
+    public static List<IRequest<? extends Delivery>> getBatch(@NotNull final JobDeliveryman job, final int capacity)
+    {
+        final List<IRequest<? extends Delivery>> batch = new ArrayList<>();
+        for (final IToken<?> token : job.getTaskQueue())
+        {
+            final IRequest<? extends Delivery> request = getDelivery(job.getColony(), token);
+            if (request == null || batch.size() >= capacity || (!batch.isEmpty() && !isBatchable(batch.get(0).getRequest(), request.getRequest())))
+            {
+                break;
+            }
+            batch.add(request);
+        }
+        return batch;
+    }
+
+    /**
+     * Get the amount of deliveries a deliveryman can carry at once, which grows with the level of its hut.
+     *
+     * @param citizen the deliveryman.
+     * @return the amount.
+     */
+    public static int getCapacity(@NotNull final ICitizenData citizen)
+    {
+        final IBuildingWorker building = citizen.getWorkBuilding();
+        if (building == null)
+        {
+            return 1;
+        }
+        return Math.min(MAX_BATCH_SIZE, getStackLimit(building));
+    }
+
+    /**
+     * Get the amount of stacks the deliverymen of a hut can hold: 2^(level - 1) + 1, unlimited at the max level.
+     *
+     * @param building the hut.
+     * @return the amount.
+     */
+    public static int getStackLimit(@NotNull final IBuildingWorker building)
+    {
+        if (building.getBuildingLevel() >= building.getMaxBuildingLevel())
+        {
+            return Integer.MAX_VALUE;
+        }
+        return (1 << Math.max(0, building.getBuildingLevel() - 1)) + 1;
+    }
+
+    /**
+     * Check if a delivery can be gathered together with the first delivery of a batch.
+     *
+     * @param first    the first delivery of the batch.
+     * @param delivery the delivery.
+     * @return true if it has the same start and its target is close to the target of the first one.
+     */
+    private static boolean isBatchable(@NotNull final Delivery first, @NotNull final Delivery delivery)
+    {
+        return first.getStart().equals(delivery.getStart())
+                 && first.getTarget().getDimension() == delivery.getTarget().getDimension()
+                 && BlockPosUtil.getDistanceSquared(first.getTarget().getInDimensionLocation(), delivery.getTarget().getInDimensionLocation())
+                      <= BATCH_RADIUS * BATCH_RADIUS;
+    }
+
+    /**
+     * Find a batch in a queue which a delivery fits into.
+     *
+     * @param colony   the colony of the deliveryman.
+     * @param queue    the queue of a deliveryman.
+     * @param delivery the delivery.
+     * @param capacity the amount of deliveries the deliveryman can carry.
+     * @return the last token of the batch, or null if the delivery fits into none.
+     */
+    @Nullable
+    static IToken<?> findBatchEnd(@NotNull final IColony colony, @NotNull final List<IToken<?>> queue, @NotNull final Delivery delivery, final int capacity)
+    {
+        Delivery first = null;
+        IToken<?> last = null;
+        int size = 0;
+        for (final IToken<?> token : queue)
+        {
+            final IRequest<? extends Delivery> request = getDelivery(colony, token);
+            if (request != null && first != null && size < capacity && isBatchable(first, request.getRequest()))
+            {
+                last = token;
+                size++;
+                continue;
+            }
+
+            if (first != null && size < capacity && isBatchable(first, delivery))
+            {
+                return last;
+            }
+            first = request == null ? null : request.getRequest();
+            last = token;
+            size = 1;
+        }
+        return first != null && size < capacity && isBatchable(first, delivery) ? last : null;
+    }
+
+    /**
+     * Check if a deliveryman is in the world and can reach the target of a delivery.
+     *
+     * @param citizen  the deliveryman.
+     * @param delivery the delivery.
+     * @return true if so.
+     */
+    private static boolean canReach(@NotNull final ICitizenData citizen, @NotNull final Delivery delivery)
+    {
+        return citizen.getCitizenEntity().map(entityCitizen -> delivery.getTarget().isReachableFromLocation(entityCitizen.getLocation())).orElse(false);
+    }
+
+    /**
+     * Get the delivery request of a token.
+     *
+     * @param colony the colony.
+     * @param token  the token.
+     * @return the request, or null if it is unknown or no delivery.
+     */
+    @Nullable
+    @SuppressWarnings(UNCHECKED)
+    private static IRequest<? extends Delivery> getDelivery(@NotNull final IColony colony, @NotNull final IToken<?> token)
+    {
+        final IRequest<?> request = colony.getRequestManager().getRequestForToken(token);
+        return request != null && request.getRequest() instanceof Delivery ? (IRequest<? extends Delivery>) request : null;
+    }
+}
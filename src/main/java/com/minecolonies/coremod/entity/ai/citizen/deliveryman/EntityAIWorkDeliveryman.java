@@ -341,17 +341,11 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
 
     /**
      * Check if the worker can hold that much items.
-     * It depends on his building level.
-     * Level 1: 1 stack Level 2: 2 stacks, 4 stacks, 8, unlimited.
-     * That's 2^buildingLevel-1.
+     * It depends on his building level, see {@link DeliveryPlanner#getStackLimit(IBuildingWorker)}.
      */
     private boolean cannotHoldMoreItems()
     {
-        if (getOwnBuilding().getBuildingLevel() >= getOwnBuilding().getMaxBuildingLevel())
-        {
-            return false;
-        }
-        return InventoryUtils.getAmountOfStacksInItemHandler(new InvWrapper(worker.getInventoryCitizen())) >= Math.pow(2, getOwnBuilding().getBuildingLevel() - 1.0D) + 1;
+        return InventoryUtils.getAmountOfStacksInItemHandler(new InvWrapper(worker.getInventoryCitizen())) >= DeliveryPlanner.getStackLimit(getOwnBuilding());
     }
 
     private BlockPos getWeightedRandom()
@@ -504,15 +498,31 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
         boolean success = true;
         boolean extracted = false;
         final InvWrapper workerInventory = new InvWrapper(worker.getInventoryCitizen());
+        final IRequest<? extends Delivery> currentTask = job.getCurrentTask();
+        if (currentTask == null)
+        {
+            deliveryHut.setBuildingToDeliver(null);
+            return DUMPING;
+        }
+
+        //Only hand over the items of this delivery, anything else carried belongs to further deliveries or goes back to the warehouse.
+        final ItemStack requested = currentTask.getRequest().getStack();
+        int toDeliver = getGatherAmount(requested);
         for (int i = 0; i < new InvWrapper(worker.getInventoryCitizen()).getSlots(); i++)
         {
-            final ItemStack stack = workerInventory.extractItem(i, Integer.MAX_VALUE, false);
+            if (toDeliver <= 0 || !requested.isItemEqualIgnoreDurability(workerInventory.getStackInSlot(i)))
+            {
+                continue;
+            }
+
+            final ItemStack stack = workerInventory.extractItem(i, toDeliver, false);
             if (ItemStackUtils.isEmpty(stack))
             {
                 continue;
             }
 
             extracted = true;
+            toDeliver -= stack.getCount();
             final ItemStack insertionResultStack;
 
             if (ITileEntityColonyBuilding.getBuilding() instanceof AbstractBuildingWorker)
@@ -567,8 +577,17 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
         deliveryHut.setBuildingToDeliver(null);
         job.finishRequest(true);
 
+        final IRequest<? extends Delivery> nextTask = job.getCurrentTask();
+        if (success && nextTask != null && hasItemsFor(nextTask))
+        {
+            //Go straight on to the next stop of the batch.
+            job.setReturning(false);
+            setDelay(DUMP_AND_GATHER_DELAY);
+            return PREPARE_DELIVERY;
+        }
+
         setDelay(WAIT_DELAY);
-        return success ? START_WORKING : DUMPING;
+        return success && InventoryUtils.getAmountOfStacksInItemHandler(workerInventory) == 0 ? START_WORKING : DUMPING;
     }
 
     /**
@@ -590,8 +609,7 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
                     return DUMPING;
                 }
                 ((IBuildingDeliveryman) ownBuilding).setBuildingToDeliver(request.getRequest().getTarget());
-                if (InventoryUtils.hasItemInItemHandler(new InvWrapper(worker.getInventoryCitizen()),
-                  itemStack -> request.getRequest().getStack().isItemEqualIgnoreDurability(itemStack)))
+                if (hasItemsFor(request))
                 {
                     return DELIVERY;
                 }
@@ -642,6 +660,17 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
 
         if (gatherIfInTileEntity(tileEntity, request.getRequest().getStack()))
         {
+            //Take the items of the following deliveries from here along as well, as long as there is room for them.
+            final InvWrapper inventory = new InvWrapper(worker.getInventoryCitizen());
+            final List<IRequest<? extends Delivery>> batch = DeliveryPlanner.getBatch(job, DeliveryPlanner.getCapacity(worker.getCitizenData()));
+            for (int i = 1; i < batch.size() && !cannotHoldMoreItems() && !InventoryUtils.isItemHandlerFull(inventory); i++)
+            {
+                final ItemStack stack = batch.get(i).getRequest().getStack();
+                if (InventoryUtils.getItemCountInItemHandler(inventory, stack::isItemEqualIgnoreDurability) < getBatchAmount(batch, i))
+                {
+                    gatherIfInTileEntity(tileEntity, stack);
+                }
+            }
             setDelay(DUMP_AND_GATHER_DELAY);
             return DELIVERY;
         }
@@ -669,10 +698,55 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
                       .matchFirstInProviderWithAction(
                         entity,
                         stack -> !ItemStackUtils.isEmpty(stack) && ItemStackUtils.compareItemStacksIgnoreStackSize(is, stack, true, true),
-                        (provider, index) -> InventoryUtils.transferXOfItemStackIntoNextFreeSlotFromProvider(provider, index, is.getCount() == 1 ? is.getMaxStackSize() : is.getCount(), new InvWrapper(worker.getInventoryCitizen()))
+                        (provider, index) -> InventoryUtils.transferXOfItemStackIntoNextFreeSlotFromProvider(provider, index, getGatherAmount(is), new InvWrapper(worker.getInventoryCitizen()))
                       );
     }
 
+    /**
+     * Get the amount of items gathered for a requested stack, a full stack if a single item is requested.
+     *
+     * @param is the requested stack.
+     * @return the amount.
+     */
+    private static int getGatherAmount(@NotNull final ItemStack is)
+    {
+        return is.getCount() == 1 ? is.getMaxStackSize() : is.getCount();
+    }
+
+    /**
+     * Get the amount of items the deliveries of a batch up to an index need of the item of the delivery at that index.
+     *
+     * @param batch the batch.
+     * @param index the index.
+     * @return the amount.
+     */
+    private static int getBatchAmount(@NotNull final List<IRequest<? extends Delivery>> batch, final int index)
+    {
+        final ItemStack stack = batch.get(index).getRequest().getStack();
+        int amount = 0;
+        for (int i = 0; i <= index; i++)
+        {
+            final ItemStack other = batch.get(i).getRequest().getStack();
+            if (stack.isItemEqualIgnoreDurability(other))
+            {
+                amount += getGatherAmount(other);
+            }
+        }
+        return amount;
+    }
+
+    /**
+     * Check if the worker carries items for a request.
+     *
+     * @param request the request.
+     * @return true if so.
+     */
+    private boolean hasItemsFor(@NotNull final IRequest<? extends Delivery> request)
+    {
+        return InventoryUtils.hasItemInItemHandler(new InvWrapper(worker.getInventoryCitizen()),
+          itemStack -> request.getRequest().getStack().isItemEqualIgnoreDurability(itemStack));
+    }
+
     /**
      * Check the wareHouse for the next task.
      *
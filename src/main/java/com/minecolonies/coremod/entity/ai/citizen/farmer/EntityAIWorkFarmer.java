@@ -11,13 +11,11 @@ import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.items.ModItems;
 import com.minecolonies.api.tileentities.AbstractScarescrowTileEntity;
 import com.minecolonies.api.tileentities.ScarecrowFieldStage;
-import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.constant.IToolType;
 import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.coremod.MineColonies;
-import com.minecolonies.coremod.blocks.BlockScarecrow;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingFarmer;
 import com.minecolonies.coremod.colony.jobs.JobFarmer;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIInteract;
@@ -92,13 +90,6 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
     @Nullable
     private BlockPos prevPos;
 
-    /**
-     * Variables used in handleOffset.
-     */
-    private int     totalDis;
-    private int     dist;
-    private boolean horizontal;
-
     /**
      * Constructor for the Farmer.
      * Defines the tasks the Farmer executes.
@@ -198,7 +189,8 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
         final TileEntity entity = world.getTileEntity(currentField);
         if (entity instanceof TileEntityScarecrow && ((TileEntityScarecrow) entity).needsWork())
         {
-            if (((TileEntityScarecrow) entity).getFieldStage() == ScarecrowFieldStage.PLANTED && checkIfShouldExecute((TileEntityScarecrow) entity, this::shouldHarvest))
+            if (((TileEntityScarecrow) entity).getFieldStage() == ScarecrowFieldStage.PLANTED
+                  && checkIfShouldExecute((TileEntityScarecrow) entity, FieldWorkSet.Work.HARVEST, this::shouldHarvest))
             {
                 return FARMER_HARVEST;
             }
@@ -206,7 +198,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
             {
                 return canGoPlanting((TileEntityScarecrow) entity, building);
             }
-            else if (((TileEntityScarecrow) entity).getFieldStage() == ScarecrowFieldStage.EMPTY && checkIfShouldExecute((TileEntityScarecrow) entity,
+            else if (((TileEntityScarecrow) entity).getFieldStage() == ScarecrowFieldStage.EMPTY && checkIfShouldExecute((TileEntityScarecrow) entity, FieldWorkSet.Work.HOE,
               pos -> this.shouldHoe(pos, (TileEntityScarecrow) entity)))
             {
                 return FARMER_HOE;
@@ -271,30 +263,24 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
 
     /**
      * Handles the offset of the field for the farmer.
-     * Checks if the field needs a certain operation checked with a given predicate.
+     * Checks if the field needs a certain operation checked with a given predicate, only looking at the cells which need that work.
      *
      * @param field     the field object.
+     * @param work      the work the cells need.
      * @param predicate the predicate to test.
      * @return true if a harvestable crop was found.
      */
-    private boolean checkIfShouldExecute(@NotNull final TileEntityScarecrow field, @NotNull final Predicate<BlockPos> predicate)
+    private boolean checkIfShouldExecute(@NotNull final TileEntityScarecrow field, @NotNull final FieldWorkSet.Work work, @NotNull final Predicate<BlockPos> predicate)
     {
-        if (workingOffset == null)
+        final FieldWorkSet workSet = FieldWorkSet.get(field);
+        final boolean hasCompost = work == FieldWorkSet.Work.HARVEST && hasCompostInInventory();
+        workingOffset = null;
+        do
         {
-            handleOffset(field);
-        }
-
-        BlockPos position = field.getPos().down().south(workingOffset.getZ()).east(workingOffset.getX());
-
-        while (!predicate.test(position))
-        {
-            if (!handleOffset(field))
-            {
-                return false;
-            }
-            position = field.getPos().down().south(workingOffset.getZ()).east(workingOffset.getX());
+            workingOffset = workSet.next(work, workingOffset, hasCompost);
         }
-        return true;
+        while (workingOffset != null && !predicate.test(field.getPos().down().south(workingOffset.getZ()).east(workingOffset.getX())));
+        return workingOffset != null;
     }
 
     /**
@@ -343,56 +329,43 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
      */
     private boolean shouldHoe(@NotNull final BlockPos position, @NotNull final TileEntityScarecrow field)
     {
-        return !field.isNoPartOfField(world, position) && !BlockUtils.isBlockSeed(world, position.up())
-                 && !(world.getBlockState(position.up()).getBlock() instanceof BlockScarecrow)
-                 && (world.getBlockState(position).getBlock() instanceof BlockDirt || world.getBlockState(position).getBlock() instanceof BlockGrass);
+        return FieldWorkSet.shouldHoe(world, position, field);
     }
 
     /**
      * Handles the offset of the field for the farmer.
+     * Moves on to the next cell which needs the work of the current state.
      *
      * @param field the field object.
      * @return true if successful.
      */
     private boolean handleOffset(@NotNull final TileEntityScarecrow field)
     {
-        if (workingOffset == null)
+        final FieldWorkSet.Work work;
+        switch ((AIWorkerState) getState())
         {
-            workingOffset = new BlockPos(0, 0, 0);
-            totalDis = 1;
-            dist = 0;
-            horizontal = true;
+            case FARMER_HOE:
+                work = FieldWorkSet.Work.HOE;
+                break;
+            case FARMER_PLANT:
+                work = FieldWorkSet.Work.PLANT;
+                break;
+            default:
+                work = FieldWorkSet.Work.HARVEST;
+                break;
         }
-        else
-        {
-            if (workingOffset.getZ() >= field.getWidthPlusZ() && workingOffset.getX() <= -field.getLengthMinusX())
-            {
-                workingOffset = null;
-                return false;
-            }
-            else
-            {
-                if (totalDis == dist)
-                {
-                    horizontal = !horizontal;
-                    dist = 0;
-                    if (horizontal)
-                    {
-                        totalDis++;
-                    }
-                }
-                if (horizontal)
-                {
-                    workingOffset = new BlockPos(workingOffset.getX(), 0, workingOffset.getZ() - Math.pow(-1, totalDis));
-                }
-                else
-                {
-                    workingOffset = new BlockPos(workingOffset.getX() - Math.pow(-1, totalDis), 0, workingOffset.getZ());
-                }
-                dist++;
-            }
-        }
-        return true;
+        workingOffset = FieldWorkSet.get(field).next(work, workingOffset, work == FieldWorkSet.Work.HARVEST && hasCompostInInventory());
+        return workingOffset != null;
+    }
+
+    /**
+     * Check if the farmer carries compost, then growing crops can be harvested too.
+     *
+     * @return true if so.
+     */
+    private boolean hasCompostInInventory()
+    {
+        return InventoryUtils.getItemCountInItemHandler(new InvWrapper(worker.getInventoryCitizen()), this::isCompost) > 0;
     }
 
     /**
@@ -477,6 +450,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
                         default:
                             return PREPARING;
                     }
+                    FieldWorkSet.get(scarecrow).markChanged(position);
                     prevPos = position;
                 }
                 setDelay(getLevelDelay());
@@ -577,9 +551,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
      */
     private boolean shouldPlant(@NotNull final BlockPos position, @NotNull final TileEntityScarecrow field)
     {
-        return !field.isNoPartOfField(world, position) && !(world.getBlockState(position.up()).getBlock() instanceof BlockCrops)
-                 && !(world.getBlockState(position.up()).getBlock() instanceof BlockStem)
-                 && !(world.getBlockState(position).getBlock() instanceof BlockScarecrow) && world.getBlockState(position).getBlock() == Blocks.FARMLAND;
+        return FieldWorkSet.shouldPlant(world, position, field);
     }
 
     /**
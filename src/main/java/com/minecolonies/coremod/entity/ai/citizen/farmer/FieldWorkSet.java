@@ -0,0 +1,387 @@
+package com.minecolonies.coremod.entity.ai.citizen.farmer;
+
+import com.minecolonies.api.util.BlockUtils;
+import com.minecolonies.coremod.blocks.BlockScarecrow;
+import com.minecolonies.coremod.tileentities.TileEntityScarecrow;
+import net.minecraft.block.*;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * The cells of a field which need work, one bit per cell for every kind of work.
+ * Block changes in the field only mark their cell, marked cells are checked again once the farmer asks for work.
+ * A field without changes therefore costs almost nothing, and the farmer goes straight to the cells which need work.
+ * Changes which aren't sent to the world listeners can't be seen, the whole field is therefore checked again every few minutes.
+ * Only accessed from the server thread.
+ */
+public final class FieldWorkSet
+{
+    /**
+     * The kinds of work on a field.
+     */
+    public enum Work
+    {
+        HOE,
+        PLANT,
+        HARVEST
+    }
+
+    /**
+     * Ticks after which all cells of a field are checked again.
+     */
+    private static final int FULL_CHECK_INTERVAL = 6000;
+
+    /**
+     * The work sets of each world.
+     */
+    private static final Map<World, WorldFields> WORLDS = new HashMap<>();
+
+    /**
+     * The field of the set.
+     */
+    private final TileEntityScarecrow field;
+
+    /**
+     * The y coordinate of the ground of the field.
+     */
+    private final int groundY;
+
+    /**
+     * The bounds of the field, inclusive.
+     */
+    private final int minX;
+    private final int maxX;
+    private final int minZ;
+    private final int maxZ;
+
+    /**
+     * The world time of the last check of all cells.
+     */
+    private long lastFullCheck;
+
+    /**
+     * The cells to check again.
+     */
+    private final BitSet changed = new BitSet();
+
+    /**
+     * The cells which need hoeing.
+     */
+    private final BitSet hoe = new BitSet();
+
+    /**
+     * The cells which need planting.
+     */
+    private final BitSet plant = new BitSet();
+
+    /**
+     * The cells with a ripe crop.
+     */
+    private final BitSet ripe = new BitSet();
+
+    /**
+     * The cells with a growing crop, which compost might ripen.
+     */
+    private final BitSet growing = new BitSet();
+
+    /**
+     * Create the work set of a field, all cells are checked with the first request.
+     *
+     * @param field the field.
+     */
+    private FieldWorkSet(@NotNull final TileEntityScarecrow field)
+    {
+        this.field = field;
+        this.groundY = field.getPos().getY() - 1;
+        this.minX = field.getPos().getX() - field.getLengthMinusX();
+        this.maxX = field.getPos().getX() + field.getLengthPlusX();
+        this.minZ = field.getPos().getZ() - field.getWidthMinusZ();
+        this.maxZ = field.getPos().getZ() + field.getWidthPlusZ();
+        this.lastFullCheck = field.getWorld().getTotalWorldTime();
+        changed.set(0, getSize());
+    }
+
+    /**
+     * Get the work set of a field, creating it again if the field was resized.
+     *
+     * @param field the field.
+     * @return the work set.
+     */
+    @NotNull
+    public static FieldWorkSet get(@NotNull final TileEntityScarecrow field)
+    {
+        final WorldFields fields = WORLDS.computeIfAbsent(field.getWorld(), world -> new WorldFields());
+        FieldWorkSet set = fields.byPos.get(field.getPos());
+        if (set == null || set.field != field || !set.hasBounds(field))
+        {
+            if (set != null)
+            {
+                fields.remove(set);
+            }
+            set = new FieldWorkSet(field);
+            fields.add(set);
+        }
+        return set;
+    }
+
+    /**
+     * Mark the cell of a changed block in the fields around it.
+     * Called by the world listener, which sees every block change sent to the clients, including grown and bonemealed crops.
+     *
+     * @param world the world.
+     * @param pos   the position of the block.
+     */
+    public static void onBlockChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final WorldFields fields = WORLDS.get(world);
+        if (fields != null)
+        {
+            final List<FieldWorkSet> sets = fields.byChunk.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+            if (sets != null)
+            {
+                for (final FieldWorkSet set : sets)
+                {
+                    set.markChanged(pos);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop the work set of a removed or unloaded field.
+     *
+     * @param world the world.
+     * @param pos   the position of the scarecrow.
+     */
+    public static void remove(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final WorldFields fields = WORLDS.get(world);
+        if (fields != null)
+        {
+            final FieldWorkSet set = fields.byPos.get(pos);
+            if (set != null)
+            {
+                fields.remove(set);
+            }
+        }
+    }
+
+    /**
+     * Drop the work sets of an unloaded world.
+     *
+     * @param world the world.
+     */
+    public static void onWorldUnload(@NotNull final World world)
+    {
+        WORLDS.remove(world);
+    }
+
+    /**
+     * Mark the cell of a block to be checked again, if the block is part of it.
+     *
+     * @param pos the position of the block.
+     */
+    public void markChanged(@NotNull final BlockPos pos)
+    {
+        if ((pos.getY() == groundY || pos.getY() == groundY + 1)
+              && pos.getX() >= minX && pos.getX() <= maxX && pos.getZ() >= minZ && pos.getZ() <= maxZ)
+        {
+            changed.set(getIndex(pos.getX(), pos.getZ()));
+        }
+    }
+
+    /**
+     * Get the next cell which needs a kind of work.
+     *
+     * @param work           the kind of work.
+     * @param after          the offset of the cell to continue after, or null to start at the first one.
+     * @param includeGrowing if growing crops count as harvestable, because they can be composted.
+     * @return the offset of the cell to the scarecrow, or null if no further cell needs the work.
+     */
+    @Nullable
+    public BlockPos next(@NotNull final Work work, @Nullable final BlockPos after, final boolean includeGrowing)
+    {
+        checkChanged();
+
+        final int from = after == null ? 0 : getIndex(field.getPos().getX() + after.getX(), field.getPos().getZ() + after.getZ()) + 1;
+        final int index;
+        switch (work)
+        {
+            case HOE:
+                index = hoe.nextSetBit(from);
+                break;
+            case PLANT:
+                index = plant.nextSetBit(from);
+                break;
+            default:
+                final int ripeIndex = ripe.nextSetBit(from);
+                final int growingIndex = includeGrowing ? growing.nextSetBit(from) : -1;
+                index = ripeIndex < 0 || growingIndex < 0 ? Math.max(ripeIndex, growingIndex) : Math.min(ripeIndex, growingIndex);
+                break;
+        }
+
+        if (index < 0)
+        {
+            return null;
+        }
+        final int sizeX = maxX - minX + 1;
+        return new BlockPos(minX + index % sizeX - field.getPos().getX(), 0, minZ + index / sizeX - field.getPos().getZ());
+    }
+
+    /**
+     * Checks if the ground should be hoed and the block above removed.
+     *
+     * @param world    the world.
+     * @param position the position to check.
+     * @param field    the field close to this position.
+     * @return true if should be hoed.
+     */
+    public static boolean shouldHoe(@NotNull final World world, @NotNull final BlockPos position, @NotNull final TileEntityScarecrow field)
+    {
+        return !field.isNoPartOfField(world, position) && !BlockUtils.isBlockSeed(world, position.up())
+                 && !(world.getBlockState(position.up()).getBlock() instanceof BlockScarecrow)
+                 && (world.getBlockState(position).getBlock() instanceof BlockDirt || world.getBlockState(position).getBlock() instanceof BlockGrass);
+    }
+
+    /**
+     * Checks if the ground should be planted.
+     *
+     * @param world    the world.
+     * @param position the position to check.
+     * @param field    the field close to this position.
+     * @return true if the farmer should plant.
+     */
+    public static boolean shouldPlant(@NotNull final World world, @NotNull final BlockPos position, @NotNull final TileEntityScarecrow field)
+    {
+        return !field.isNoPartOfField(world, position) && !(world.getBlockState(position.up()).getBlock() instanceof BlockCrops)
+                 && !(world.getBlockState(position.up()).getBlock() instanceof BlockStem)
+                 && !(world.getBlockState(position).getBlock() instanceof BlockScarecrow) && world.getBlockState(position).getBlock() == Blocks.FARMLAND;
+    }
+
+    /**
+     * Check the marked cells again, and every cell once the full check interval passed.
+     */
+    private void checkChanged()
+    {
+        final World world = field.getWorld();
+        if (world.getTotalWorldTime() - lastFullCheck >= FULL_CHECK_INTERVAL)
+        {
+            lastFullCheck = world.getTotalWorldTime();
+            changed.set(0, getSize());
+        }
+
+        final int sizeX = maxX - minX + 1;
+        for (int index = changed.nextSetBit(0); index >= 0; index = changed.nextSetBit(index + 1))
+        {
+            final BlockPos ground = new BlockPos(minX + index % sizeX, groundY, minZ + index / sizeX);
+            if (!world.isBlockLoaded(ground))
+            {
+                continue;
+            }
+            changed.clear(index);
+
+            hoe.set(index, shouldHoe(world, ground, field));
+            plant.set(index, shouldPlant(world, ground, field));
+
+            final IBlockState crop = world.getBlockState(ground.up());
+            final Block block = crop.getBlock();
+            if (block == Blocks.PUMPKIN || block == Blocks.MELON_BLOCK)
+            {
+                ripe.set(index);
+                growing.clear(index);
+            }
+            else if (block instanceof IGrowable && block instanceof BlockCrops)
+            {
+                final boolean isRipe = ((BlockCrops) block).isMaxAge(crop);
+                ripe.set(index, isRipe);
+                growing.set(index, !isRipe);
+            }
+            else
+            {
+                ripe.clear(index);
+                growing.clear(index);
+            }
+        }
+    }
+
+    /**
+     * Check if the set still has the bounds of its field.
+     *
+     * @param field the field.
+     * @return true if so.
+     */
+    private boolean hasBounds(@NotNull final TileEntityScarecrow field)
+    {
+        return minX == field.getPos().getX() - field.getLengthMinusX()
+                 && maxX == field.getPos().getX() + field.getLengthPlusX()
+                 && minZ == field.getPos().getZ() - field.getWidthMinusZ()
+                 && maxZ == field.getPos().getZ() + field.getWidthPlusZ();
+    }
+
+    /**
+     * Get the amount of cells of the field.
+     *
+     * @return the amount.
+     */
+    private int getSize()
+    {
+        return (maxX - minX + 1) * (maxZ - minZ + 1);
+    }
+
+    /**
+     * Get the index of a cell, row by row along x.
+     *
+     * @param x the x coordinate.
+     * @param z the z coordinate.
+     * @return the index.
+     */
+    private int getIndex(final int x, final int z)
+    {
+        return (z - minZ) * (maxX - minX + 1) + x - minX;
+    }
+
+    /**
+     * The work sets of a world, by scarecrow position and by the chunks they overlap.
+     */
+    private static final class WorldFields
+    {
+        private final Map<BlockPos, FieldWorkSet>  byPos   = new HashMap<>();
+        private final Map<Long, List<FieldWorkSet>> byChunk = new HashMap<>();
+
+        private void add(@NotNull final FieldWorkSet set)
+        {
+            byPos.put(set.field.getPos(), set);
+            for (int x = set.minX >> 4; x <= set.maxX >> 4; x++)
+            {
+                for (int z = set.minZ >> 4; z <= set.maxZ >> 4; z++)
+                {
+                    byChunk.computeIfAbsent(ChunkPos.asLong(x, z), key -> new ArrayList<>()).add(set);
+                }
+            }
+        }
+
+        private void remove(@NotNull final FieldWorkSet set)
+        {
+            byPos.remove(set.field.getPos());
+            for (int x = set.minX >> 4; x <= set.maxX >> 4; x++)
+            {
+                for (int z = set.minZ >> 4; z <= set.maxZ >> 4; z++)
+                {
+                    final long key = ChunkPos.asLong(x, z);
+                    final List<FieldWorkSet> sets = byChunk.get(key);
+                    if (sets != null && sets.remove(set) && sets.isEmpty())
+                    {
+                        byChunk.remove(key);
+                    }
+                }
+            }
+        }
+    }
+}
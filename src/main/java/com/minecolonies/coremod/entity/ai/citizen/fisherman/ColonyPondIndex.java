@@ -0,0 +1,428 @@
+package com.minecolonies.coremod.entity.ai.citizen.fisherman;
+
+import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.api.util.Pond;
+import com.minecolonies.coremod.colony.jobs.JobFisherman;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
+
+/**
+ * The known fishing spots of a colony, shared by all its fishermen.
+ * Spots are collected from loaded chunks, the searches of the fishermen and the ponds they remember.
+ * A spot is validated with {@link Pond#createWater} once a fisherman considers it, block changes close to it make it be validated again.
+ * Every spot has a capacity depending on the size of its water, fishermen reserve spots up to that capacity.
+ * Spots a fisherman couldn't find a path to are skipped for a while.
+ * Only accessed from the server thread.
+ */
+public final class ColonyPondIndex
+{
+    /**
+     * The indices of the colonies of each world, by colony id.
+     */
+    private static final Map<World, Map<Integer, ColonyPondIndex>> INDICES = new HashMap<>();
+
+    /**
+     * Distance around a spot in which block changes affect its validation.
+     */
+    private static final int CHECK_RADIUS = 7;
+
+    /**
+     * Distance around a spot in which its water is counted for its capacity.
+     */
+    private static final int CAPACITY_RADIUS = 4;
+
+    /**
+     * Surface water blocks a fisherman needs.
+     */
+    private static final int WATER_PER_FISHERMAN = 16;
+
+    /**
+     * Columns between the sampled columns of a loaded chunk.
+     */
+    private static final int CHUNK_SAMPLE_SPACING = 4;
+
+    /**
+     * Amount of spots validated at most when a fisherman looks for a spot.
+     */
+    private static final int MAX_CHECKS = 8;
+
+    /**
+     * Ticks during which a spot which couldn't be reached is skipped.
+     */
+    private static final long UNREACHABLE_COOLDOWN = 12000;
+
+    /**
+     * The colony of the index.
+     */
+    private final IColony colony;
+
+    /**
+     * The world of the colony.
+     */
+    private final World world;
+
+    /**
+     * The spots, by the position of their water block.
+     */
+    private final Map<BlockPos, Spot> spots = new HashMap<>();
+
+    /**
+     * The spot positions of each chunk, to find the spots affected by a block change.
+     */
+    private final Map<Long, Set<BlockPos>> spotsByChunk = new HashMap<>();
+
+    /**
+     * The spot each fisherman reserved, by citizen id.
+     */
+    private final Map<Integer, BlockPos> reservations = new HashMap<>();
+
+    /**
+     * The world time until which each spot which couldn't be reached is skipped.
+     */
+    private final Map<BlockPos, Long> unreachable = new HashMap<>();
+
+    /**
+     * Create the index of a colony.
+     *
+     * @param colony the colony.
+     * @param world  the world of the colony.
+     */
+    private ColonyPondIndex(@NotNull final IColony colony, @NotNull final World world)
+    {
+        this.colony = colony;
+        this.world = world;
+    }
+
+    /**
+     * Get the index of a colony.
+     *
+     * @param colony the colony.
+     * @param world  the world the fishermen are in.
+     * @return the index.
+     */
+    @NotNull
+    public static ColonyPondIndex get(@NotNull final IColony colony, @NotNull final World world)
+    {
+        return INDICES.computeIfAbsent(world, w -> new HashMap<>()).computeIfAbsent(colony.getID(), id -> new ColonyPondIndex(colony, world));
+    }
+
+    /**
+     * Collect spot candidates from a sample of the columns of a loaded chunk which belongs to a colony.
+     * A sampled column is a candidate if its highest block is water with air above.
+     *
+     * @param chunk the loaded chunk.
+     * @param world the world of the chunk.
+     */
+    public static void onChunkLoad(@NotNull final Chunk chunk, @NotNull final World world)
+    {
+        final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
+        if (cap == null || cap.getOwningColony() == 0)
+        {
+            return;
+        }
+
+        final IColony colony = IColonyManager.getInstance().getColonyByDimension(cap.getOwningColony(), world.provider.getDimension());
+        if (colony == null)
+        {
+            return;
+        }
+
+        final ColonyPondIndex index = get(colony, world);
+        for (int x = CHUNK_SAMPLE_SPACING / 2; x < 16; x += CHUNK_SAMPLE_SPACING)
+        {
+            for (int z = CHUNK_SAMPLE_SPACING / 2; z < 16; z += CHUNK_SAMPLE_SPACING)
+            {
+                final int y = chunk.getHeightValue(x, z) - 1;
+                if (y > 0 && chunk.getBlockState(x, y, z).getBlock() == Blocks.WATER)
+                {
+                    index.addCandidate(new BlockPos((chunk.x << 4) + x, y, (chunk.z << 4) + z));
+                }
+            }
+        }
+    }
+
+    /**
+     * Make the spots close to a changed block be validated again.
+     *
+     * @param world the world.
+     * @param pos   the position of the block.
+     */
+    public static void onBlockChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final Map<Integer, ColonyPondIndex> indices = INDICES.get(world);
+        if (indices == null)
+        {
+            return;
+        }
+
+        for (final ColonyPondIndex index : indices.values())
+        {
+            for (int x = (pos.getX() - CHECK_RADIUS) >> 4; x <= (pos.getX() + CHECK_RADIUS) >> 4; x++)
+            {
+                for (int z = (pos.getZ() - CHECK_RADIUS) >> 4; z <= (pos.getZ() + CHECK_RADIUS) >> 4; z++)
+                {
+                    final Set<BlockPos> positions = index.spotsByChunk.get(ChunkPos.asLong(x, z));
+                    if (positions == null)
+                    {
+                        continue;
+                    }
+                    for (final BlockPos spot : positions)
+                    {
+                        if (Math.abs(spot.getY() - pos.getY()) <= 1
+                              && Math.abs(spot.getX() - pos.getX()) <= CHECK_RADIUS
+                              && Math.abs(spot.getZ() - pos.getZ()) <= CHECK_RADIUS)
+                        {
+                            index.spots.get(spot).capacity = Spot.UNCHECKED;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop the indices of an unloaded world.
+     *
+     * @param world the world.
+     */
+    public static void onWorldUnload(@NotNull final World world)
+    {
+        INDICES.remove(world);
+    }
+
+    /**
+     * Drop the index of a deleted colony.
+     *
+     * @param world the world of the colony.
+     * @param id    the id of the colony.
+     */
+    public static void onColonyDeleted(@NotNull final World world, final int id)
+    {
+        final Map<Integer, ColonyPondIndex> colonies = INDICES.get(world);
+        if (colonies != null)
+        {
+            colonies.remove(id);
+        }
+    }
+
+    /**
+     * Add a position which might be a spot, it is validated once a fisherman considers it.
+     *
+     * @param pos the position of the water block.
+     */
+    public void addCandidate(@NotNull final BlockPos pos)
+    {
+        if (!spots.containsKey(pos))
+        {
+            final BlockPos key = pos.toImmutable();
+            spots.put(key, new Spot());
+            spotsByChunk.computeIfAbsent(ChunkPos.asLong(key.getX() >> 4, key.getZ() >> 4), chunk -> new HashSet<>()).add(key);
+        }
+    }
+
+    /**
+     * Drop a spot a fisherman couldn't fish at.
+     *
+     * @param pos the position of the water block.
+     */
+    public void remove(@NotNull final BlockPos pos)
+    {
+        if (spots.remove(pos) != null)
+        {
+            final long chunk = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+            final Set<BlockPos> positions = spotsByChunk.get(chunk);
+            if (positions != null && positions.remove(pos) && positions.isEmpty())
+            {
+                spotsByChunk.remove(chunk);
+            }
+        }
+        reservations.values().removeIf(pos::equals);
+    }
+
+    /**
+     * Find the nearest valid spot with free capacity for a fisherman and reserve it.
+     * Spots which couldn't be reached recently are skipped.
+     *
+     * @param citizen       the fisherman.
+     * @param home          the position of the hut of the fisherman.
+     * @param maxDistanceSq the maximum square distance of the spot to the hut.
+     * @param known         the spots the fisherman knows already.
+     * @param minDistanceSq the minimum square distance to the known spots.
+     * @return the reserved spot, or null if the index knows none.
+     */
+    @Nullable
+    public BlockPos reserveNearest(
+      @NotNull final ICitizenData citizen,
+      @NotNull final BlockPos home,
+      final double maxDistanceSq,
+      @NotNull final List<BlockPos> known,
+      final double minDistanceSq)
+    {
+        release(citizen);
+        final long now = world.getTotalWorldTime();
+        unreachable.values().removeIf(until -> until <= now);
+
+        final List<BlockPos> inRange = new ArrayList<>();
+        for (final BlockPos pos : spots.keySet())
+        {
+            if (pos.distanceSq(home) <= maxDistanceSq && !unreachable.containsKey(pos) && known.stream().noneMatch(pond -> pond.distanceSq(pos) < minDistanceSq))
+            {
+                inRange.add(pos);
+            }
+        }
+        inRange.sort(Comparator.comparingDouble(pos -> pos.distanceSq(home)));
+
+        int checks = 0;
+        for (final BlockPos pos : inRange)
+        {
+            if (spots.get(pos).capacity == Spot.UNCHECKED && ++checks > MAX_CHECKS)
+            {
+                break;
+            }
+            if (reserve(citizen, pos))
+            {
+                return pos;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reserve a spot for a fisherman, adding it to the index if it is new.
+     *
+     * @param citizen the fisherman.
+     * @param pos     the position of the water block.
+     * @return true if the spot is valid and had free capacity.
+     */
+    public boolean reserve(@NotNull final ICitizenData citizen, @NotNull final BlockPos pos)
+    {
+        release(citizen);
+        addCandidate(pos);
+        if (!validate(pos))
+        {
+            return false;
+        }
+
+        reservations.entrySet().removeIf(entry -> !isFishingAt(entry.getKey(), entry.getValue()));
+        int users = 0;
+        for (final BlockPos reserved : reservations.values())
+        {
+            if (reserved.equals(pos))
+            {
+                users++;
+            }
+        }
+        if (users >= spots.get(pos).capacity)
+        {
+            return false;
+        }
+        reservations.put(citizen.getId(), pos.toImmutable());
+        return true;
+    }
+
+    /**
+     * Release the reservation of a fisherman whose spot couldn't be reached, the spot is skipped for a while.
+     *
+     * @param citizen the fisherman.
+     */
+    public void releaseUnreachable(@NotNull final ICitizenData citizen)
+    {
+        final BlockPos pos = reservations.remove(citizen.getId());
+        if (pos != null)
+        {
+            unreachable.put(pos, world.getTotalWorldTime() + UNREACHABLE_COOLDOWN);
+        }
+    }
+
+    /**
+     * Release the reservation of a fisherman.
+     *
+     * @param citizen the fisherman.
+     */
+    public void release(@NotNull final ICitizenData citizen)
+    {
+        reservations.remove(citizen.getId());
+    }
+
+    /**
+     * Validate a spot if it isn't, dropping it if it isn't a pond anymore.
+     *
+     * @param pos the position of the water block.
+     * @return true if the spot is valid.
+     */
+    private boolean validate(@NotNull final BlockPos pos)
+    {
+        final Spot spot = spots.get(pos);
+        if (spot.capacity != Spot.UNCHECKED)
+        {
+            return true;
+        }
+        if (!world.isAreaLoaded(pos, CHECK_RADIUS))
+        {
+            return false;
+        }
+        if (Pond.createWater(world, pos) == null)
+        {
+            remove(pos);
+            return false;
+        }
+
+        int water = 0;
+        for (int x = -CAPACITY_RADIUS; x <= CAPACITY_RADIUS; x++)
+        {
+            for (int z = -CAPACITY_RADIUS; z <= CAPACITY_RADIUS; z++)
+            {
+                final BlockPos surface = pos.add(x, 0, z);
+                final IBlockState state = world.getBlockState(surface);
+                if (state.getBlock() == Blocks.WATER && world.isAirBlock(surface.up()))
+                {
+                    water++;
+                }
+            }
+        }
+        spot.capacity = Math.max(1, water / WATER_PER_FISHERMAN);
+        return true;
+    }
+
+    /**
+     * Check if a citizen is still a fisherman fishing at a spot, else its reservation is stale.
+     *
+     * @param citizenId the id of the citizen.
+     * @param pos       the reserved spot.
+     * @return true if so.
+     */
+    private boolean isFishingAt(final int citizenId, @NotNull final BlockPos pos)
+    {
+        final ICitizenData citizen = colony.getCitizenManager().getCitizen(citizenId);
+        return citizen != null && citizen.getJob() instanceof JobFisherman && pos.equals(((JobFisherman) citizen.getJob()).getWater());
+    }
+
+    /**
+     * A fishing spot.
+     */
+    private static final class Spot
+    {
+        /**
+         * Capacity of a spot which wasn't validated yet.
+         */
+        private static final int UNCHECKED = -1;
+
+        /**
+         * The amount of fishermen which can fish at the spot, or {@link #UNCHECKED}.
+         */
+        private int capacity = UNCHECKED;
+    }
+}
@@ -4,6 +4,7 @@ import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.entity.ai.statemachine.AITarget;
 import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.entity.pathfinding.PathResult;
 import com.minecolonies.api.entity.pathfinding.WaterPathResult;
 import com.minecolonies.api.sounds.FishermanSounds;
 import com.minecolonies.api.util.InventoryUtils;
@@ -15,6 +16,7 @@ import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingFisherm
 import com.minecolonies.coremod.colony.jobs.JobFisherman;
 import com.minecolonies.coremod.entity.EntityFishHook;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAISkill;
+import com.minecolonies.coremod.entity.pathfinding.PathJobFindWater;
 import com.minecolonies.coremod.util.WorkerUtil;
 import net.minecraft.init.Blocks;
 import net.minecraft.init.Items;
@@ -24,11 +26,14 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextComponentTranslation;
 import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
 
 import static com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState.*;
@@ -149,6 +154,23 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
     @Nullable
     private WaterPathResult lastPathResult;
 
+    /**
+     * A spot taken from the fishing spots of the colony, used once the path to it was found.
+     */
+    @Nullable
+    private BlockPos pendingSpot;
+
+    /**
+     * The path to the pending spot.
+     */
+    @Nullable
+    private PathResult spotPath;
+
+    /**
+     * If the ponds the fisherman remembers were added to the ponds of the colony.
+     */
+    private boolean addedKnownPonds = false;
+
     /**
      * The fishingSkill which directly influences the fisherman's chance to throw his rod.
      * May in the future also influence his luck/charisma.
@@ -347,6 +369,7 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
         }
         if (executedRotations >= MAX_ROTATIONS)
         {
+            getPondIndex().remove(job.getWater());
             job.removeFromPonds(job.getWater());
             job.setWater(null);
             executedRotations = 0;
@@ -370,6 +393,11 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
 
         //Reset executedRotations when fisherman searches a new Pond
         executedRotations = 0;
+        if (!addedKnownPonds)
+        {
+            job.getPonds().forEach(getPondIndex()::addCandidate);
+            addedKnownPonds = true;
+        }
         //If he can't find any pond, tell that to the player
         //If 20 ponds are already stored, take a random stored location
         if (job.getPonds().size() >= MAX_PONDS)
@@ -401,7 +429,19 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
 
             return START_WORKING;
         }
-        job.setWater(job.getPonds().get(random.nextInt(job.getPonds().size())));
+
+        // Prefer a pond which isn't full yet.
+        final List<BlockPos> ponds = job.getPonds();
+        Collections.shuffle(ponds, random);
+        for (final BlockPos pond : ponds)
+        {
+            if (getPondIndex().reserve(worker.getCitizenData(), pond))
+            {
+                job.setWater(pond);
+                return FISHERMAN_CHECK_WATER;
+            }
+        }
+        job.setWater(ponds.get(0));
 
         return FISHERMAN_CHECK_WATER;
     }
@@ -414,8 +454,28 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
      */
     private IAIState findNewWater()
     {
+        if (spotPath != null)
+        {
+            return checkSpotPath();
+        }
         if (pathResult == null)
         {
+            // Ponds already known to the colony don't need a path search.
+            final BlockPos known = getPondIndex().reserveNearest(
+              worker.getCitizenData(),
+              getOwnBuilding().getPosition(),
+              PathJobFindWater.MAX_RANGE,
+              job.getPonds(),
+              PathJobFindWater.MIN_DISTANCE);
+            if (known != null)
+            {
+                // The index only knows the distance to the spot, make sure it can be reached before fishing there.
+                pendingSpot = known;
+                worker.getNavigator().clearPath();
+                spotPath = worker.getNavigator().moveToXYZ(known.getX(), known.getY(), known.getZ(), 1.0D);
+                return getState();
+            }
+
             pathResult = worker.getNavigator().moveToWater(SEARCH_RANGE, 1.0D, job.getPonds());
             return getState();
         }
@@ -427,6 +487,7 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
         {
             if (pathResult.pond != null)
             {
+                getPondIndex().reserve(worker.getCitizenData(), pathResult.pond);
                 job.setWater(pathResult.pond);
                 job.addToPonds(pathResult.pond);
             }
@@ -442,6 +503,45 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
         return getState();
     }
 
+    /**
+     * Wait for the path to a spot taken from the fishing spots of the colony.
+     * A spot which can't be reached is released and skipped for a while, and the fisherman looks for another one.
+     *
+     * @return the next IAIState the fisherman should switch to, after executing this method.
+     */
+    private IAIState checkSpotPath()
+    {
+        if (spotPath.isComputing())
+        {
+            return getState();
+        }
+
+        final boolean unreachable = !spotPath.isCancelled() && !spotPath.isPathReachingDestination();
+        final BlockPos spot = pendingSpot;
+        spotPath = null;
+        pendingSpot = null;
+        if (unreachable)
+        {
+            getPondIndex().releaseUnreachable(worker.getCitizenData());
+            return getState();
+        }
+
+        job.setWater(spot);
+        job.addToPonds(spot);
+        return FISHERMAN_CHECK_WATER;
+    }
+
+    /**
+     * Get the fishing spots of the colony of the fisherman.
+     *
+     * @return the pond index.
+     */
+    @NotNull
+    private ColonyPondIndex getPondIndex()
+    {
+        return ColonyPondIndex.get(worker.getCitizenColonyHandler().getColony(), world);
+    }
+
     /**
      * Main fishing methods,
      * let's the fisherman gather xp orbs next to him,
@@ -472,6 +572,7 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
 
             if (random.nextDouble() < CHANCE_NEW_POND)
             {
+                getPondIndex().release(worker.getCitizenData());
                 job.setWater(null);
                 return FISHERMAN_SEARCHING_WATER;
             }
@@ -586,6 +687,7 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
 
         if (world.getBlockState(worker.getPosition()).getBlock() == Blocks.WATER)
         {
+            getPondIndex().remove(job.getWater());
             job.removeFromPonds(job.getWater());
             job.setWater(null);
             return FISHERMAN_SEARCHING_WATER;
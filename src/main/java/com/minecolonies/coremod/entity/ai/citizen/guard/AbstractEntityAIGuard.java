@@ -3,7 +3,6 @@ package com.minecolonies.coremod.entity.ai.citizen.guard;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.IGuardBuilding;
-import com.minecolonies.api.colony.buildings.views.MobEntryView;
 import com.minecolonies.api.colony.permissions.Action;
 import com.minecolonies.api.entity.ai.citizen.guards.GuardTask;
 import com.minecolonies.api.entity.ai.statemachine.AIOneTimeEventTarget;
@@ -446,6 +445,8 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard> extends
         reduceAttackDelay(1);
 
         final IColony colony = worker.getCitizenColonyHandler().getColony();
+        final ColonyThreatIndex threats = colony == null ? null : ColonyThreatIndex.get(colony, world);
+
         if (worker.getLastAttackedEntity() != null && !worker.getLastAttackedEntity().isDead)
         {
             if (!isWithinPersecutionDistance(worker.getLastAttackedEntity().getPosition()))
@@ -457,7 +458,7 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard> extends
 
         if (target != null)
         {
-            if ((!worker.canEntityBeSeen(target) && lastSeen < STOP_PERSECUTION_AFTER) || !isWithinPersecutionDistance(target.getPosition()))
+            if ((!(threats == null ? worker.canEntityBeSeen(target) : threats.canSee(worker, target)) && lastSeen < STOP_PERSECUTION_AFTER) || !isWithinPersecutionDistance(target.getPosition()))
             {
                 target = null;
             }
@@ -477,16 +478,16 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard> extends
                     if (citizen.getCitizenEntity().isPresent())
                     {
                         final EntityLivingBase entity = citizen.getCitizenEntity().get().getLastAttackedEntity();
-                        if (entity instanceof AbstractEntityMinecoloniesMob && worker.canEntityBeSeen(entity))
+                        if (entity instanceof AbstractEntityMinecoloniesMob && threats.canSee(worker, entity))
                         {
                             return entity;
                         }
-                        else if (entity instanceof EntityCitizen && worker.canEntityBeSeen(entity) && (((AbstractEntityCitizen) entity).getCitizenJobHandler()
+                        else if (entity instanceof EntityCitizen && threats.canSee(worker, entity) && (((AbstractEntityCitizen) entity).getCitizenJobHandler()
                                                                                                          .getColonyJob() instanceof AbstractJobGuard))
                         {
                             return entity;
                         }
-                        else if (entity instanceof EntityPlayer && worker.canEntityBeSeen(entity))
+                        else if (entity instanceof EntityPlayer && threats.canSee(worker, entity))
                         {
                             colony.isValidAttackingPlayer((EntityPlayer) entity);
                         }
@@ -494,18 +495,13 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard> extends
                 }
             }
 
-            final List<EntityLivingBase> targets = world.getEntitiesWithinAABB(EntityLivingBase.class, getSearchArea(),
-              entity -> buildingGuards.getMobsToAttack()
-                          .stream()
-                          .filter(MobEntryView::hasAttack)
-                          .anyMatch(mobEntry -> mobEntry.getEntityEntry().getEntityClass().isInstance(entity)));
-
+            final List<EntityLivingBase> targets = threats.getTargets(getSearchArea(), buildingGuards);
 
             int closest = Integer.MAX_VALUE;
             EntityLivingBase targetEntity = null;
             for (final EntityLivingBase entity : targets)
             {
-                if (worker.canEntityBeSeen(entity) && isWithinPersecutionDistance(entity.getPosition()))
+                if (threats.canSee(worker, entity) && isWithinPersecutionDistance(entity.getPosition()))
                 {
                     if (entity instanceof EntityPlayer && (colony.getPermissions().hasPermission((EntityPlayer) entity, Action.GUARDS_ATTACK)
                                                              || colony.isValidAttackingPlayer((EntityPlayer) entity)))
@@ -0,0 +1,231 @@
+package com.minecolonies.coremod.entity.ai.citizen.guard;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.IGuardBuilding;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.util.ClassInheritanceMultiMap;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * The living entities around the guards of a colony, shared by all its guards.
+ * The entities are collected per chunk section once per tick when a guard first looks at the section, a spawn drops its section for the rest of the tick.
+ * Line of sight checks are cached for a short time.
+ * Only accessed from the server thread.
+ */
+public final class ColonyThreatIndex
+{
+    /**
+     * The indices of the colonies of each world, by colony id.
+     */
+    private static final Map<World, Map<Integer, ColonyThreatIndex>> INDICES = new HashMap<>();
+
+    /**
+     * Ticks a line of sight check is reused.
+     */
+    private static final int LINE_OF_SIGHT_TICKS = 10;
+
+    /**
+     * Size of the line of sight cache after which expired entries are dropped.
+     */
+    private static final int LINE_OF_SIGHT_CLEANUP_SIZE = 1024;
+
+    /**
+     * The world of the colony.
+     */
+    private final World world;
+
+    /**
+     * The tick the section lists belong to.
+     */
+    private long sectionTick = -1;
+
+    /**
+     * The living entities of the sections looked at in this tick, by packed section position.
+     */
+    private final Map<Long, List<EntityLivingBase>> sections = new HashMap<>();
+
+    /**
+     * Cached line of sight results by packed viewer and target id, the expiry tick shifted left by one with the result in the lowest bit.
+     */
+    private final Map<Long, Long> lineOfSight = new HashMap<>();
+
+    /**
+     * Create the index of a colony.
+     *
+     * @param world the world of the colony.
+     */
+    private ColonyThreatIndex(@NotNull final World world)
+    {
+        this.world = world;
+    }
+
+    /**
+     * Get the index of a colony.
+     *
+     * @param colony the colony.
+     * @param world  the world the guards are in.
+     * @return the index.
+     */
+    @NotNull
+    public static ColonyThreatIndex get(@NotNull final IColony colony, @NotNull final World world)
+    {
+        return INDICES.computeIfAbsent(world, w -> new HashMap<>()).computeIfAbsent(colony.getID(), id -> new ColonyThreatIndex(world));
+    }
+
+    /**
+     * Drop the cached section of a living entity which spawned, so that guards see it in the same tick.
+     *
+     * @param entity the entity.
+     */
+    public static void onEntityAdded(@NotNull final EntityLivingBase entity)
+    {
+        final Map<Integer, ColonyThreatIndex> indices = INDICES.get(entity.world);
+        if (indices != null)
+        {
+            final long key = getSectionKey(entity.chunkCoordX, MathHelper.clamp(entity.chunkCoordY, 0, 15), entity.chunkCoordZ);
+            for (final ColonyThreatIndex index : indices.values())
+            {
+                index.sections.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Drop the indices of an unloaded world.
+     *
+     * @param world the world.
+     */
+    public static void onWorldUnload(@NotNull final World world)
+    {
+        INDICES.remove(world);
+    }
+
+    /**
+     * Drop the index of a deleted colony.
+     *
+     * @param world the world of the colony.
+     * @param id    the id of the colony.
+     */
+    public static void onColonyDeleted(@NotNull final World world, final int id)
+    {
+        final Map<Integer, ColonyThreatIndex> colonies = INDICES.get(world);
+        if (colonies != null)
+        {
+            colonies.remove(id);
+        }
+    }
+
+    /**
+     * Get the living entities in an area which a guard building attacks.
+     *
+     * @param area     the area.
+     * @param building the guard building.
+     * @return the alive entities.
+     */
+    @NotNull
+    public List<EntityLivingBase> getTargets(@NotNull final AxisAlignedBB area, @NotNull final IGuardBuilding building)
+    {
+        final long tick = world.getTotalWorldTime();
+        if (tick != sectionTick)
+        {
+            sectionTick = tick;
+            sections.clear();
+        }
+
+        final List<EntityLivingBase> targets = new ArrayList<>();
+        // Entities are filed by their position, their boxes may reach into the neighbouring sections.
+        final int minX = MathHelper.floor(area.minX - World.MAX_ENTITY_RADIUS) >> 4;
+        final int maxX = MathHelper.floor(area.maxX + World.MAX_ENTITY_RADIUS) >> 4;
+        final int minY = MathHelper.clamp(MathHelper.floor(area.minY - World.MAX_ENTITY_RADIUS) >> 4, 0, 15);
+        final int maxY = MathHelper.clamp(MathHelper.floor(area.maxY + World.MAX_ENTITY_RADIUS) >> 4, 0, 15);
+        final int minZ = MathHelper.floor(area.minZ - World.MAX_ENTITY_RADIUS) >> 4;
+        final int maxZ = MathHelper.floor(area.maxZ + World.MAX_ENTITY_RADIUS) >> 4;
+        for (int x = minX; x <= maxX; x++)
+        {
+            for (int z = minZ; z <= maxZ; z++)
+            {
+                for (int y = minY; y <= maxY; y++)
+                {
+                    for (final EntityLivingBase entity : getSection(x, y, z))
+                    {
+                        if (!entity.isDead && entity.getEntityBoundingBox().intersects(area) && building.isMobToAttack(entity))
+                        {
+                            targets.add(entity);
+                        }
+                    }
+                }
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * Check if an entity can see another one, reusing recent results.
+     *
+     * @param viewer the viewing entity.
+     * @param target the target.
+     * @return true if the target can be seen.
+     */
+    public boolean canSee(@NotNull final EntityLivingBase viewer, @NotNull final Entity target)
+    {
+        final long tick = world.getTotalWorldTime();
+        final long key = ((long) viewer.getEntityId() << Integer.SIZE) | (target.getEntityId() & 0xFFFFFFFFL);
+        final Long cached = lineOfSight.get(key);
+        if (cached != null && (cached >> 1) > tick)
+        {
+            return (cached & 1) != 0;
+        }
+
+        if (lineOfSight.size() >= LINE_OF_SIGHT_CLEANUP_SIZE)
+        {
+            lineOfSight.values().removeIf(entry -> (entry >> 1) <= tick);
+        }
+
+        final boolean visible = viewer.canEntityBeSeen(target);
+        lineOfSight.put(key, ((tick + LINE_OF_SIGHT_TICKS) << 1) | (visible ? 1 : 0));
+        return visible;
+    }
+
+    /**
+     * Get the living entities of a section, collecting them if they weren't in this tick.
+     *
+     * @return the entities, empty if the chunk isn't loaded.
+     */
+    @NotNull
+    private List<EntityLivingBase> getSection(final int x, final int y, final int z)
+    {
+        final long key = getSectionKey(x, y, z);
+        List<EntityLivingBase> entities = sections.get(key);
+        if (entities == null)
+        {
+            final Chunk chunk = world.getChunkProvider().getLoadedChunk(x, z);
+            if (chunk == null)
+            {
+                entities = Collections.emptyList();
+            }
+            else
+            {
+                final ClassInheritanceMultiMap<Entity> section = chunk.getEntityLists()[y];
+                entities = new ArrayList<>();
+                for (final EntityLivingBase entity : section.getByClass(EntityLivingBase.class))
+                {
+                    entities.add(entity);
+                }
+            }
+            sections.put(key, entities);
+        }
+        return entities;
+    }
+
+    private static long getSectionKey(final int x, final int y, final int z)
+    {
+        return ((long) x & 0x3FFFFFFL) << 38 | ((long) z & 0x3FFFFFFL) << 12 | (y & 0xFFF);
+    }
+}
@@ -0,0 +1,371 @@
+package com.minecolonies.coremod.entity.ai.citizen.lumberjack;
+
+import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.coremod.colony.jobs.JobLumberjack;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
+
+/**
+ * The known trees of a colony, shared by all its lumberjacks.
+ * Candidates are collected from loaded chunks, grown saplings, placed logs and the trees the lumberjacks found themselves.
+ * A candidate is only validated once a lumberjack considers it, and then stored under the base log of its tree.
+ * Every lumberjack reserves the tree it works on, so that no two of them pick the same one.
+ * Trees a lumberjack couldn't find a path to are skipped for a while.
+ * Only accessed from the server thread.
+ */
+public final class ColonyTreeIndex
+{
+    /**
+     * The indices of the colonies of each world, by colony id.
+     */
+    private static final Map<World, Map<Integer, ColonyTreeIndex>> INDICES = new HashMap<>();
+
+    /**
+     * Amount of candidates validated at most when a lumberjack looks for a tree.
+     */
+    private static final int MAX_CHECKS = 8;
+
+    /**
+     * Ticks during which a tree which couldn't be reached is skipped.
+     */
+    private static final long UNREACHABLE_COOLDOWN = 12000;
+
+    /**
+     * The colony of the index.
+     */
+    private final IColony colony;
+
+    /**
+     * The world of the colony.
+     */
+    private final World world;
+
+    /**
+     * The positions which might be the base of a tree.
+     */
+    private final Set<BlockPos> candidates = new HashSet<>();
+
+    /**
+     * The base of the reserved tree of each lumberjack, by citizen id.
+     */
+    private final Map<Integer, BlockPos> reservations = new HashMap<>();
+
+    /**
+     * The world time until which each tree which couldn't be reached is skipped, by base position.
+     */
+    private final Map<BlockPos, Long> unreachable = new HashMap<>();
+
+    /**
+     * Create the index of a colony.
+     *
+     * @param colony the colony.
+     * @param world  the world of the colony.
+     */
+    private ColonyTreeIndex(@NotNull final IColony colony, @NotNull final World world)
+    {
+        this.colony = colony;
+        this.world = world;
+    }
+
+    /**
+     * Get the index of a colony.
+     *
+     * @param colony the colony.
+     * @param world  the world the lumberjacks are in.
+     * @return the index.
+     */
+    @NotNull
+    public static ColonyTreeIndex get(@NotNull final IColony colony, @NotNull final World world)
+    {
+        return INDICES.computeIfAbsent(world, w -> new HashMap<>()).computeIfAbsent(colony.getID(), id -> new ColonyTreeIndex(colony, world));
+    }
+
+    /**
+     * Collect the tree candidates of a loaded chunk which belongs to a colony.
+     * Only the columns topped by leaves are walked down, and only within the chunk itself.
+     *
+     * @param chunk the loaded chunk.
+     * @param world the world of the chunk.
+     */
+    public static void onChunkLoad(@NotNull final Chunk chunk, @NotNull final World world)
+    {
+        final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
+        if (cap == null || cap.getOwningColony() == 0)
+        {
+            return;
+        }
+
+        final IColony colony = IColonyManager.getInstance().getColonyByDimension(cap.getOwningColony(), world.provider.getDimension());
+        if (colony == null)
+        {
+            return;
+        }
+
+        final ColonyTreeIndex index = get(colony, world);
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                final BlockPos base = findColumnBase(chunk, world, (chunk.x << 4) + x, chunk.getHeightValue(x, z) - 1, (chunk.z << 4) + z);
+                if (base != null)
+                {
+                    index.candidates.add(base);
+                }
+            }
+        }
+    }
+
+    /**
+     * Add a position which might be the base of a tree, if it is inside a colony.
+     * Called for grown saplings and placed logs, the position is validated once a lumberjack considers it.
+     *
+     * @param world the world.
+     * @param pos   the position.
+     */
+    public static void onTreeCandidate(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final IColony colony = IColonyManager.getInstance().getColonyByPosFromWorld(world, pos);
+        if (colony != null)
+        {
+            get(colony, world).candidates.add(pos.toImmutable());
+        }
+    }
+
+    /**
+     * Drop a broken block from the candidates.
+     *
+     * @param world the world.
+     * @param pos   the position of the block.
+     */
+    public static void onBlockBroken(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final Map<Integer, ColonyTreeIndex> indices = INDICES.get(world);
+        if (indices != null)
+        {
+            for (final ColonyTreeIndex index : indices.values())
+            {
+                index.candidates.remove(pos);
+            }
+        }
+    }
+
+    /**
+     * Drop the indices of an unloaded world.
+     *
+     * @param world the world.
+     */
+    public static void onWorldUnload(@NotNull final World world)
+    {
+        INDICES.remove(world);
+    }
+
+    /**
+     * Drop the index of a deleted colony.
+     *
+     * @param world the world of the colony.
+     * @param id    the id of the colony.
+     */
+    public static void onColonyDeleted(@NotNull final World world, final int id)
+    {
+        final Map<Integer, ColonyTreeIndex> colonies = INDICES.get(world);
+        if (colonies != null)
+        {
+            colonies.remove(id);
+        }
+    }
+
+    /**
+     * Find the nearest unreserved tree for a lumberjack and reserve it.
+     * Candidates which aren't a log anymore are dropped, trees the lumberjack isn't supposed to cut are kept for the others.
+     * Trees which couldn't be reached recently are skipped.
+     *
+     * @param citizen          the lumberjack.
+     * @param from             the position to measure the distance from.
+     * @param range            the maximum distance.
+     * @param startRestriction the start of the restricted area, or null if not restricted.
+     * @param endRestriction   the end of the restricted area, or null if not restricted.
+     * @param treesToNotCut    the trees the lumberjack isn't supposed to cut.
+     * @return the reserved tree, or null if the index knows none.
+     */
+    @Nullable
+    public Tree reserveNearest(
+      @NotNull final ICitizenData citizen,
+      @NotNull final BlockPos from,
+      final int range,
+      @Nullable final BlockPos startRestriction,
+      @Nullable final BlockPos endRestriction,
+      @NotNull final List<ItemStorage> treesToNotCut)
+    {
+        reservations.remove(citizen.getId());
+        reservations.keySet().removeIf(id -> !isWorkingOnTree(id));
+        final long now = world.getTotalWorldTime();
+        unreachable.values().removeIf(until -> until <= now);
+
+        final long maxDistance = (long) range * range;
+        final List<BlockPos> inRange = new ArrayList<>();
+        for (final BlockPos pos : candidates)
+        {
+            if (pos.distanceSq(from) <= maxDistance && isInRestriction(pos, startRestriction, endRestriction)
+                  && !reservations.containsValue(pos) && !unreachable.containsKey(pos))
+            {
+                inRange.add(pos);
+            }
+        }
+        inRange.sort(Comparator.comparingDouble(pos -> pos.distanceSq(from)));
+
+        int checks = 0;
+        for (final BlockPos pos : inRange)
+        {
+            if (!world.isBlockLoaded(pos))
+            {
+                continue;
+            }
+            if (++checks > MAX_CHECKS)
+            {
+                break;
+            }
+
+            if (!world.getBlockState(pos).getBlock().isWood(world, pos))
+            {
+                candidates.remove(pos);
+                continue;
+            }
+
+            if (Tree.checkTree(world, pos, treesToNotCut) && Tree.checkIfInColonyAndNotInBuilding(pos, colony))
+            {
+                final Tree tree = new Tree(world, pos);
+                if (tree.isTree() && !reservations.containsValue(tree.getLocation()) && !unreachable.containsKey(tree.getLocation()))
+                {
+                    candidates.remove(pos);
+                    candidates.add(tree.getLocation());
+                    reservations.put(citizen.getId(), tree.getLocation());
+                    return tree;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Add a tree a lumberjack found by itself and reserve it.
+     *
+     * @param citizen the lumberjack.
+     * @param tree    the tree.
+     */
+    public void reserve(@NotNull final ICitizenData citizen, @NotNull final Tree tree)
+    {
+        candidates.add(tree.getLocation());
+        reservations.put(citizen.getId(), tree.getLocation());
+    }
+
+    /**
+     * Release the reservation of a lumberjack whose tree couldn't be reached, the tree is skipped for a while.
+     *
+     * @param citizen the lumberjack.
+     */
+    public void releaseUnreachable(@NotNull final ICitizenData citizen)
+    {
+        final BlockPos pos = reservations.remove(citizen.getId());
+        if (pos != null)
+        {
+            unreachable.put(pos, world.getTotalWorldTime() + UNREACHABLE_COOLDOWN);
+        }
+    }
+
+    /**
+     * Release the reservation of a lumberjack, dropping its tree if it was cut.
+     *
+     * @param citizen the lumberjack.
+     * @param cut     true if the tree was cut down.
+     */
+    public void release(@NotNull final ICitizenData citizen, final boolean cut)
+    {
+        final BlockPos pos = reservations.remove(citizen.getId());
+        if (pos != null && cut)
+        {
+            candidates.remove(pos);
+        }
+    }
+
+    /**
+     * Check if a citizen is still a lumberjack working on a tree, else its reservation is stale.
+     *
+     * @param citizenId the id of the citizen.
+     * @return true if so.
+     */
+    private boolean isWorkingOnTree(final int citizenId)
+    {
+        final ICitizenData citizen = colony.getCitizenManager().getCitizen(citizenId);
+        if (citizen == null || !(citizen.getJob() instanceof JobLumberjack))
+        {
+            return false;
+        }
+        return ((JobLumberjack) citizen.getJob()).tree != null;
+    }
+
+    /**
+     * Check if a position lies within the restricted area of a lumberjack.
+     *
+     * @param pos   the position.
+     * @param start the start of the area, or null if not restricted.
+     * @param end   the end of the area, or null if not restricted.
+     * @return true if so.
+     */
+    private static boolean isInRestriction(@NotNull final BlockPos pos, @Nullable final BlockPos start, @Nullable final BlockPos end)
+    {
+        if (start == null || end == null)
+        {
+            return true;
+        }
+        return pos.getX() >= Math.min(start.getX(), end.getX()) && pos.getX() <= Math.max(start.getX(), end.getX())
+                 && pos.getZ() >= Math.min(start.getZ(), end.getZ()) && pos.getZ() <= Math.max(start.getZ(), end.getZ());
+    }
+
+    /**
+     * Walk down a column topped by leaves to the lowest log of its trunk.
+     *
+     * @param chunk the chunk of the column.
+     * @param world the world.
+     * @param x     the x coordinate.
+     * @param top   the y coordinate of the highest block.
+     * @param z     the z coordinate.
+     * @return the lowest log on solid ground, or null if the column isn't a tree.
+     */
+    @Nullable
+    private static BlockPos findColumnBase(@NotNull final Chunk chunk, @NotNull final World world, final int x, final int top, final int z)
+    {
+        if (top <= 0 || chunk.getBlockState(x, top, z).getMaterial() != Material.LEAVES)
+        {
+            return null;
+        }
+
+        BlockPos base = null;
+        for (int y = top - 1; y > 0; y--)
+        {
+            final BlockPos pos = new BlockPos(x, y, z);
+            final IBlockState state = chunk.getBlockState(pos);
+            if (state.getBlock().isWood(world, pos))
+            {
+                base = pos;
+            }
+            else if (state.getMaterial() != Material.LEAVES)
+            {
+                return base != null && state.getMaterial().isSolid() ? base : null;
+            }
+        }
+        return null;
+    }
+}
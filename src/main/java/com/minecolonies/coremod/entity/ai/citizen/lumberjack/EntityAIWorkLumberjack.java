@@ -5,6 +5,7 @@ import com.minecolonies.api.compatibility.Compatibility;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.entity.ai.statemachine.AITarget;
 import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
+import com.minecolonies.api.entity.pathfinding.PathResult;
 import com.minecolonies.api.entity.pathfinding.TreePathResult;
 import com.minecolonies.api.util.*;
 import com.minecolonies.api.util.constant.ToolType;
@@ -173,6 +174,12 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
      */
     @Nullable
     private TreePathResult pathResult;
+
+    /**
+     * The path to a tree taken from the colony trees, checked before the tree is chopped.
+     */
+    @Nullable
+    private PathResult treePath;
     /**
      * A counter by how much the tree search radius
      * has been increased by now.
@@ -276,6 +283,12 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
 
             return findTree();
         }
+        if (treePath != null)
+        {
+            return checkTreePath();
+        }
+        // Keep the tree reserved, the reservations aren't saved with the colony.
+        ColonyTreeIndex.get(worker.getCitizenColonyHandler().getColony(), world).reserve(worker.getCitizenData(), job.tree);
         return LUMBERJACK_CHOP_TREE;
     }
 
@@ -300,7 +313,35 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
 
             final BuildingLumberjack buildingLumberjack = (BuildingLumberjack) building;
             final Map<String, List<ItemStorage>> copy = buildingLumberjack.getCopyOfAllowedItems();
-            if (buildingLumberjack.shouldRestrict())
+
+            // Trees already known to the colony don't need a path search.
+            final boolean restrict = buildingLumberjack.shouldRestrict();
+            final Tree known = ColonyTreeIndex.get(worker.getCitizenColonyHandler().getColony(), world).reserveNearest(
+              worker.getCitizenData(),
+              worker.getPosition(),
+              restrict ? SEARCH_LIMIT : SEARCH_RANGE + searchIncrement,
+              restrict ? buildingLumberjack.getStartRestriction() : null,
+              restrict ? buildingLumberjack.getEndRestriction() : null,
+              copy.getOrDefault(SAPLINGS_LIST, Collections.emptyList()));
+            if (known != null)
+            {
+                job.tree = known;
+                job.tree.findLogs(world);
+                pathResult = null;
+                searchIncrement = 0;
+                if (job.tree.getStumpLocations().isEmpty())
+                {
+                    return LUMBERJACK_CHOP_TREE;
+                }
+
+                // The index only knows the distance to the tree, make sure it can be reached before chopping it.
+                workFrom = getWorkingPosition(job.tree.getStumpLocations().get(0));
+                worker.getNavigator().clearPath();
+                treePath = worker.getNavigator().moveToXYZ(workFrom.getX(), workFrom.getY(), workFrom.getZ(), 1.0D);
+                return getState();
+            }
+
+            if (restrict)
             {
                 final BlockPos startPos = buildingLumberjack.getStartRestriction();
                 final BlockPos endPos = buildingLumberjack.getEndRestriction();
@@ -334,6 +375,31 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
         return getState();
     }
 
+    /**
+     * Wait for the path to a tree taken from the colony trees.
+     * A tree which can't be reached is released and skipped for a while, and the lumberjack looks for another one.
+     *
+     * @return the next state.
+     */
+    private IAIState checkTreePath()
+    {
+        if (treePath.isComputing())
+        {
+            return getState();
+        }
+
+        final boolean unreachable = !treePath.isCancelled() && !treePath.isPathReachingDestination();
+        treePath = null;
+        if (unreachable)
+        {
+            ColonyTreeIndex.get(worker.getCitizenColonyHandler().getColony(), world).releaseUnreachable(worker.getCitizenData());
+            job.tree = null;
+            workFrom = null;
+            return getState();
+        }
+        return LUMBERJACK_CHOP_TREE;
+    }
+
     private IAIState setNewTree()
     {
         if (pathResult.treeLocation == null)
@@ -353,6 +419,7 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
             if (job.tree.isTree())
             {
                 job.tree.findLogs(world);
+                ColonyTreeIndex.get(worker.getCitizenColonyHandler().getColony(), world).reserve(worker.getCitizenData(), job.tree);
             }
             else
             {
@@ -421,8 +488,7 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
             }
             else
             {
-                job.tree = null;
-                checkedInHut = false;
+                finishTree();
             }
             incrementActionsDoneAndDecSaturation();
             building.getColony().getStatsManager().incrementStatistic("trees");
@@ -544,11 +610,20 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
     {
         if (plantSapling(job.tree.getLocation()))
         {
-            job.tree = null;
-            checkedInHut = false;
+            finishTree();
         }
     }
 
+    /**
+     * Finish the current tree, it is cut down and released from the colony trees.
+     */
+    private void finishTree()
+    {
+        ColonyTreeIndex.get(worker.getCitizenColonyHandler().getColony(), world).release(worker.getCitizenData(), true);
+        job.tree = null;
+        checkedInHut = false;
+    }
+
     /**
      * Check if the worker is standing on a sapling.
      *
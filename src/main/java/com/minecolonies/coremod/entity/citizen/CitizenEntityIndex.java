@@ -0,0 +1,152 @@
+package com.minecolonies.coremod.entity.citizen;
+
+import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Index of the loaded citizen entities of the server worlds by colony and citizen id.
+ * Maintained by the world listener on entity addition and removal, and by the citizens when their ids change.
+ * Only accessed from the server thread.
+ */
+public final class CitizenEntityIndex
+{
+    /**
+     * The loaded citizens of each world, by their packed colony and citizen id.
+     */
+    private static final Map<World, Map<Long, List<AbstractEntityCitizen>>> CITIZENS = new HashMap<>();
+
+    /**
+     * The key each indexed citizen is stored under.
+     * Identity based, as citizens with the same ids are equal.
+     */
+    private static final Map<AbstractEntityCitizen, Long> KEYS = new IdentityHashMap<>();
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private CitizenEntityIndex()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Index a citizen which was added to its world.
+     *
+     * @param citizen the citizen.
+     */
+    public static void onEntityAdded(@NotNull final AbstractEntityCitizen citizen)
+    {
+        if (citizen.world.isRemote)
+        {
+            return;
+        }
+
+        remove(citizen);
+        final long key = getKey(citizen.getCitizenColonyHandler().getColonyId(), citizen.getCitizenId());
+        CITIZENS.computeIfAbsent(citizen.world, world -> new HashMap<>()).computeIfAbsent(key, k -> new ArrayList<>()).add(citizen);
+        KEYS.put(citizen, key);
+    }
+
+    /**
+     * Remove a citizen which was removed from its world.
+     *
+     * @param citizen the citizen.
+     */
+    public static void onEntityRemoved(@NotNull final AbstractEntityCitizen citizen)
+    {
+        remove(citizen);
+    }
+
+    /**
+     * Move a citizen to its new key after its colony or citizen id changed.
+     *
+     * @param citizen the citizen.
+     */
+    public static void onIdChanged(@NotNull final AbstractEntityCitizen citizen)
+    {
+        if (KEYS.containsKey(citizen))
+        {
+            onEntityAdded(citizen);
+        }
+    }
+
+    /**
+     * Drop the index of an unloaded world.
+     *
+     * @param world the world.
+     */
+    public static void onWorldUnload(@NotNull final World world)
+    {
+        final Map<Long, List<AbstractEntityCitizen>> citizens = CITIZENS.remove(world);
+        if (citizens != null)
+        {
+            citizens.values().forEach(list -> list.forEach(KEYS::remove));
+        }
+    }
+
+    /**
+     * Get the loaded citizen entities of a citizen, usually one, more if duplicates exist.
+     *
+     * @param world     the world.
+     * @param colonyId  the colony id.
+     * @param citizenId the citizen id.
+     * @return a copy of the living citizen entities.
+     */
+    @NotNull
+    public static List<AbstractEntityCitizen> getCitizens(@NotNull final World world, final int colonyId, final int citizenId)
+    {
+        final Map<Long, List<AbstractEntityCitizen>> citizens = CITIZENS.get(world);
+        if (citizens == null)
+        {
+            return Collections.emptyList();
+        }
+
+        final List<AbstractEntityCitizen> entities = citizens.get(getKey(colonyId, citizenId));
+        if (entities == null)
+        {
+            return Collections.emptyList();
+        }
+
+        final List<AbstractEntityCitizen> living = new ArrayList<>(entities.size());
+        for (final AbstractEntityCitizen entity : entities)
+        {
+            if (!entity.isDead)
+            {
+                living.add(entity);
+            }
+        }
+        return living;
+    }
+
+    private static void remove(@NotNull final AbstractEntityCitizen citizen)
+    {
+        final Long key = KEYS.remove(citizen);
+        if (key == null)
+        {
+            return;
+        }
+
+        for (final Map<Long, List<AbstractEntityCitizen>> citizens : CITIZENS.values())
+        {
+            final List<AbstractEntityCitizen> entities = citizens.get(key);
+            if (entities != null && entities.removeIf(entity -> entity == citizen))
+            {
+                if (entities.isEmpty())
+                {
+                    citizens.remove(key);
+                }
+                return;
+            }
+        }
+    }
+
+    private static long getKey(final int colonyId, final int citizenId)
+    {
+        return ((long) colonyId << Integer.SIZE) | (citizenId & 0xFFFFFFFFL);
+    }
+}
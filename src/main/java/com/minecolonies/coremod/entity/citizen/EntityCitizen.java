@@ -1253,6 +1253,7 @@ public class EntityCitizen extends AbstractEntityCitizen
     public void setCitizenId(final int id)
     {
         this.citizenId = id;
+        CitizenEntityIndex.onIdChanged(this);
     }
 
     /**
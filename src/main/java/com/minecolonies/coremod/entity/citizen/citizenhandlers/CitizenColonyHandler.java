@@ -10,6 +10,7 @@ import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.entity.citizen.citizenhandlers.ICitizenColonyHandler;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingHome;
+import com.minecolonies.coremod.entity.citizen.CitizenEntityIndex;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
 import net.minecraft.entity.SharedMonsterAttributes;
 import net.minecraft.util.Tuple;
@@ -88,6 +89,7 @@ public class CitizenColonyHandler implements ICitizenColonyHandler
 
         colony = c;
         colonyId = colony.getID();
+        CitizenEntityIndex.onIdChanged(citizen);
         citizen.setCitizenId(data.getId());
         citizen.setCitizenData(data);
         data.setCitizenEntity(citizen);
@@ -139,6 +141,7 @@ public class CitizenColonyHandler implements ICitizenColonyHandler
             else
             {
                 this.colonyId = colony.getID();
+                CitizenEntityIndex.onIdChanged(citizen);
                 handleNullColony();
             }
             return;
@@ -270,6 +273,7 @@ public class CitizenColonyHandler implements ICitizenColonyHandler
     public void setColonyId(final int colonyId)
     {
         this.colonyId = colonyId;
+        CitizenEntityIndex.onIdChanged(citizen);
     }
 
     /**
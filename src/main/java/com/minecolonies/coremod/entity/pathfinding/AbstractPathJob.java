@@ -1,14 +1,18 @@
 package com.minecolonies.coremod.entity.pathfinding;
 
-import com.minecolonies.api.blocks.AbstractBlockBarrel;
 import com.minecolonies.api.blocks.decorative.AbstractBlockMinecoloniesConstructionTape;
 import com.minecolonies.api.blocks.huts.AbstractBlockMinecoloniesDefault;
+import com.minecolonies.api.colony.jobs.IJob;
 import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.entity.mobs.AbstractEntityMinecoloniesMob;
 import com.minecolonies.api.entity.pathfinding.PathResult;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
+import com.minecolonies.coremod.entity.mobs.EntityMercenary;
 import net.minecraft.block.*;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
@@ -21,7 +25,6 @@ import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
-import net.minecraft.world.ChunkCache;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
@@ -85,14 +88,30 @@ public abstract class AbstractPathJob implements Callable<Path>
     private static final double TOO_FAR_FROM_FENCE = 0.9D;
 
     /**
-     * Shift x by this value to calculate the node key..
+     * Amount of bits of the x and z coordinates used in the node key.
      */
-    private static final int SHIFT_X_BY = 20;
+    private static final int NUM_XZ_BITS = 26;
 
     /**
-     * Shift the y value by this to calculate the node key..
+     * Amount of bits of the y coordinate used in the node key.
      */
-    private static final int SHIFT_Y_BY = 12;
+    private static final int NUM_Y_BITS = 12;
+
+    /**
+     * Shift x by this value to calculate the node key.
+     */
+    private static final int SHIFT_X_BY = NUM_Y_BITS + NUM_XZ_BITS;
+
+    /**
+     * Shift the y value by this to calculate the node key.
+     */
+    private static final int SHIFT_Y_BY = NUM_XZ_BITS;
+
+    /**
+     * Masks applied to the coordinates to calculate the node key.
+     */
+    private static final long XZ_MASK = (1L << NUM_XZ_BITS) - 1L;
+    private static final long Y_MASK  = (1L << NUM_Y_BITS) - 1L;
 
     @Nullable
     protected static Set<Node>          lastDebugNodesVisited;
@@ -103,11 +122,16 @@ public abstract class AbstractPathJob implements Callable<Path>
     @NotNull
     protected final  BlockPos           start;
     @NotNull
-    protected final  IBlockAccess       world;
+    protected final  SnapshotBlockAccess world;
     protected final  PathResult         result;
     private final    int                maxRange;
-    private final    Queue<Node>        nodesOpen                    = new PriorityQueue<>(500);
-    private final    Map<Integer, Node> nodesVisited                 = new HashMap<>();
+    private          NodeHeap           nodesOpen;
+    private          NodeMap            nodesVisited;
+    private          NodeArena          nodeArena;
+    /**
+     * Position reused while walking to the neighbours of a node.
+     */
+    private final    BlockPos.MutableBlockPos walkPos              = new BlockPos.MutableBlockPos();
     //  Debug Rendering
     protected        boolean            debugDrawEnabled             = false;
     @Nullable
@@ -173,7 +197,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         final int maxX = Math.max(start.getX(), end.getX()) + (range / 2);
         final int maxZ = Math.max(start.getZ(), end.getZ()) + (range / 2);
 
-        this.world = new ChunkCache(world, new BlockPos(minX, MIN_Y, minZ), new BlockPos(maxX, MAX_Y, maxZ), range);
+        this.world = new SnapshotBlockAccess(world, new BlockPos(minX, MIN_Y, minZ), new BlockPos(maxX, MAX_Y, maxZ), range);
 
         this.start = new BlockPos(start);
         this.maxRange = range;
@@ -214,7 +238,7 @@ public abstract class AbstractPathJob implements Callable<Path>
 
         final int range = (int)Math.sqrt(Math.pow(maxX - minX, 2) + Math.pow(maxZ - minZ, 2)) * 2;
 
-        this.world = new ChunkCache(world, new BlockPos(minX, MIN_Y, minZ), new BlockPos(maxX, MAX_Y, maxZ), range);
+        this.world = new SnapshotBlockAccess(world, new BlockPos(minX, MIN_Y, minZ), new BlockPos(maxX, MAX_Y, maxZ), range);
 
         this.start = new BlockPos((minX + maxX) / 2, (startRestriction.getY() + endRestriction.getY()) / 2, (minZ + maxZ) / 2);
         this.maxRange = range;
@@ -343,20 +367,19 @@ public abstract class AbstractPathJob implements Callable<Path>
     }
 
     /**
-     * Generate a pseudo-unique key for identifying a given node by it's coordinates
-     * Encodes the lowest 12 bits of x,z and all useful bits of y.
-     * This creates unique keys for all blocks within a 4096x256x4096 cube, which is FAR
-     * bigger volume than one should attempt to pathfind within
-     * This version takes a BlockPos
+     * Generate a unique key for identifying a given node by it's coordinates.
+     * Uses the same layout as {@link BlockPos#toLong()}, so it is unique for all positions in the world.
      *
-     * @param pos BlockPos to generate key from
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @param z the z coordinate.
      * @return key for node in map
      */
-    private static int computeNodeKey(@NotNull final BlockPos pos)
+    private static long computeNodeKey(final int x, final int y, final int z)
     {
-        return ((pos.getX() & 0xFFF) << SHIFT_X_BY)
-                 | ((pos.getY() & 0xFF) << SHIFT_Y_BY)
-                 | (pos.getZ() & 0xFFF);
+        return (((long) x & XZ_MASK) << SHIFT_X_BY)
+                 | (((long) y & Y_MASK) << SHIFT_Y_BY)
+                 | ((long) z & XZ_MASK);
     }
 
     /**
@@ -368,10 +391,25 @@ public abstract class AbstractPathJob implements Callable<Path>
      * @return cost to move from the parent to the new position.
      */
     protected static double computeCost(@NotNull final BlockPos dPos, final boolean isSwimming, final boolean onPath)
+    {
+        return computeCost(dPos.getX(), dPos.getY(), dPos.getZ(), isSwimming, onPath);
+    }
+
+    /**
+     * Compute the cost (immediate 'g' value) of moving from the parent space to the new space.
+     *
+     * @param dx         the x delta from the parent to the new space.
+     * @param dy         the y delta from the parent to the new space.
+     * @param dz         the z delta from the parent to the new space.
+     * @param isSwimming true is the current node would require the citizen to swim.
+     * @param onPath     checks if the node is on a path.
+     * @return cost to move from the parent to the new position.
+     */
+    private static double computeCost(final int dx, final int dy, final int dz, final boolean isSwimming, final boolean onPath)
     {
         double cost = 1D;
 
-        if (dPos.getY() != 0 && (dPos.getX() != 0 || dPos.getZ() != 0))
+        if (dy != 0 && (dx != 0 || dz != 0))
         {
             //  Tax the cost for jumping, dropping (warning: also taxes stairs)
             cost *= JUMP_DROP_COST;
@@ -406,9 +444,14 @@ public abstract class AbstractPathJob implements Callable<Path>
         return node != null && node.isClosed();
     }
 
-    private static boolean calculateSwimming(@NotNull final IBlockAccess world, @NotNull final BlockPos pos, @Nullable final Node node)
+    private static boolean calculateSwimming(@NotNull final SnapshotBlockAccess world, @NotNull final BlockPos pos, @Nullable final Node node)
     {
-        return (node == null) ? world.getBlockState(pos.down()).getMaterial().isLiquid() : node.isSwimming();
+        return (node == null) ? isLiquid(world, pos.getX(), pos.getY() - 1, pos.getZ()) : node.isSwimming();
+    }
+
+    private static boolean isLiquid(@NotNull final SnapshotBlockAccess world, final int x, final int y, final int z)
+    {
+        return (world.getWalkFlags(x, y, z) & WalkClassification.LIQUID) != 0;
     }
 
     public PathResult getResult()
@@ -416,6 +459,65 @@ public abstract class AbstractPathJob implements Callable<Path>
         return result;
     }
 
+    /**
+     * Get the maximum range of the search around start and destination.
+     *
+     * @return the range.
+     */
+    protected int getMaxRange()
+    {
+        return maxRange;
+    }
+
+    /**
+     * Get the key under which the path of this job can be cached and shared with identical jobs.
+     * Jobs whose result depends on more than start, destination and range must not be cached.
+     *
+     * @return the key or null if the path can't be cached.
+     */
+    @Nullable
+    public PathCacheKey getCacheKey()
+    {
+        return null;
+    }
+
+    /**
+     * Get the entity this job belongs to.
+     *
+     * @return the entity or null.
+     */
+    @Nullable
+    public EntityLivingBase getEntity()
+    {
+        return entity;
+    }
+
+    /**
+     * Get the priority with which this job is calculated.
+     * Guards and raid participants path first, citizens without a job last.
+     *
+     * @return the priority.
+     */
+    @NotNull
+    public PathPriority getPriority()
+    {
+        if (entity instanceof AbstractEntityCitizen)
+        {
+            final AbstractEntityCitizen citizen = (AbstractEntityCitizen) entity;
+            final IJob job = citizen.getCitizenJobHandler() == null ? null : citizen.getCitizenJobHandler().getColonyJob();
+            if (job instanceof AbstractJobGuard)
+            {
+                return PathPriority.HIGH;
+            }
+            return job == null ? PathPriority.LOW : PathPriority.NORMAL;
+        }
+        if (entity instanceof EntityMercenary || entity instanceof AbstractEntityMinecoloniesMob)
+        {
+            return PathPriority.HIGH;
+        }
+        return PathPriority.NORMAL;
+    }
+
     /**
      * Callable method for initiating asynchronous task.
      *
@@ -445,6 +547,11 @@ public abstract class AbstractPathJob implements Callable<Path>
     @Nullable
     protected Path search()
     {
+        nodeArena = NodeArena.get();
+        nodeArena.reset();
+        nodesOpen = nodeArena.getOpenNodes();
+        nodesVisited = nodeArena.getVisitedNodes();
+
         Node bestNode = getAndSetupStartNode();
 
         double bestNodeResultScore = getNodeResultScore(bestNode);
@@ -592,20 +699,20 @@ public abstract class AbstractPathJob implements Callable<Path>
     @NotNull
     private Node getAndSetupStartNode()
     {
-        @NotNull final Node startNode = new Node(start,
-                                                  computeHeuristic(start));
+        final double heuristic = computeHeuristic(start);
+        @NotNull final Node startNode = obtainNode(null, start.getX(), start.getY(), start.getZ(), 0, heuristic, heuristic);
 
         if (isLadder(start))
         {
             startNode.setLadder();
         }
-        else if (world.getBlockState(start).getMaterial().isLiquid())
+        else if (isLiquid(world, start.getX(), start.getY(), start.getZ()))
         {
             startNode.setSwimming();
         }
 
         nodesOpen.offer(startNode);
-        nodesVisited.put(computeNodeKey(start), startNode);
+        nodesVisited.put(computeNodeKey(start.getX(), start.getY(), start.getZ()), startNode);
 
         ++totalNodesAdded;
 
@@ -745,17 +852,22 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     protected final boolean walk(@NotNull final Node parent, @NotNull final BlockPos dPos)
     {
-        BlockPos pos = parent.pos.add(dPos);
+        final int x = parent.pos.getX() + dPos.getX();
+        int y = parent.pos.getY() + dPos.getY();
+        final int z = parent.pos.getZ() + dPos.getZ();
 
         final Block block = world.getBlockState(parent.pos).getBlock();
         if (block == Blocks.FARMLAND || block == Blocks.GRASS_PATH)
         {
-            pos = pos.up();
+            y++;
         }
 
+        //  Neighbours are evaluated on a reused position, the node copies it once created
+        final BlockPos.MutableBlockPos pos = walkPos.setPos(x, y, z);
+
         //  Cheap test to perform before doing a 'y' test
         //  Has this node been visited?
-        int nodeKey = computeNodeKey(pos);
+        long nodeKey = computeNodeKey(x, y, z);
         Node node = nodesVisited.get(nodeKey);
 
         //  Can we traverse into this node?  Fix the y up
@@ -766,15 +878,16 @@ public abstract class AbstractPathJob implements Callable<Path>
             return false;
         }
 
-        BlockPos yFix = BlockPos.ORIGIN;
+        int yFix = 0;
 
-        if (pos.getY() != newY)
+        if (y != newY)
         {
-            yFix = dPos.add(0, newY - pos.getY(), 0);
+            yFix = newY - y;
 
             //  Has this node been visited?
-            pos = new BlockPos(pos.getX(), newY, pos.getZ());
-            nodeKey = computeNodeKey(pos);
+            y = newY;
+            pos.setPos(x, y, z);
+            nodeKey = computeNodeKey(x, y, z);
             node = nodesVisited.get(nodeKey);
             if (nodeClosed(node))
             {
@@ -784,9 +897,9 @@ public abstract class AbstractPathJob implements Callable<Path>
         }
 
         final boolean isSwimming = calculateSwimming(world, pos, node);
-        final boolean onRoad = BlockUtils.isPathBlock(world.getBlockState(pos.down()).getBlock());
+        final boolean onRoad = BlockUtils.isPathBlock(world.getBlockState(x, y - 1, z).getBlock());
         //  Cost may have changed due to a jump up or drop
-        final double stepCost = computeCost(dPos.add(yFix), isSwimming, onRoad);
+        final double stepCost = computeCost(dPos.getX(), dPos.getY() + yFix, dPos.getZ(), isSwimming, onRoad);
         final double heuristic = computeHeuristic(pos);
         final double cost = parent.getCost() + stepCost;
         final double score = cost + heuristic;
@@ -794,15 +907,13 @@ public abstract class AbstractPathJob implements Callable<Path>
         if (node == null)
         {
             node = createNode(parent, pos, nodeKey, isSwimming, heuristic, cost, score);
+            nodesOpen.offer(node);
         }
         else if (updateCurrentNode(parent, node, heuristic, cost, score))
         {
-
             return false;
         }
 
-        nodesOpen.offer(node);
-
         //  Jump Point Search-ish optimization:
         // If this node was a (heuristic-based) improvement on our parent,
         // lets go another step in the same direction...
@@ -821,18 +932,17 @@ public abstract class AbstractPathJob implements Callable<Path>
 
     @NotNull
     private Node createNode(
-                             final Node parent, @NotNull final BlockPos pos, final int nodeKey,
+                             final Node parent, @NotNull final BlockPos pos, final long nodeKey,
                              final boolean isSwimming, final double heuristic, final double cost, final double score)
     {
-        final Node node;
-        node = new Node(parent, pos, cost, heuristic, score);
+        final Node node = obtainNode(parent, pos.getX(), pos.getY(), pos.getZ(), cost, heuristic, score);
         nodesVisited.put(nodeKey, node);
         if (debugDrawEnabled)
         {
             debugNodesNotVisited.add(node);
         }
 
-        if (isLadder(pos))
+        if (isLadder(node.pos))
         {
             node.setLadder();
         }
@@ -846,6 +956,29 @@ public abstract class AbstractPathJob implements Callable<Path>
         return node;
     }
 
+    /**
+     * Obtain a node from the arena of the thread.
+     * The debug renderer keeps the nodes after the search, those are therefore never recycled.
+     *
+     * @param parent    parent node arrives from.
+     * @param x         the x coordinate of the node.
+     * @param y         the y coordinate of the node.
+     * @param z         the z coordinate of the node.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     * @param score     node total score.
+     * @return the node.
+     */
+    @NotNull
+    private Node obtainNode(@Nullable final Node parent, final int x, final int y, final int z, final double cost, final double heuristic, final double score)
+    {
+        if (debugDrawEnabled)
+        {
+            return new Node().reset(parent, x, y, z, cost, heuristic, score);
+        }
+        return nodeArena.obtain(parent, x, y, z, cost, heuristic, score);
+    }
+
     private boolean updateCurrentNode(@NotNull final Node parent, @NotNull final Node node, final double heuristic, final double cost, final double score)
     {
         //  This node already exists
@@ -854,7 +987,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             return true;
         }
 
-        if (!nodesOpen.remove(node))
+        if (!nodesOpen.contains(node))
         {
             return true;
         }
@@ -864,6 +997,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         node.setCost(cost);
         node.setHeuristic(heuristic);
         node.setScore(score);
+        nodesOpen.decreaseKey(node);
         return false;
     }
 
@@ -892,7 +1026,8 @@ public abstract class AbstractPathJob implements Callable<Path>
 
         //  Do we have something to stand on in the target space?
         final IBlockState below = world.getBlockState(pos.down());
-        final SurfaceType walkability = isWalkableSurface(below, pos);
+        final int belowFlags = world.getWalkFlags(pos.down());
+        final SurfaceType walkability = isWalkableSurface(below, belowFlags, pos);
         if (walkability == SurfaceType.WALKABLE)
         {
             //  Level path
@@ -903,16 +1038,16 @@ public abstract class AbstractPathJob implements Callable<Path>
             return -1;
         }
 
-        return handleNotStanding(parent, pos, below);
+        return handleNotStanding(parent, pos, below, belowFlags);
     }
 
-    private int handleNotStanding(@Nullable final Node parent, @NotNull final BlockPos pos, @NotNull final IBlockState below)
+    private int handleNotStanding(@Nullable final Node parent, @NotNull final BlockPos pos, @NotNull final IBlockState below, final int belowFlags)
     {
         final boolean isSwimming = parent != null && parent.isSwimming();
 
-        if (below.getMaterial().isLiquid())
+        if ((belowFlags & WalkClassification.LIQUID) != 0)
         {
-            return handleInLiquid(pos, below, isSwimming);
+            return handleInLiquid(pos, belowFlags, isSwimming);
         }
 
         if (isLadder(below.getBlock(), pos.down()))
@@ -935,12 +1070,13 @@ public abstract class AbstractPathJob implements Callable<Path>
         for (int i = 2; i <= 4; i++)
         {
             final IBlockState below = world.getBlockState(pos.down(i));
-            if (isWalkableSurface(below, pos) == SurfaceType.WALKABLE)
+            final int belowFlags = world.getWalkFlags(pos.down(i));
+            if (isWalkableSurface(below, belowFlags, pos) == SurfaceType.WALKABLE)
             {
                 //  Level path
                 return pos.getY() - i + 1;
             }
-            else if (below.getMaterial() != Material.AIR)
+            else if ((belowFlags & WalkClassification.AIR) == 0)
             {
                 return -1;
             }
@@ -949,7 +1085,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         return -1;
     }
 
-    private int handleInLiquid(@NotNull final BlockPos pos, @NotNull final IBlockState below, final boolean isSwimming)
+    private int handleInLiquid(@NotNull final BlockPos pos, final int belowFlags, final boolean isSwimming)
     {
         if (isSwimming)
         {
@@ -957,7 +1093,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             return pos.getY();
         }
 
-        if (allowSwimming && below.getMaterial() == Material.WATER)
+        if (allowSwimming && (belowFlags & WalkClassification.WATER) != 0)
         {
             //  This is water, and we are allowed to swim
             return pos.getY();
@@ -971,7 +1107,7 @@ public abstract class AbstractPathJob implements Callable<Path>
     {
         final boolean canJump = parent != null && !parent.isLadder() && !parent.isSwimming();
         //  Need to try jumping up one, if we can
-        if (!canJump || isWalkableSurface(target, pos) != SurfaceType.WALKABLE)
+        if (!canJump || isWalkableSurface(target, world.getWalkFlags(pos), pos) != SurfaceType.WALKABLE)
         {
             return -1;
         }
@@ -1008,8 +1144,7 @@ public abstract class AbstractPathJob implements Callable<Path>
 
         if (parent != null)
         {
-            final IBlockState hereState = world.getBlockState(parent.pos.down());
-            return hereState.getMaterial().isLiquid() && !isPassable(pos);
+            return isLiquid(world, parent.pos.getX(), parent.pos.getY() - 1, parent.pos.getZ()) && !isPassable(pos);
         }
         return false;
     }
@@ -1042,42 +1177,44 @@ public abstract class AbstractPathJob implements Callable<Path>
 
     protected boolean isPassable(final BlockPos pos)
     {
-        final IBlockState state = world.getBlockState(pos);
-        if (state.getBlock().isPassable(world, pos))
+        //  The flag matches isPassable of the state, which subclasses only extend
+        if ((world.getWalkFlags(pos) & WalkClassification.PASSABLE) != 0)
         {
             return true;
         }
-        return isPassable(state);
+
+        final IBlockState state = world.getBlockState(pos);
+        return state.getBlock().isPassable(world, pos) || isPassable(state);
     }
 
     /**
      * Is the block solid and can be stood upon.
      *
      * @param blockState Block to check.
+     * @param flags      the {@link WalkClassification} of the block.
      * @param pos the position.
      * @return true if the block at that location can be walked on.
      */
     @NotNull
-    protected SurfaceType isWalkableSurface(@NotNull final IBlockState blockState, final BlockPos pos)
+    protected SurfaceType isWalkableSurface(@NotNull final IBlockState blockState, final int flags, final BlockPos pos)
     {
-        final Block block = blockState.getBlock();
-        if (block instanceof BlockFence
-              || block instanceof BlockFenceGate
-              || block instanceof BlockWall
-              || block instanceof AbstractBlockMinecoloniesDefault
-              || block instanceof AbstractBlockBarrel
-              || (blockState.getCollisionBoundingBox(world, pos) != null
-                   && blockState.getCollisionBoundingBox(world, pos).maxY > 1.0))
+        if ((flags & WalkClassification.FENCE) != 0)
+        {
+            return SurfaceType.NOT_PASSABLE;
+        }
+
+        final AxisAlignedBB bb = blockState.getCollisionBoundingBox(world, pos);
+        if (bb != null && bb.maxY > 1.0)
         {
             return SurfaceType.NOT_PASSABLE;
         }
 
-        if (block instanceof AbstractBlockMinecoloniesConstructionTape)
+        if ((flags & WalkClassification.TAPE) != 0)
         {
             return SurfaceType.DROPABLE;
         }
 
-        if (blockState.getMaterial().isSolid())
+        if ((flags & WalkClassification.SOLID) != 0)
         {
             return SurfaceType.WALKABLE;
         }
@@ -1099,6 +1236,11 @@ public abstract class AbstractPathJob implements Callable<Path>
 
     protected boolean isLadder(final BlockPos pos)
     {
+        //  Ladders depend on the position and entity, only air is known not to be one
+        if ((world.getWalkFlags(pos) & WalkClassification.AIR) != 0)
+        {
+            return false;
+        }
         return isLadder(world.getBlockState(pos).getBlock(), pos);
     }
 
@@ -0,0 +1,187 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Immutable, palette compressed copy of a 16x16x16 chunk section.
+ * Sections with up to 256 distinct states store one byte per block, others one short.
+ */
+public final class ChunkSectionSnapshot
+{
+    /**
+     * The size of a section in each direction.
+     */
+    private static final int SECTION_SIZE = 16;
+
+    /**
+     * Amount of blocks in a section.
+     */
+    private static final int SECTION_VOLUME = SECTION_SIZE * SECTION_SIZE * SECTION_SIZE;
+
+    /**
+     * Amount of palette entries which can be indexed by a byte.
+     */
+    private static final int BYTE_PALETTE_SIZE = 256;
+
+    /**
+     * Mask of the local coordinate inside of a section.
+     */
+    private static final int LOCAL_MASK = 0xF;
+
+    /**
+     * Snapshot of a section which contains only air.
+     */
+    public static final ChunkSectionSnapshot EMPTY = new ChunkSectionSnapshot(new IBlockState[] {Blocks.AIR.getDefaultState()}, null, null);
+
+    /**
+     * The distinct states of the section.
+     */
+    private final IBlockState[] palette;
+
+    /**
+     * The walk classification of each palette entry.
+     */
+    private final byte[] classification;
+
+    /**
+     * Palette index per block if the palette fits into a byte.
+     */
+    @Nullable
+    private final byte[] byteIndices;
+
+    /**
+     * Palette index per block otherwise.
+     */
+    @Nullable
+    private final short[] shortIndices;
+
+    /**
+     * Create a new snapshot.
+     *
+     * @param palette      the palette.
+     * @param byteIndices  the byte indices or null.
+     * @param shortIndices the short indices or null.
+     */
+    private ChunkSectionSnapshot(@NotNull final IBlockState[] palette, @Nullable final byte[] byteIndices, @Nullable final short[] shortIndices)
+    {
+        this.palette = palette;
+        this.byteIndices = byteIndices;
+        this.shortIndices = shortIndices;
+        this.classification = new byte[palette.length];
+        for (int i = 0; i < palette.length; i++)
+        {
+            classification[i] = WalkClassification.classify(palette[i]);
+        }
+    }
+
+    /**
+     * Capture the content of a section.
+     *
+     * @param storage the section storage, may be null or empty.
+     * @return the snapshot.
+     */
+    @NotNull
+    public static ChunkSectionSnapshot capture(@Nullable final ExtendedBlockStorage storage)
+    {
+        if (storage == null || storage.isEmpty())
+        {
+            return EMPTY;
+        }
+
+        final Map<IBlockState, Integer> paletteIndex = new IdentityHashMap<>();
+        final int[] indices = new int[SECTION_VOLUME];
+        for (int y = 0; y < SECTION_SIZE; y++)
+        {
+            for (int z = 0; z < SECTION_SIZE; z++)
+            {
+                for (int x = 0; x < SECTION_SIZE; x++)
+                {
+                    final IBlockState state = storage.get(x, y, z);
+                    Integer index = paletteIndex.get(state);
+                    if (index == null)
+                    {
+                        index = paletteIndex.size();
+                        paletteIndex.put(state, index);
+                    }
+                    indices[index(x, y, z)] = index;
+                }
+            }
+        }
+
+        final IBlockState[] palette = new IBlockState[paletteIndex.size()];
+        for (final Map.Entry<IBlockState, Integer> entry : paletteIndex.entrySet())
+        {
+            palette[entry.getValue()] = entry.getKey();
+        }
+
+        if (palette.length <= BYTE_PALETTE_SIZE)
+        {
+            final byte[] byteIndices = new byte[SECTION_VOLUME];
+            for (int i = 0; i < SECTION_VOLUME; i++)
+            {
+                byteIndices[i] = (byte) indices[i];
+            }
+            return new ChunkSectionSnapshot(palette, byteIndices, null);
+        }
+
+        final short[] shortIndices = new short[SECTION_VOLUME];
+        for (int i = 0; i < SECTION_VOLUME; i++)
+        {
+            shortIndices[i] = (short) indices[i];
+        }
+        return new ChunkSectionSnapshot(palette, null, shortIndices);
+    }
+
+    /**
+     * Get the state at a position, only the lowest 4 bits of each coordinate are used.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @param z the z coordinate.
+     * @return the state.
+     */
+    @NotNull
+    public IBlockState getBlockState(final int x, final int y, final int z)
+    {
+        return palette[paletteIndex(x, y, z)];
+    }
+
+    /**
+     * Get the {@link WalkClassification} at a position, only the lowest 4 bits of each coordinate are used.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @param z the z coordinate.
+     * @return the classification flags.
+     */
+    public int getWalkFlags(final int x, final int y, final int z)
+    {
+        return classification[paletteIndex(x, y, z)];
+    }
+
+    private int paletteIndex(final int x, final int y, final int z)
+    {
+        final int index = index(x & LOCAL_MASK, y & LOCAL_MASK, z & LOCAL_MASK);
+        if (byteIndices != null)
+        {
+            return byteIndices[index] & 0xFF;
+        }
+        if (shortIndices != null)
+        {
+            return shortIndices[index] & 0xFFFF;
+        }
+        return 0;
+    }
+
+    private static int index(final int x, final int y, final int z)
+    {
+        return (y << 8) | (z << 4) | x;
+    }
+}
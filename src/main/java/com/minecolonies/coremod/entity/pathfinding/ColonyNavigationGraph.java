@@ -0,0 +1,761 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.colony.IColonyTagCapability;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
+
+/**
+ * Coarse navigation graph over the colony claimed chunks of a dimension.
+ * The walkable cells of each chunk are grouped into regions, cells of a region are connected inside of the chunk.
+ * Neighbouring chunks are connected by portals, the walkable crossings of their shared border, grouped into segments per pair of regions.
+ * Long routes are planned over the portals by the path jobs and then walked leg by leg.
+ * The regions and portals are computed on first use, off the server thread, and computed again once a block of their chunks changed.
+ */
+public class ColonyNavigationGraph
+{
+    /**
+     * Size of a chunk in blocks.
+     */
+    private static final int CHUNK_SIZE = 16;
+
+    /**
+     * Amount of sections in a chunk.
+     */
+    private static final int SECTIONS_PER_CHUNK = 16;
+
+    /**
+     * Blocks below the height map which are scanned for walkable cells.
+     */
+    private static final int SCAN_DEPTH = 24;
+
+    /**
+     * Height of the world.
+     */
+    private static final int MAX_Y = 256;
+
+    /**
+     * Max amount of route nodes to expand.
+     */
+    private static final int MAX_EXPANDED_NODES = 4096;
+
+    /**
+     * Max distance between two waypoints of a route, has to stay well inside of the range of a path job.
+     */
+    private static final int MAX_LEG_LENGTH = 40;
+
+    /**
+     * Cost of crossing a portal.
+     */
+    private static final int PORTAL_COST = 1;
+
+    /**
+     * Region of a position which isn't a known walkable cell.
+     */
+    private static final int NO_REGION = -1;
+
+    /**
+     * Incremented on every block change, the version of each chunk without cached regions.
+     */
+    private final AtomicLong baseVersion = new AtomicLong();
+
+    /**
+     * The version of each chunk with cached regions, dropped together with its regions when one of its blocks changes.
+     */
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    /**
+     * The regions of each chunk.
+     */
+    private final Map<Long, ChunkRegions> regions = new ConcurrentHashMap<>();
+
+    /**
+     * The portals between each chunk and its eastern neighbour, by chunk.
+     */
+    private final Map<Long, Edge> eastEdges = new ConcurrentHashMap<>();
+
+    /**
+     * The portals between each chunk and its southern neighbour, by chunk.
+     */
+    private final Map<Long, Edge> southEdges = new ConcurrentHashMap<>();
+
+    /**
+     * Plan a route over the colony between two positions, called by the path jobs.
+     * All chunks of the route but the start and destination chunk have to be claimed by a colony and inside of the area of the block access.
+     *
+     * @param access      the block access of the path job.
+     * @param start       the start position.
+     * @param destination the destination.
+     * @return the waypoints of the route, ending with the destination, or null if there is none.
+     */
+    @Nullable
+    public List<BlockPos> findRoute(@NotNull final SnapshotBlockAccess access, @NotNull final BlockPos start, @NotNull final BlockPos destination)
+    {
+        final int destChunkX = destination.getX() >> 4;
+        final int destChunkZ = destination.getZ() >> 4;
+
+        //  The regions used by this route, each chunk is resolved once so the region ids stay consistent
+        final Map<Long, ChunkRegions> route = new HashMap<>();
+        final ChunkRegions startRegions = getRegions(access, route, start.getX() >> 4, start.getZ() >> 4, start, destination);
+        final int startRegion = startRegions == null ? NO_REGION : startRegions.getRegion(start);
+        if (startRegion == NO_REGION)
+        {
+            return null;
+        }
+
+        //  An unknown destination cell, like a block inside of a hut, is assumed to be reachable from every region of its chunk
+        final ChunkRegions destRegions = getRegions(access, route, destChunkX, destChunkZ, start, destination);
+        final int destRegion = destRegions == null ? NO_REGION : destRegions.getRegion(destination);
+
+        final PriorityQueue<RouteNode> open = new PriorityQueue<>();
+        final Map<BlockPos, Integer> bestCost = new HashMap<>();
+        open.add(new RouteNode(start, startRegion, null, 0, distance(start, destination)));
+        bestCost.put(start, 0);
+
+        int expanded = 0;
+        while (!open.isEmpty() && expanded < MAX_EXPANDED_NODES)
+        {
+            final RouteNode node = open.poll();
+            if (node.pos.equals(destination))
+            {
+                return toWaypoints(start, node);
+            }
+
+            final Integer best = bestCost.get(node.pos);
+            if (best != null && best < node.cost)
+            {
+                continue;
+            }
+            expanded++;
+
+            final int chunkX = node.pos.getX() >> 4;
+            final int chunkZ = node.pos.getZ() >> 4;
+            if (chunkX == destChunkX && chunkZ == destChunkZ && (destRegion == NO_REGION || destRegion == node.region))
+            {
+                offer(open, bestCost, new RouteNode(destination, destRegion, node, node.cost + distance(node.pos, destination), 0));
+            }
+
+            //  The portals of all four borders, seen from this chunk
+            expandEdge(open, bestCost, node, destination, getEdge(access, route, chunkX, chunkZ, true, start, destination), true);
+            expandEdge(open, bestCost, node, destination, getEdge(access, route, chunkX, chunkZ, false, start, destination), true);
+            expandEdge(open, bestCost, node, destination, getEdge(access, route, chunkX - 1, chunkZ, true, start, destination), false);
+            expandEdge(open, bestCost, node, destination, getEdge(access, route, chunkX, chunkZ - 1, false, start, destination), false);
+        }
+        return null;
+    }
+
+    /**
+     * Mark the chunk containing a changed block as changed, its regions and portals are computed again on next use.
+     * Called on the server thread after the section snapshots were invalidated.
+     *
+     * @param pos the position of the block.
+     */
+    public void invalidate(@NotNull final BlockPos pos)
+    {
+        final int chunkX = pos.getX() >> 4;
+        final int chunkZ = pos.getZ() >> 4;
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        //  Every later version is higher than any version handed out so far, scans which were running become outdated
+        versions.compute(key, (k, version) ->
+        {
+            baseVersion.incrementAndGet();
+            regions.remove(k);
+            return null;
+        });
+
+        eastEdges.remove(key);
+        southEdges.remove(key);
+        eastEdges.remove(ChunkPos.asLong(chunkX - 1, chunkZ));
+        southEdges.remove(ChunkPos.asLong(chunkX, chunkZ - 1));
+    }
+
+    /**
+     * Get the amount of borders with computed portals.
+     *
+     * @return the amount.
+     */
+    public int size()
+    {
+        return eastEdges.size() + southEdges.size();
+    }
+
+    private static void expandEdge(
+      @NotNull final PriorityQueue<RouteNode> open,
+      @NotNull final Map<BlockPos, Integer> bestCost,
+      @NotNull final RouteNode node,
+      @NotNull final BlockPos destination,
+      @Nullable final List<Portal> portals,
+      final boolean fromLower)
+    {
+        if (portals == null)
+        {
+            return;
+        }
+
+        for (final Portal portal : portals)
+        {
+            //  Only portals connected to the region the node is in can be walked to
+            if ((fromLower ? portal.lowerRegion : portal.upperRegion) != node.region)
+            {
+                continue;
+            }
+
+            final BlockPos near = fromLower ? portal.lower : portal.upper;
+            final BlockPos far = fromLower ? portal.upper : portal.lower;
+            final int cost = node.cost + distance(node.pos, near) + PORTAL_COST;
+            offer(open, bestCost, new RouteNode(far, fromLower ? portal.upperRegion : portal.lowerRegion, node, cost, distance(far, destination)));
+        }
+    }
+
+    private static void offer(@NotNull final PriorityQueue<RouteNode> open, @NotNull final Map<BlockPos, Integer> bestCost, @NotNull final RouteNode node)
+    {
+        final Integer best = bestCost.get(node.pos);
+        if (best == null || node.cost < best)
+        {
+            bestCost.put(node.pos, node.cost);
+            open.add(node);
+        }
+    }
+
+    private long getVersion(final long key)
+    {
+        final Long version = versions.get(key);
+        return version == null ? baseVersion.get() : version;
+    }
+
+    /**
+     * Get the regions of a chunk, computing them if they are missing or outdated.
+     *
+     * @param access      the block access of the path job.
+     * @param route       the regions already used by the route.
+     * @param chunkX      the chunk x.
+     * @param chunkZ      the chunk z.
+     * @param start       the start of the route, its chunk may be unclaimed.
+     * @param destination the destination of the route, its chunk may be unclaimed.
+     * @return the regions or null if the chunk can't be navigated.
+     */
+    @Nullable
+    private ChunkRegions getRegions(
+      @NotNull final SnapshotBlockAccess access,
+      @NotNull final Map<Long, ChunkRegions> route,
+      final int chunkX,
+      final int chunkZ,
+      @NotNull final BlockPos start,
+      @NotNull final BlockPos destination)
+    {
+        final Chunk chunk = getNavigableChunk(access, chunkX, chunkZ, start, destination);
+        if (chunk == null)
+        {
+            return null;
+        }
+
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        final ChunkRegions used = route.get(key);
+        if (used != null)
+        {
+            return used;
+        }
+
+        //  The version is read before the snapshots, a block change during the scan leaves the result outdated
+        final long version = getVersion(key);
+        final ChunkRegions cached = regions.get(key);
+        if (cached != null && cached.version == version)
+        {
+            route.put(key, cached);
+            return cached;
+        }
+
+        final ChunkRegions computed = computeRegions(new ChunkView(access.getWorld(), chunk), version);
+        //  Only cached if the chunk is still at the version it was scanned at, its version is kept from then on
+        versions.compute(key, (k, current) ->
+        {
+            if ((current == null ? baseVersion.get() : current) != version)
+            {
+                return current;
+            }
+            regions.put(k, computed);
+            return version;
+        });
+        route.put(key, computed);
+        return computed;
+    }
+
+    /**
+     * Get the portals of a border, computing them if they are missing or outdated.
+     *
+     * @param access      the block access of the path job.
+     * @param route       the regions already used by the route.
+     * @param chunkX      the x of the western or northern chunk.
+     * @param chunkZ      the z of the western or northern chunk.
+     * @param east        true for the eastern border, false for the southern one.
+     * @param start       the start of the route, its chunk may be unclaimed.
+     * @param destination the destination of the route, its chunk may be unclaimed.
+     * @return the portals or null if the border can't be crossed.
+     */
+    @Nullable
+    private List<Portal> getEdge(
+      @NotNull final SnapshotBlockAccess access,
+      @NotNull final Map<Long, ChunkRegions> route,
+      final int chunkX,
+      final int chunkZ,
+      final boolean east,
+      @NotNull final BlockPos start,
+      @NotNull final BlockPos destination)
+    {
+        final int otherX = east ? chunkX + 1 : chunkX;
+        final int otherZ = east ? chunkZ : chunkZ + 1;
+        final ChunkRegions lower = getRegions(access, route, chunkX, chunkZ, start, destination);
+        final ChunkRegions upper = lower == null ? null : getRegions(access, route, otherX, otherZ, start, destination);
+        if (upper == null)
+        {
+            return null;
+        }
+
+        //  The portals only depend on the regions, they belong to the versions of the regions they were computed from
+        final Map<Long, Edge> edges = east ? eastEdges : southEdges;
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        final Edge cached = edges.get(key);
+        if (cached != null && cached.lowerVersion == lower.version && cached.upperVersion == upper.version)
+        {
+            return cached.portals;
+        }
+
+        final Edge computed = new Edge(computePortals(lower, upper, chunkX, chunkZ, east), lower.version, upper.version);
+        edges.merge(key, computed, (old, now) -> now.lowerVersion >= old.lowerVersion && now.upperVersion >= old.upperVersion ? now : old);
+        return computed.portals;
+    }
+
+    @Nullable
+    private static Chunk getNavigableChunk(
+      @NotNull final SnapshotBlockAccess access,
+      final int chunkX,
+      final int chunkZ,
+      @NotNull final BlockPos start,
+      @NotNull final BlockPos destination)
+    {
+        final Chunk chunk = access.getChunk(chunkX, chunkZ);
+        if (chunk == null)
+        {
+            return null;
+        }
+
+        if ((chunkX == start.getX() >> 4 && chunkZ == start.getZ() >> 4) || (chunkX == destination.getX() >> 4 && chunkZ == destination.getZ() >> 4))
+        {
+            return chunk;
+        }
+
+        final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
+        return cap != null && cap.getOwningColony() != 0 ? chunk : null;
+    }
+
+    /**
+     * Group the walkable cells of a chunk into regions, cells of a region can be walked between without leaving the chunk.
+     *
+     * @param chunk   the chunk.
+     * @param version the version of the chunk.
+     * @return the regions.
+     */
+    @NotNull
+    private static ChunkRegions computeRegions(@NotNull final ChunkView chunk, final long version)
+    {
+        final Map<Integer, Integer> cells = new HashMap<>();
+        for (int x = 0; x < CHUNK_SIZE; x++)
+        {
+            for (int z = 0; z < CHUNK_SIZE; z++)
+            {
+                final int top = Math.min(MAX_Y - 2, chunk.getHeight(x, z) + 1);
+                for (int y = top; y > Math.max(0, top - SCAN_DEPTH); y--)
+                {
+                    if (chunk.canStand(x, y, z))
+                    {
+                        cells.put(localKey(x, y, z), NO_REGION);
+                    }
+                }
+            }
+        }
+
+        int regionCount = 0;
+        final Deque<Integer> queue = new ArrayDeque<>();
+        for (final Map.Entry<Integer, Integer> cell : cells.entrySet())
+        {
+            if (cell.getValue() != NO_REGION)
+            {
+                continue;
+            }
+
+            final int region = regionCount++;
+            cell.setValue(region);
+            queue.add(cell.getKey());
+            while (!queue.isEmpty())
+            {
+                final int current = queue.poll();
+                final int x = current & 0xF;
+                final int z = (current >> 4) & 0xF;
+                final int y = current >> 8;
+                flood(cells, queue, region, x + 1, y, z);
+                flood(cells, queue, region, x - 1, y, z);
+                flood(cells, queue, region, x, y, z + 1);
+                flood(cells, queue, region, x, y, z - 1);
+            }
+        }
+        return new ChunkRegions(cells, version);
+    }
+
+    /**
+     * Add the walkable cells of a column next to a cell to its region, one block up or down.
+     */
+    private static void flood(@NotNull final Map<Integer, Integer> cells, @NotNull final Deque<Integer> queue, final int region, final int x, final int y, final int z)
+    {
+        if (x < 0 || x >= CHUNK_SIZE || z < 0 || z >= CHUNK_SIZE)
+        {
+            return;
+        }
+
+        for (int dy = -1; dy <= 1; dy++)
+        {
+            final int key = localKey(x, y + dy, z);
+            final Integer neighbour = cells.get(key);
+            if (neighbour != null && neighbour == NO_REGION)
+            {
+                cells.put(key, region);
+                queue.add(key);
+            }
+        }
+    }
+
+    /**
+     * Find the walkable crossings of the border between two chunks and group them into portals.
+     *
+     * @param lower  the regions of the western or northern chunk.
+     * @param upper  the regions of the eastern or southern chunk.
+     * @param chunkX the x of the western or northern chunk.
+     * @param chunkZ the z of the western or northern chunk.
+     * @param east   true if the upper chunk is east of the lower one.
+     * @return the portals, one per segment of adjacent crossings between the same regions.
+     */
+    @NotNull
+    private static List<Portal> computePortals(@NotNull final ChunkRegions lower, @NotNull final ChunkRegions upper, final int chunkX, final int chunkZ, final boolean east)
+    {
+        final List<List<Portal>> segments = new ArrayList<>();
+        List<List<Portal>> previous = new ArrayList<>();
+
+        for (int i = 0; i < CHUNK_SIZE; i++)
+        {
+            final int lowerX = chunkX * CHUNK_SIZE + (east ? CHUNK_SIZE - 1 : i);
+            final int lowerZ = chunkZ * CHUNK_SIZE + (east ? i : CHUNK_SIZE - 1);
+            final int upperX = east ? lowerX + 1 : lowerX;
+            final int upperZ = east ? lowerZ : lowerZ + 1;
+
+            final List<List<Portal>> current = new ArrayList<>();
+            for (int y = MAX_Y - 2; y > 0; y--)
+            {
+                final int lowerRegion = lower.getRegion(lowerX, y, lowerZ);
+                if (lowerRegion == NO_REGION)
+                {
+                    continue;
+                }
+
+                for (int dy = -1; dy <= 1; dy++)
+                {
+                    final int upperRegion = upper.getRegion(upperX, y + dy, upperZ);
+                    if (upperRegion != NO_REGION)
+                    {
+                        final Portal portal = new Portal(new BlockPos(lowerX, y, lowerZ), lowerRegion, new BlockPos(upperX, y + dy, upperZ), upperRegion);
+                        current.add(extendSegment(segments, previous, portal));
+                        break;
+                    }
+                }
+            }
+            previous = current;
+        }
+
+        final List<Portal> portals = new ArrayList<>(segments.size());
+        for (final List<Portal> segment : segments)
+        {
+            portals.add(segment.get(segment.size() / 2));
+        }
+        return portals;
+    }
+
+    /**
+     * Add a crossing to the segment of an adjacent crossing of the previous column between the same regions, or start a new segment.
+     */
+    @NotNull
+    private static List<Portal> extendSegment(@NotNull final List<List<Portal>> segments, @NotNull final List<List<Portal>> previous, @NotNull final Portal portal)
+    {
+        for (final Iterator<List<Portal>> it = previous.iterator(); it.hasNext(); )
+        {
+            final List<Portal> segment = it.next();
+            final Portal last = segment.get(segment.size() - 1);
+            if (last.lowerRegion == portal.lowerRegion && last.upperRegion == portal.upperRegion)
+            {
+                it.remove();
+                segment.add(portal);
+                return segment;
+            }
+        }
+
+        final List<Portal> segment = new ArrayList<>();
+        segment.add(portal);
+        segments.add(segment);
+        return segment;
+    }
+
+    private static int localKey(final int x, final int y, final int z)
+    {
+        return (y << 8) | ((z & 0xF) << 4) | (x & 0xF);
+    }
+
+    private static boolean isOpen(final int flags)
+    {
+        return (flags & WalkClassification.PASSABLE) != 0 && (flags & WalkClassification.LIQUID) == 0;
+    }
+
+    private static int distance(@NotNull final BlockPos from, @NotNull final BlockPos to)
+    {
+        return Math.abs(from.getX() - to.getX()) + Math.abs(from.getY() - to.getY()) + Math.abs(from.getZ() - to.getZ());
+    }
+
+    /**
+     * Turn the portals of a route into waypoints, skipping portals as long as the legs stay short enough.
+     */
+    @NotNull
+    private static List<BlockPos> toWaypoints(@NotNull final BlockPos start, @NotNull final RouteNode end)
+    {
+        final List<BlockPos> route = new ArrayList<>();
+        for (RouteNode node = end; node != null && node.parent != null; node = node.parent)
+        {
+            route.add(node.pos);
+        }
+        Collections.reverse(route);
+
+        final List<BlockPos> waypoints = new ArrayList<>();
+        BlockPos last = start;
+        for (int i = 0; i < route.size() - 1; i++)
+        {
+            if (distance(last, route.get(i + 1)) > MAX_LEG_LENGTH)
+            {
+                last = route.get(i);
+                waypoints.add(last);
+            }
+        }
+        waypoints.add(route.get(route.size() - 1));
+        return waypoints;
+    }
+
+    /**
+     * Reads the blocks of a chunk from fresh section snapshots, safe off the server thread.
+     */
+    private static final class ChunkView
+    {
+        /**
+         * The world of the chunk.
+         */
+        private final World world;
+
+        /**
+         * The chunk.
+         */
+        private final Chunk chunk;
+
+        /**
+         * The sections, resolved on first access.
+         */
+        private final ChunkSectionSnapshot[] sections = new ChunkSectionSnapshot[SECTIONS_PER_CHUNK];
+
+        private ChunkView(@NotNull final World world, @NotNull final Chunk chunk)
+        {
+            this.world = world;
+            this.chunk = chunk;
+        }
+
+        private int getHeight(final int x, final int z)
+        {
+            return chunk.getHeightValue(x, z);
+        }
+
+        private int getWalkFlags(final int x, final int y, final int z)
+        {
+            ChunkSectionSnapshot section = sections[y >> 4];
+            if (section == null)
+            {
+                section = SectionSnapshotCache.getOrCapture(world, chunk, y >> 4);
+                sections[y >> 4] = section;
+            }
+            return section.getWalkFlags(x, y, z);
+        }
+
+        /**
+         * Check if an entity can stand at a position, on solid ground with two passable blocks.
+         */
+        private boolean canStand(final int x, final int y, final int z)
+        {
+            if (y < 1 || y >= MAX_Y - 1)
+            {
+                return false;
+            }
+
+            final int ground = getWalkFlags(x, y - 1, z);
+            if ((ground & WalkClassification.SOLID) == 0 || (ground & (WalkClassification.PASSABLE | WalkClassification.FENCE)) != 0)
+            {
+                return false;
+            }
+            return isOpen(getWalkFlags(x, y, z)) && isOpen(getWalkFlags(x, y + 1, z));
+        }
+    }
+
+    /**
+     * The regions of the walkable cells of a chunk.
+     */
+    private static final class ChunkRegions
+    {
+        /**
+         * The region of each walkable cell, by local position.
+         */
+        private final Map<Integer, Integer> cells;
+
+        /**
+         * The version of the chunk the regions were computed for.
+         */
+        private final long version;
+
+        private ChunkRegions(@NotNull final Map<Integer, Integer> cells, final long version)
+        {
+            this.cells = cells;
+            this.version = version;
+        }
+
+        private int getRegion(@NotNull final BlockPos pos)
+        {
+            return getRegion(pos.getX(), pos.getY(), pos.getZ());
+        }
+
+        private int getRegion(final int x, final int y, final int z)
+        {
+            if (y < 0 || y >= MAX_Y)
+            {
+                return NO_REGION;
+            }
+            final Integer region = cells.get(localKey(x, y, z));
+            return region == null ? NO_REGION : region;
+        }
+    }
+
+    /**
+     * The portals of a border.
+     */
+    private static final class Edge
+    {
+        /**
+         * The portals.
+         */
+        private final List<Portal> portals;
+
+        /**
+         * The version of the western or northern chunk the portals were computed for.
+         */
+        private final long lowerVersion;
+
+        /**
+         * The version of the eastern or southern chunk the portals were computed for.
+         */
+        private final long upperVersion;
+
+        private Edge(@NotNull final List<Portal> portals, final long lowerVersion, final long upperVersion)
+        {
+            this.portals = portals;
+            this.lowerVersion = lowerVersion;
+            this.upperVersion = upperVersion;
+        }
+    }
+
+    /**
+     * A walkable crossing of a border.
+     */
+    private static final class Portal
+    {
+        /**
+         * The cell in the western or northern chunk.
+         */
+        private final BlockPos lower;
+
+        /**
+         * The region of the cell in the western or northern chunk.
+         */
+        private final int lowerRegion;
+
+        /**
+         * The cell in the eastern or southern chunk.
+         */
+        private final BlockPos upper;
+
+        /**
+         * The region of the cell in the eastern or southern chunk.
+         */
+        private final int upperRegion;
+
+        private Portal(final BlockPos lower, final int lowerRegion, final BlockPos upper, final int upperRegion)
+        {
+            this.lower = lower;
+            this.lowerRegion = lowerRegion;
+            this.upper = upper;
+            this.upperRegion = upperRegion;
+        }
+    }
+
+    /**
+     * A node of the route search.
+     */
+    private static final class RouteNode implements Comparable<RouteNode>
+    {
+        /**
+         * The position.
+         */
+        private final BlockPos pos;
+
+        /**
+         * The region of the position in its chunk.
+         */
+        private final int region;
+
+        /**
+         * The node it was reached from.
+         */
+        @Nullable
+        private final RouteNode parent;
+
+        /**
+         * The cost from the start.
+         */
+        private final int cost;
+
+        /**
+         * The estimated total cost.
+         */
+        private final int score;
+
+        private RouteNode(final BlockPos pos, final int region, @Nullable final RouteNode parent, final int cost, final int heuristic)
+        {
+            this.pos = pos;
+            this.region = region;
+            this.parent = parent;
+            this.cost = cost;
+            this.score = cost + heuristic;
+        }
+
+        @Override
+        public int compareTo(@NotNull final RouteNode other)
+        {
+            return Integer.compare(score, other.score);
+        }
+    }
+}
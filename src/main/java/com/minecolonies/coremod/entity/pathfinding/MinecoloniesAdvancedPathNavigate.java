@@ -23,7 +23,10 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -35,9 +38,36 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
     private static final double PIRATE_SWIM_BONUS        = 20;
     public static final  double MIN_Y_DISTANCE           = 0.001;
 
+    /**
+     * Distance above which paths are planned over the colony navigation graph.
+     */
+    private static final int LONG_PATH_DISTANCE = 64;
+
+    /**
+     * Square distance at which a waypoint counts as reached.
+     */
+    private static final double WAYPOINT_REACHED_DISTANCE_SQ = 16;
+
     @Nullable
     private PathResult pathResult;
 
+    /**
+     * The remaining waypoints of a long route, walked leg by leg.
+     */
+    private final Deque<BlockPos> routeWaypoints = new ArrayDeque<>();
+
+    /**
+     * The target of the current leg of a long route.
+     */
+    @Nullable
+    private BlockPos legTarget;
+
+    /**
+     * The running job planning a long route, its waypoints are taken over once it finished.
+     */
+    @Nullable
+    private PathJobMoveToLocation routeJob;
+
     /**
      * Instantiates the navigation of an ourEntity.
      *
@@ -109,6 +139,12 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
                 return;
             }
 
+            if (routeJob != null && !calculationFuture.isCancelled())
+            {
+                takeOverRoute(routeJob);
+            }
+            routeJob = null;
+
             try
             {
                 if (processCompletedCalculationResult())
@@ -120,6 +156,10 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
             {
                 Log.getLogger().catching(e);
             }
+            catch (final CancellationException e)
+            {
+                //  The job was superseded by a newer one, there is no path to take over.
+            }
 
             calculationFuture = null;
         }
@@ -134,6 +174,11 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
 
         if (pathResult != null && noPath())
         {
+            if (!routeWaypoints.isEmpty())
+            {
+                startNextLeg();
+                return;
+            }
             pathResult.setStatus(PathFindingStatus.COMPLETE);
             pathResult = null;
         }
@@ -169,9 +214,60 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         @NotNull final BlockPos start = AbstractPathJob.prepareStart(ourEntity);
         @NotNull final BlockPos dest = new BlockPos(newX, newY, newZ);
 
-        return setPathJob(
-          new PathJobMoveToLocation(CompatibilityUtils.getWorldFromEntity(ourEntity), start, dest, (int) getPathSearchRange(), ourEntity),
-          dest, speed);
+        final PathJobMoveToLocation job =
+          new PathJobMoveToLocation(CompatibilityUtils.getWorldFromEntity(ourEntity), start, dest, (int) getPathSearchRange(), ourEntity);
+
+        //  Long paths are planned over the colony navigation graph by the job, short paths are searched directly
+        final boolean longPath = !world.isRemote && start.distanceSq(dest) >= LONG_PATH_DISTANCE * LONG_PATH_DISTANCE;
+        if (longPath)
+        {
+            job.setNavigationGraph(Pathfinding.getNavigationGraph(world));
+        }
+
+        final PathResult result = setPathJob(job, dest, speed);
+        if (longPath)
+        {
+            routeJob = job;
+        }
+        return result;
+    }
+
+    /**
+     * Take over the waypoints of a finished job which planned a long route.
+     *
+     * @param job the job.
+     */
+    private void takeOverRoute(@NotNull final PathJobMoveToLocation job)
+    {
+        final List<BlockPos> waypoints = job.getRemainingWaypoints();
+        if (!waypoints.isEmpty())
+        {
+            legTarget = job.getDestination();
+            routeWaypoints.addAll(waypoints);
+        }
+    }
+
+    /**
+     * Search the path to the next waypoint of the route.
+     * If the last waypoint wasn't reached the rest of the route is skipped and the destination is searched directly.
+     */
+    private void startNextLeg()
+    {
+        final BlockPos target;
+        if (legTarget != null && ourEntity.getDistanceSq(legTarget) > WAYPOINT_REACHED_DISTANCE_SQ)
+        {
+            target = routeWaypoints.getLast();
+            routeWaypoints.clear();
+        }
+        else
+        {
+            target = routeWaypoints.poll();
+        }
+
+        legTarget = target;
+        pathResult.setStatus(PathFindingStatus.IN_PROGRESS_COMPUTING);
+        calculationFuture = Pathfinding.enqueue(
+          new PathJobMoveToLocation(world, AbstractPathJob.prepareStart(ourEntity), target, (int) getPathSearchRange(), pathResult, ourEntity));
     }
 
     public boolean tryMoveToBlockPos(final BlockPos pos, final double speed)
@@ -458,6 +554,9 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
             pathResult = null;
         }
 
+        routeWaypoints.clear();
+        legTarget = null;
+        routeJob = null;
         destination = null;
         super.clearPath();
     }
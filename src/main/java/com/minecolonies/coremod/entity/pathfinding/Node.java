@@ -18,14 +18,15 @@ public class Node implements Comparable<Node>
 
     /**
      * The position of the node.
+     * Nodes are recycled by the {@link NodeArena}, the position is therefore updated in place.
      */
     @NotNull
-    public final BlockPos pos;
+    public final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
 
     /**
      * The hash of the node.
      */
-    private final int hash;
+    private int hash;
 
     /**
      * The parent of the node (Node preceding this node).
@@ -81,6 +82,19 @@ public class Node implements Comparable<Node>
      */
     private boolean swimming = false;
 
+    /**
+     * The index of the node in the {@link NodeHeap}, or -1 if not queued.
+     */
+    private int heapIndex = -1;
+
+    /**
+     * Create an empty Node, used by the {@link NodeArena}.
+     */
+    Node()
+    {
+        //Filled through reset.
+    }
+
     /**
      * Create initial Node.
      *
@@ -102,14 +116,40 @@ public class Node implements Comparable<Node>
      * @param score     node total score.
      */
     public Node(@Nullable final Node parent, @NotNull final BlockPos pos, final double cost, final double heuristic, final double score)
+    {
+        reset(parent, pos.getX(), pos.getY(), pos.getZ(), cost, heuristic, score);
+    }
+
+    /**
+     * Reinitialize the node with a new parent, position and score.
+     * Clears all the flags and counters.
+     *
+     * @param parent    parent node arrives from.
+     * @param x         the x coordinate of the node.
+     * @param y         the y coordinate of the node.
+     * @param z         the z coordinate of the node.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     * @param score     node total score.
+     * @return the node itself.
+     */
+    @NotNull
+    Node reset(@Nullable final Node parent, final int x, final int y, final int z, final double cost, final double heuristic, final double score)
     {
         this.parent = parent;
-        this.pos = pos;
+        this.pos.setPos(x, y, z);
         this.steps = parent == null ? 0 : (parent.steps + 1);
         this.cost = cost;
         this.heuristic = heuristic;
         this.score = score;
-        this.hash = pos.getX() ^ ((pos.getZ() << HASH_A) | (pos.getZ() >> HASH_B)) ^ (pos.getY() << HASH_C);
+        this.hash = x ^ ((z << HASH_A) | (z >> HASH_B)) ^ (y << HASH_C);
+        this.counterAdded = 0;
+        this.counterVisited = 0;
+        this.closed = false;
+        this.ladder = false;
+        this.swimming = false;
+        this.heapIndex = -1;
+        return this;
     }
 
     @Override
@@ -333,4 +373,24 @@ public class Node implements Comparable<Node>
     {
         this.counterAdded = counterAdded;
     }
+
+    /**
+     * Getter of the index of the node in the open heap.
+     *
+     * @return the index or -1 if not queued.
+     */
+    int getHeapIndex()
+    {
+        return heapIndex;
+    }
+
+    /**
+     * Sets the index of the node in the open heap.
+     *
+     * @param heapIndex the index or -1 if removed.
+     */
+    void setHeapIndex(final int heapIndex)
+    {
+        this.heapIndex = heapIndex;
+    }
 }
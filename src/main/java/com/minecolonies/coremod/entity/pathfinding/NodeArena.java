@@ -0,0 +1,124 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Per thread pool of nodes reused between path searches.
+ * All nodes obtained during a search are handed back at once when the next search on the thread starts.
+ */
+public final class NodeArena
+{
+    /**
+     * Initial amount of pooled nodes.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The arena of each pathfinding thread.
+     */
+    private static final ThreadLocal<NodeArena> ARENAS = ThreadLocal.withInitial(NodeArena::new);
+
+    /**
+     * The pooled nodes.
+     */
+    private Node[] nodes = new Node[DEFAULT_CAPACITY];
+
+    /**
+     * The amount of nodes in use.
+     */
+    private int used;
+
+    /**
+     * The open set of the current search.
+     */
+    private final NodeHeap openNodes = new NodeHeap();
+
+    /**
+     * The visited set of the current search.
+     */
+    private final NodeMap visitedNodes = new NodeMap();
+
+    /**
+     * Private constructor, use {@link #get()}.
+     */
+    private NodeArena()
+    {
+        //Use the thread local instance.
+    }
+
+    /**
+     * Get the arena of the current thread.
+     *
+     * @return the arena.
+     */
+    @NotNull
+    public static NodeArena get()
+    {
+        return ARENAS.get();
+    }
+
+    /**
+     * Release all nodes and clear the open and visited sets, invalidating every node of the previous search.
+     */
+    public void reset()
+    {
+        openNodes.clear();
+        visitedNodes.clear();
+        used = 0;
+    }
+
+    /**
+     * Obtain a node, filled with the given values.
+     *
+     * @param parent    parent node arrives from.
+     * @param x         the x coordinate of the node.
+     * @param y         the y coordinate of the node.
+     * @param z         the z coordinate of the node.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     * @param score     node total score.
+     * @return the node.
+     */
+    @NotNull
+    public Node obtain(@Nullable final Node parent, final int x, final int y, final int z, final double cost, final double heuristic, final double score)
+    {
+        if (used == nodes.length)
+        {
+            nodes = Arrays.copyOf(nodes, used << 1);
+        }
+
+        Node node = nodes[used];
+        if (node == null)
+        {
+            node = new Node();
+            nodes[used] = node;
+        }
+        used++;
+        return node.reset(parent, x, y, z, cost, heuristic, score);
+    }
+
+    /**
+     * Get the open set of the current search.
+     *
+     * @return the heap.
+     */
+    @NotNull
+    public NodeHeap getOpenNodes()
+    {
+        return openNodes;
+    }
+
+    /**
+     * Get the visited set of the current search.
+     *
+     * @return the map.
+     */
+    @NotNull
+    public NodeMap getVisitedNodes()
+    {
+        return visitedNodes;
+    }
+}
@@ -0,0 +1,197 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Binary min heap of nodes which tracks the index of each node.
+ * Allows to update the score of a queued node in log(n) instead of removing and re-adding it.
+ */
+public final class NodeHeap
+{
+    /**
+     * Initial capacity of the heap.
+     */
+    private static final int DEFAULT_CAPACITY = 500;
+
+    /**
+     * The queued nodes.
+     */
+    private Node[] heap;
+
+    /**
+     * The amount of queued nodes.
+     */
+    private int size;
+
+    /**
+     * Create a heap with the default capacity.
+     */
+    public NodeHeap()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a heap with a given initial capacity.
+     *
+     * @param capacity the initial capacity.
+     */
+    public NodeHeap(final int capacity)
+    {
+        heap = new Node[Math.max(1, capacity)];
+    }
+
+    /**
+     * Add a node to the heap.
+     *
+     * @param node the node, must not already be queued.
+     */
+    public void offer(@NotNull final Node node)
+    {
+        if (size == heap.length)
+        {
+            heap = Arrays.copyOf(heap, size << 1);
+        }
+        heap[size] = node;
+        node.setHeapIndex(size);
+        siftUp(size++);
+    }
+
+    /**
+     * Remove and return the node with the lowest score.
+     *
+     * @return the node or null if empty.
+     */
+    @Nullable
+    public Node poll()
+    {
+        if (size == 0)
+        {
+            return null;
+        }
+
+        final Node first = heap[0];
+        final Node last = heap[--size];
+        heap[size] = null;
+        if (size > 0)
+        {
+            heap[0] = last;
+            last.setHeapIndex(0);
+            siftDown(0);
+        }
+        first.setHeapIndex(-1);
+        return first;
+    }
+
+    /**
+     * Restore the heap order after the score of a queued node decreased.
+     *
+     * @param node the node.
+     * @return false if the node isn't in the heap.
+     */
+    public boolean decreaseKey(@NotNull final Node node)
+    {
+        final int index = node.getHeapIndex();
+        if (!contains(node))
+        {
+            return false;
+        }
+        siftUp(index);
+        return true;
+    }
+
+    /**
+     * Check if the node is currently queued in this heap.
+     *
+     * @param node the node.
+     * @return true if so.
+     */
+    public boolean contains(@NotNull final Node node)
+    {
+        final int index = node.getHeapIndex();
+        return index >= 0 && index < size && heap[index] == node;
+    }
+
+    /**
+     * Check if the heap is empty.
+     *
+     * @return true if so.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Get the amount of queued nodes.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Remove all queued nodes, keeping the allocated array.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++)
+        {
+            heap[i].setHeapIndex(-1);
+            heap[i] = null;
+        }
+        size = 0;
+    }
+
+    private void siftUp(final int startIndex)
+    {
+        int index = startIndex;
+        final Node node = heap[index];
+        while (index > 0)
+        {
+            final int parentIndex = (index - 1) >>> 1;
+            final Node parent = heap[parentIndex];
+            if (node.compareTo(parent) >= 0)
+            {
+                break;
+            }
+            heap[index] = parent;
+            parent.setHeapIndex(index);
+            index = parentIndex;
+        }
+        heap[index] = node;
+        node.setHeapIndex(index);
+    }
+
+    private void siftDown(final int startIndex)
+    {
+        int index = startIndex;
+        final Node node = heap[index];
+        final int half = size >>> 1;
+        while (index < half)
+        {
+            int childIndex = (index << 1) + 1;
+            Node child = heap[childIndex];
+            final int rightIndex = childIndex + 1;
+            if (rightIndex < size && heap[rightIndex].compareTo(child) < 0)
+            {
+                childIndex = rightIndex;
+                child = heap[childIndex];
+            }
+            if (node.compareTo(child) <= 0)
+            {
+                break;
+            }
+            heap[index] = child;
+            child.setHeapIndex(index);
+            index = childIndex;
+        }
+        heap[index] = node;
+        node.setHeapIndex(index);
+    }
+}
@@ -0,0 +1,180 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing map from primitive long keys to nodes.
+ * Avoids boxing the node keys and allocating map entries for each visited node.
+ * Entries can't be removed, the map is cleared between searches instead.
+ */
+public final class NodeMap
+{
+    /**
+     * Initial capacity of the map, must be a power of two.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The map is grown once it is filled over this ratio.
+     */
+    private static final float LOAD_FACTOR = 0.5F;
+
+    /**
+     * Constant used to spread the keys over the table (64 bit golden ratio).
+     */
+    private static final long HASH_MIX = 0x9E3779B97F4A7C15L;
+
+    /**
+     * The keys of the map.
+     */
+    private long[] keys;
+
+    /**
+     * The values of the map, null marks a free slot.
+     */
+    private Node[] values;
+
+    /**
+     * The amount of entries in the map.
+     */
+    private int size;
+
+    /**
+     * The amount of entries after which the table is grown.
+     */
+    private int threshold;
+
+    /**
+     * Create a map with the default capacity.
+     */
+    public NodeMap()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a map with a given initial capacity.
+     *
+     * @param capacity the capacity, rounded up to the next power of two.
+     */
+    public NodeMap(final int capacity)
+    {
+        int tableSize = 1;
+        while (tableSize < capacity)
+        {
+            tableSize <<= 1;
+        }
+        allocate(tableSize);
+    }
+
+    /**
+     * Get the node stored for a key.
+     *
+     * @param key the key.
+     * @return the node or null if not present.
+     */
+    @Nullable
+    public Node get(final long key)
+    {
+        final int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        Node value;
+        while ((value = values[slot]) != null)
+        {
+            if (keys[slot] == key)
+            {
+                return value;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Store a node for a key, replacing an existing one.
+     *
+     * @param key  the key.
+     * @param node the node, not null.
+     */
+    public void put(final long key, @NotNull final Node node)
+    {
+        final int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (values[slot] != null)
+        {
+            if (keys[slot] == key)
+            {
+                values[slot] = node;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = node;
+        if (++size > threshold)
+        {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * Get the amount of stored nodes.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Remove all entries, keeping the allocated table.
+     */
+    public void clear()
+    {
+        if (size > 0)
+        {
+            Arrays.fill(values, null);
+            size = 0;
+        }
+    }
+
+    private void allocate(final int tableSize)
+    {
+        keys = new long[tableSize];
+        values = new Node[tableSize];
+        threshold = (int) (tableSize * LOAD_FACTOR);
+    }
+
+    private void rehash(final int tableSize)
+    {
+        final long[] oldKeys = keys;
+        final Node[] oldValues = values;
+        allocate(tableSize);
+
+        final int mask = tableSize - 1;
+        for (int i = 0; i < oldValues.length; i++)
+        {
+            if (oldValues[i] != null)
+            {
+                int slot = slot(oldKeys[i], mask);
+                while (values[slot] != null)
+                {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int slot(final long key, final int mask)
+    {
+        final long hash = key * HASH_MIX;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,453 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.entity.pathfinding.PathResult;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.pathfinding.PathPoint;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches computed paths and merges identical path requests which are calculated at the same time.
+ * Only paths reaching their destination are cached, they expire after a configured time and when a block next to them changes.
+ */
+public class PathCache
+{
+    /**
+     * Milliseconds per server tick.
+     */
+    private static final long MS_PER_TICK = 50L;
+
+    /**
+     * Amount of cached paths after which the cache is cleaned up.
+     */
+    private static final int MAX_CACHED_PATHS = 1024;
+
+    /**
+     * The cached paths.
+     */
+    private final Map<PathCacheKey, CachedPath> cachedPaths = new ConcurrentHashMap<>();
+
+    /**
+     * The calculations currently queued or running.
+     */
+    private final Map<PathCacheKey, SharedCalculation> calculations = new ConcurrentHashMap<>();
+
+    /**
+     * The cached paths passing through each chunk, by dimension.
+     */
+    private final Map<Integer, Map<Long, Set<PathCacheKey>>> chunkIndex = new ConcurrentHashMap<>();
+
+    /**
+     * Requests answered from the cache.
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * Requests which had to be calculated.
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Requests merged into a running calculation.
+     */
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * Get the path for a job, from the cache, a running calculation or by submitting the job.
+     *
+     * @param key       the cache key of the job.
+     * @param job       the job.
+     * @param scheduler the scheduler to calculate the path with.
+     * @return a Future containing the Path.
+     */
+    @NotNull
+    public Future<Path> submit(@NotNull final PathCacheKey key, @NotNull final AbstractPathJob job, @NotNull final PathJobScheduler scheduler)
+    {
+        final CachedPath cached = cachedPaths.get(key);
+        if (cached != null)
+        {
+            if (System.currentTimeMillis() < cached.expiresAt)
+            {
+                hits.incrementAndGet();
+                job.getResult().setPathReachesDestination(true);
+                return CompletableFuture.completedFuture(new Path(cached.points.clone()));
+            }
+            remove(key);
+        }
+
+        final SharedCalculation running = calculations.get(key);
+        //  Calculations dropped by the scheduler are done without ever running, they are replaced below
+        if (running != null && !running.future.isDone() && running.tryJoin())
+        {
+            coalesced.incrementAndGet();
+            return new SharedPathFuture(running, job.getResult());
+        }
+
+        misses.incrementAndGet();
+        final SharedCalculation calculation = new SharedCalculation(key, job);
+        calculations.put(key, calculation);
+        calculation.future = scheduler.submit(() -> calculate(calculation), job.getPriority());
+        return new SharedPathFuture(calculation, job.getResult());
+    }
+
+    /**
+     * Drop the cached paths which pass next to a changed block.
+     *
+     * @param dimension the dimension.
+     * @param pos       the position of the block.
+     */
+    public void invalidate(final int dimension, @NotNull final BlockPos pos)
+    {
+        final Map<Long, Set<PathCacheKey>> index = chunkIndex.get(dimension);
+        if (index == null)
+        {
+            return;
+        }
+
+        final Set<PathCacheKey> keys = index.remove(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        if (keys != null)
+        {
+            for (final PathCacheKey key : keys)
+            {
+                remove(key);
+            }
+        }
+    }
+
+    /**
+     * Drop all cached paths of a dimension.
+     *
+     * @param dimension the dimension.
+     */
+    public void clear(final int dimension)
+    {
+        cachedPaths.keySet().removeIf(key -> key.getDimension() == dimension);
+        chunkIndex.remove(dimension);
+    }
+
+    /**
+     * Get the amount of requests answered from the cache.
+     *
+     * @return the amount.
+     */
+    public long getHits()
+    {
+        return hits.get();
+    }
+
+    /**
+     * Get the amount of requests which had to be calculated.
+     *
+     * @return the amount.
+     */
+    public long getMisses()
+    {
+        return misses.get();
+    }
+
+    /**
+     * Get the amount of requests merged into a running calculation.
+     *
+     * @return the amount.
+     */
+    public long getCoalesced()
+    {
+        return coalesced.get();
+    }
+
+    /**
+     * Get the amount of cached paths.
+     *
+     * @return the amount.
+     */
+    public int size()
+    {
+        return cachedPaths.size();
+    }
+
+    /**
+     * Run a shared calculation and cache the resulting path, called on the pathfinding threads.
+     *
+     * @param calculation the calculation.
+     * @return the path or null.
+     */
+    @Nullable
+    private Path calculate(@NotNull final SharedCalculation calculation)
+    {
+        try
+        {
+            final Path path = calculation.job.call();
+            if (path != null)
+            {
+                final PathPoint[] points = new PathPoint[path.getCurrentPathLength()];
+                for (int i = 0; i < points.length; i++)
+                {
+                    points[i] = path.getPathPointFromIndex(i);
+                }
+                calculation.points = points;
+
+                //  A path ending short of the destination may only be limited by blocks which change soon
+                if (!Thread.currentThread().isInterrupted() && calculation.job.getResult().isPathReachingDestination())
+                {
+                    store(calculation.key, points);
+                }
+            }
+            return path;
+        }
+        finally
+        {
+            calculations.remove(calculation.key, calculation);
+        }
+    }
+
+    private void store(@NotNull final PathCacheKey key, @NotNull final PathPoint[] points)
+    {
+        final long now = System.currentTimeMillis();
+        if (cachedPaths.size() >= MAX_CACHED_PATHS)
+        {
+            for (final Map.Entry<PathCacheKey, CachedPath> entry : cachedPaths.entrySet())
+            {
+                if (entry.getValue().expiresAt <= now)
+                {
+                    remove(entry.getKey());
+                }
+            }
+        }
+        if (cachedPaths.size() >= MAX_CACHED_PATHS)
+        {
+            return;
+        }
+
+        //  A block change next to a path point can block it, so index the neighbouring chunks as well
+        final Set<Long> chunks = new HashSet<>();
+        for (final PathPoint point : points)
+        {
+            for (int dx = -1; dx <= 1; dx += 2)
+            {
+                for (int dz = -1; dz <= 1; dz += 2)
+                {
+                    chunks.add(ChunkPos.asLong((point.x + dx) >> 4, (point.z + dz) >> 4));
+                }
+            }
+        }
+
+        final long expiresAt = now + Configurations.pathfinding.pathfindingCacheTicks * MS_PER_TICK;
+        cachedPaths.put(key, new CachedPath(points, expiresAt, chunks));
+
+        final Map<Long, Set<PathCacheKey>> index = chunkIndex.computeIfAbsent(key.getDimension(), dim -> new ConcurrentHashMap<>());
+        //  Sets are only changed inside of compute, so that an emptied set isn't dropped while a key is added to it
+        for (final Long chunk : chunks)
+        {
+            index.compute(chunk, (c, keys) ->
+            {
+                final Set<PathCacheKey> result = keys == null ? ConcurrentHashMap.newKeySet() : keys;
+                result.add(key);
+                return result;
+            });
+        }
+    }
+
+    private void remove(@NotNull final PathCacheKey key)
+    {
+        final CachedPath removed = cachedPaths.remove(key);
+        final Map<Long, Set<PathCacheKey>> index = chunkIndex.get(key.getDimension());
+        if (removed == null || index == null)
+        {
+            return;
+        }
+
+        for (final Long chunk : removed.chunks)
+        {
+            index.computeIfPresent(chunk, (c, keys) ->
+            {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    /**
+     * A path in the cache.
+     */
+    private static final class CachedPath
+    {
+        /**
+         * The points of the path, never handed out directly.
+         */
+        private final PathPoint[] points;
+
+        /**
+         * When the path expires, in milliseconds.
+         */
+        private final long expiresAt;
+
+        /**
+         * The chunks the path is indexed in.
+         */
+        private final Set<Long> chunks;
+
+        private CachedPath(final PathPoint[] points, final long expiresAt, final Set<Long> chunks)
+        {
+            this.points = points;
+            this.expiresAt = expiresAt;
+            this.chunks = chunks;
+        }
+    }
+
+    /**
+     * A path calculation shared by all identical requests.
+     */
+    private static final class SharedCalculation
+    {
+        /**
+         * The cache key.
+         */
+        private final PathCacheKey key;
+
+        /**
+         * The job which calculates the path.
+         */
+        private final AbstractPathJob job;
+
+        /**
+         * The amount of requests waiting for the path, the calculation is cancelled once it reaches 0.
+         */
+        private final AtomicInteger waiters = new AtomicInteger(1);
+
+        /**
+         * The future of the job.
+         */
+        private volatile Future<Path> future;
+
+        /**
+         * The points of the calculated path.
+         */
+        private volatile PathPoint[] points;
+
+        private SharedCalculation(final PathCacheKey key, final AbstractPathJob job)
+        {
+            this.key = key;
+            this.job = job;
+        }
+
+        /**
+         * Add a waiting request, unless the calculation was already cancelled.
+         *
+         * @return true if joined.
+         */
+        private boolean tryJoin()
+        {
+            int current;
+            do
+            {
+                current = waiters.get();
+                if (current <= 0)
+                {
+                    return false;
+                }
+            }
+            while (!waiters.compareAndSet(current, current + 1));
+            return true;
+        }
+    }
+
+    /**
+     * The future handed to each request of a shared calculation.
+     * Every request gets its own copy of the path, as paths track the progress of the entity following them.
+     */
+    private final class SharedPathFuture implements Future<Path>
+    {
+        /**
+         * The shared calculation.
+         */
+        private final SharedCalculation calculation;
+
+        /**
+         * The result of the request.
+         */
+        private final PathResult result;
+
+        /**
+         * If this request was cancelled.
+         */
+        private volatile boolean cancelled = false;
+
+        private SharedPathFuture(final SharedCalculation calculation, final PathResult result)
+        {
+            this.calculation = calculation;
+            this.result = result;
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning)
+        {
+            if (cancelled || calculation.future.isDone())
+            {
+                return false;
+            }
+
+            cancelled = true;
+            if (calculation.waiters.decrementAndGet() <= 0)
+            {
+                calculations.remove(calculation.key, calculation);
+                calculation.future.cancel(mayInterruptIfRunning);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled()
+        {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone()
+        {
+            return cancelled || calculation.future.isDone();
+        }
+
+        @Override
+        public Path get() throws InterruptedException, ExecutionException
+        {
+            if (cancelled)
+            {
+                throw new CancellationException();
+            }
+            return copy(calculation.future.get());
+        }
+
+        @Override
+        public Path get(final long timeout, @NotNull final TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException
+        {
+            if (cancelled)
+            {
+                throw new CancellationException();
+            }
+            return copy(calculation.future.get(timeout, unit));
+        }
+
+        @Nullable
+        private Path copy(@Nullable final Path path)
+        {
+            final PathPoint[] points = calculation.points;
+            if (path == null || points == null)
+            {
+                return path;
+            }
+
+            result.setPathReachesDestination(calculation.job.getResult().isPathReachingDestination());
+            return new Path(points.clone());
+        }
+    }
+}
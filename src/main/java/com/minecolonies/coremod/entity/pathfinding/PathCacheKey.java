@@ -0,0 +1,113 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Identifies path calculations which produce the same path, used by the {@link PathCache}.
+ */
+public final class PathCacheKey
+{
+    /**
+     * The dimension of the path.
+     */
+    private final int dimension;
+
+    /**
+     * The start cell.
+     */
+    @NotNull
+    private final BlockPos start;
+
+    /**
+     * The destination.
+     */
+    @NotNull
+    private final BlockPos destination;
+
+    /**
+     * The search range.
+     */
+    private final int range;
+
+    /**
+     * The type of the path job.
+     */
+    @NotNull
+    private final Class<? extends AbstractPathJob> jobType;
+
+    /**
+     * If swimming is allowed.
+     */
+    private final boolean allowSwimming;
+
+    /**
+     * Create a new key.
+     *
+     * @param dimension     the dimension of the path.
+     * @param start         the start cell.
+     * @param destination   the destination.
+     * @param range         the search range.
+     * @param jobType       the type of the path job.
+     * @param allowSwimming if swimming is allowed.
+     */
+    public PathCacheKey(
+      final int dimension,
+      @NotNull final BlockPos start,
+      @NotNull final BlockPos destination,
+      final int range,
+      @NotNull final Class<? extends AbstractPathJob> jobType,
+      final boolean allowSwimming)
+    {
+        this.dimension = dimension;
+        this.start = start.toImmutable();
+        this.destination = destination.toImmutable();
+        this.range = range;
+        this.jobType = jobType;
+        this.allowSwimming = allowSwimming;
+    }
+
+    /**
+     * Get the dimension of the path.
+     *
+     * @return the dimension id.
+     */
+    public int getDimension()
+    {
+        return dimension;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass())
+        {
+            return false;
+        }
+
+        final PathCacheKey other = (PathCacheKey) o;
+        return dimension == other.dimension
+                 && range == other.range
+                 && allowSwimming == other.allowSwimming
+                 && jobType == other.jobType
+                 && start.equals(other.start)
+                 && destination.equals(other.destination);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int result = dimension;
+        result = 31 * result + start.hashCode();
+        result = 31 * result + destination.hashCode();
+        result = 31 * result + range;
+        result = 31 * result + jobType.hashCode();
+        result = 31 * result + (allowSwimming ? 1 : 0);
+        return result;
+    }
+}
@@ -18,8 +18,16 @@ import java.util.function.Predicate;
  */
 public class PathJobFindWater extends AbstractPathJob
 {
-    private static final int MIN_DISTANCE = 40;
-    private static final int MAX_RANGE    = 250;
+    /**
+     * Minimum square distance between two ponds of a fisherman.
+     */
+    public static final int MIN_DISTANCE = 40;
+
+    /**
+     * Maximum square distance of a pond to the hut of the fisherman.
+     */
+    public static final int MAX_RANGE    = 250;
+
     private final BlockPos            hutLocation;
     @NotNull
     private final ArrayList<BlockPos> ponds;
@@ -119,6 +119,18 @@ public class PathJobMoveAwayFromLocation extends AbstractPathJob
         return super.search();
     }
 
+    /**
+     * Fleeing entities are in danger, their paths are calculated first.
+     *
+     * @return the priority.
+     */
+    @NotNull
+    @Override
+    public PathPriority getPriority()
+    {
+        return PathPriority.HIGH;
+    }
+
     /**
      * For MoveAwayFromLocation we want our heuristic to weight.
      *
@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.entity.pathfinding;
 
 import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.entity.pathfinding.PathResult;
 import com.minecolonies.api.util.Log;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.pathfinding.Path;
@@ -9,6 +10,9 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Job that handles moving to a location.
  */
@@ -18,10 +22,31 @@ public class PathJobMoveToLocation extends AbstractPathJob
     // 1^2 + 1^2 + 1^2 + (epsilon of 0.1F)
     private static final float  DESTINATION_SLACK_ADJACENT = 3.1F;
     private static final double TIE_BREAKER                = 1.001D;
+    /**
+     * The destination of the search, the first waypoint if a route was planned.
+     */
     @NotNull
-    private final BlockPos destination;
+    private BlockPos destination;
+    /**
+     * The dimension of the world the path is in.
+     */
+    private final int dimension;
+    /**
+     * Only paths of server worlds can be cached, client worlds are not notified of block changes.
+     */
+    private final boolean cacheable;
     // 0 = exact match
     private float destinationSlack = DESTINATION_SLACK_NONE;
+    /**
+     * The graph to plan a route over before searching, null to search the destination directly.
+     */
+    @Nullable
+    private ColonyNavigationGraph navigationGraph;
+    /**
+     * The waypoints of the planned route after the searched one.
+     */
+    @NotNull
+    private List<BlockPos> remainingWaypoints = Collections.emptyList();
 
     /**
      * Prepares the PathJob for the path finding system.
@@ -34,9 +59,79 @@ public class PathJobMoveToLocation extends AbstractPathJob
      */
     public PathJobMoveToLocation(final World world, @NotNull final BlockPos start, @NotNull final BlockPos end, final int range, final EntityLivingBase entity)
     {
-        super(world, start, end, range, entity);
+        this(world, start, end, range, new PathResult(), entity);
+    }
+
+    /**
+     * Prepares the PathJob for the path finding system, reporting to an existing result.
+     *
+     * @param world  world the entity is in.
+     * @param start  starting location.
+     * @param end    target location.
+     * @param range  max search range.
+     * @param result the result of the path.
+     * @param entity the entity.
+     */
+    public PathJobMoveToLocation(
+      final World world,
+      @NotNull final BlockPos start,
+      @NotNull final BlockPos end,
+      final int range,
+      @NotNull final PathResult result,
+      final EntityLivingBase entity)
+    {
+        super(world, start, end, range, result, entity);
 
         this.destination = new BlockPos(end);
+        this.dimension = world.provider.getDimension();
+        this.cacheable = !world.isRemote;
+    }
+
+    @Nullable
+    @Override
+    public PathCacheKey getCacheKey()
+    {
+        //  The path of a planned route only leads to its first waypoint
+        if (!cacheable || navigationGraph != null)
+        {
+            return null;
+        }
+        return new PathCacheKey(dimension, start, destination, getMaxRange(), getClass(), isAllowedSwimming());
+    }
+
+    /**
+     * Plan a route over a navigation graph before searching, the path then leads to the first waypoint of the route.
+     * The graph has to be obtained on the server thread, the route is planned by the job.
+     *
+     * @param graph the graph.
+     */
+    public void setNavigationGraph(@Nullable final ColonyNavigationGraph graph)
+    {
+        this.navigationGraph = graph;
+    }
+
+    /**
+     * Get the waypoints of the planned route following the destination of the path.
+     * Only complete once the job finished.
+     *
+     * @return the waypoints, empty if no route was planned.
+     */
+    @NotNull
+    public List<BlockPos> getRemainingWaypoints()
+    {
+        return remainingWaypoints;
+    }
+
+    /**
+     * Get the destination of the search, the first waypoint if a route was planned.
+     * Only complete once the job finished.
+     *
+     * @return the destination.
+     */
+    @NotNull
+    public BlockPos getDestination()
+    {
+        return destination;
     }
 
     /**
@@ -48,6 +143,16 @@ public class PathJobMoveToLocation extends AbstractPathJob
     @Override
     protected Path search()
     {
+        if (navigationGraph != null)
+        {
+            final List<BlockPos> route = navigationGraph.findRoute(world, start, destination);
+            if (route != null && route.size() > 1)
+            {
+                destination = route.get(0);
+                remainingWaypoints = route.subList(1, route.size());
+            }
+        }
+
         if (Configurations.pathfinding.pathfindingDebugVerbosity > DEBUG_VERBOSITY_NONE)
         {
             Log.getLogger().info(String.format("Pathfinding from [%d,%d,%d] to [%d,%d,%d]",
@@ -0,0 +1,310 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.pathfinding.Path;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executes path jobs on a fixed amount of threads, ordered by their {@link PathPriority}.
+ * The queue is bounded, once it is full the job with the lowest priority is dropped and completes with a null path.
+ */
+public class PathJobScheduler
+{
+    /**
+     * Seconds after which an idle thread is stopped.
+     */
+    private static final long KEEP_ALIVE_SECONDS = 10L;
+
+    /**
+     * Nanoseconds per millisecond.
+     */
+    private static final long NANOS_PER_MS = 1_000_000L;
+
+    /**
+     * Amount of queued jobs after which jobs are dropped.
+     */
+    private final int maxQueuedJobs;
+
+    /**
+     * The queued jobs, only contains {@link PathTask}s.
+     */
+    private final PriorityBlockingQueue<Runnable> queue = new PriorityBlockingQueue<>();
+
+    /**
+     * The executor running the jobs.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Counter to keep jobs of the same priority in submission order.
+     */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Jobs which were calculated.
+     */
+    private final AtomicLong completed = new AtomicLong();
+
+    /**
+     * Jobs which were dropped because the queue was full.
+     */
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * Total and longest time jobs waited in the queue, in nanoseconds.
+     */
+    private final AtomicLong totalWaitTime = new AtomicLong();
+    private final AtomicLong maxWaitTime   = new AtomicLong();
+
+    /**
+     * Total and longest calculation time of the jobs, in nanoseconds.
+     */
+    private final AtomicLong totalComputeTime = new AtomicLong();
+    private final AtomicLong maxComputeTime   = new AtomicLong();
+
+    /**
+     * Create a new scheduler.
+     *
+     * @param threads       the amount of threads.
+     * @param maxQueuedJobs the amount of queued jobs after which jobs are dropped.
+     */
+    public PathJobScheduler(final int threads, final int maxQueuedJobs)
+    {
+        this.maxQueuedJobs = maxQueuedJobs;
+
+        //  Core and max size have to match, the pool would never grow past the core size as the queue is never full
+        final int poolSize = Math.max(1, threads);
+        final AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, queue, runnable ->
+        {
+            final Thread thread = new Thread(runnable, "Minecolonies Pathfinding Worker #" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Submit a job.
+     *
+     * @param job the job.
+     * @return a Future containing the Path.
+     */
+    @NotNull
+    public Future<Path> submit(@NotNull final AbstractPathJob job)
+    {
+        return submit(job, job.getPriority());
+    }
+
+    /**
+     * Submit a calculation.
+     *
+     * @param calculation the calculation.
+     * @param priority    its priority.
+     * @return a Future containing the Path.
+     */
+    @NotNull
+    public Future<Path> submit(@NotNull final Callable<Path> calculation, @NotNull final PathPriority priority)
+    {
+        final PathTask task = new PathTask(calculation, priority, sequence.getAndIncrement());
+        if (queue.size() >= maxQueuedJobs)
+        {
+            final PathTask lowest = findLowestQueued();
+            if (lowest == null || lowest.compareTo(task) < 0 || !queue.remove(lowest))
+            {
+                rejected.incrementAndGet();
+                task.drop();
+                return task;
+            }
+            rejected.incrementAndGet();
+            lowest.drop();
+        }
+        executor.execute(task);
+        return task;
+    }
+
+    /**
+     * Get the amount of queued jobs.
+     *
+     * @return the amount.
+     */
+    public int getQueueSize()
+    {
+        return queue.size();
+    }
+
+    /**
+     * Get the amount of threads currently calculating paths.
+     *
+     * @return the amount.
+     */
+    public int getActiveThreads()
+    {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * Get the amount of calculated jobs.
+     *
+     * @return the amount.
+     */
+    public long getCompleted()
+    {
+        return completed.get();
+    }
+
+    /**
+     * Get the amount of jobs dropped because the queue was full.
+     *
+     * @return the amount.
+     */
+    public long getRejected()
+    {
+        return rejected.get();
+    }
+
+    /**
+     * Get the average time jobs waited in the queue.
+     *
+     * @return the time in milliseconds.
+     */
+    public double getAverageWaitTime()
+    {
+        final long count = completed.get();
+        return count == 0 ? 0 : (double) totalWaitTime.get() / count / NANOS_PER_MS;
+    }
+
+    /**
+     * Get the longest time a job waited in the queue.
+     *
+     * @return the time in milliseconds.
+     */
+    public double getMaxWaitTime()
+    {
+        return (double) maxWaitTime.get() / NANOS_PER_MS;
+    }
+
+    /**
+     * Get the average calculation time of the jobs.
+     *
+     * @return the time in milliseconds.
+     */
+    public double getAverageComputeTime()
+    {
+        final long count = completed.get();
+        return count == 0 ? 0 : (double) totalComputeTime.get() / count / NANOS_PER_MS;
+    }
+
+    /**
+     * Get the longest calculation time of a job.
+     *
+     * @return the time in milliseconds.
+     */
+    public double getMaxComputeTime()
+    {
+        return (double) maxComputeTime.get() / NANOS_PER_MS;
+    }
+
+    @Nullable
+    private PathTask findLowestQueued()
+    {
+        PathTask lowest = null;
+        for (final Runnable runnable : queue)
+        {
+            final PathTask task = (PathTask) runnable;
+            if (lowest == null || task.compareTo(lowest) > 0)
+            {
+                lowest = task;
+            }
+        }
+        return lowest;
+    }
+
+    private static void updateMax(@NotNull final AtomicLong max, final long value)
+    {
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value))
+        {
+            current = max.get();
+        }
+    }
+
+    /**
+     * A queued job, ordered by priority and then by submission.
+     */
+    private final class PathTask extends FutureTask<Path> implements Comparable<PathTask>
+    {
+        /**
+         * The priority of the job.
+         */
+        private final PathPriority priority;
+
+        /**
+         * The submission number of the job.
+         */
+        private final long sequenceNumber;
+
+        /**
+         * When the job was submitted, in nanoseconds.
+         */
+        private final long submittedAt = System.nanoTime();
+
+        private PathTask(@NotNull final Callable<Path> calculation, @NotNull final PathPriority priority, final long sequenceNumber)
+        {
+            super(calculation);
+            this.priority = priority;
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        @Override
+        public void run()
+        {
+            if (isDone())
+            {
+                return;
+            }
+
+            final long start = System.nanoTime();
+            final long waited = start - submittedAt;
+            super.run();
+            final long computed = System.nanoTime() - start;
+
+            completed.incrementAndGet();
+            totalWaitTime.addAndGet(waited);
+            totalComputeTime.addAndGet(computed);
+            updateMax(maxWaitTime, waited);
+            updateMax(maxComputeTime, computed);
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning)
+        {
+            final boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled)
+            {
+                //  Superseded jobs would otherwise keep their place in the queue until a thread picks them up
+                queue.remove(this);
+            }
+            return cancelled;
+        }
+
+        /**
+         * Complete the job without a path, the navigator handles it like a failed calculation.
+         */
+        private void drop()
+        {
+            set(null);
+        }
+
+        @Override
+        public int compareTo(@NotNull final PathTask other)
+        {
+            final int result = priority.compareTo(other.priority);
+            return result != 0 ? result : Long.compare(sequenceNumber, other.sequenceNumber);
+        }
+    }
+}
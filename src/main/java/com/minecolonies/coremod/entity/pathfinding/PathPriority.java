@@ -0,0 +1,22 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+/**
+ * Priority of a path job in the {@link PathJobScheduler}, jobs with a higher priority are calculated first.
+ */
+public enum PathPriority
+{
+    /**
+     * Guards, raid participants and fleeing entities.
+     */
+    HIGH,
+
+    /**
+     * Working citizens and everything else.
+     */
+    NORMAL,
+
+    /**
+     * Wandering citizens, like children and the unemployed.
+     */
+    LOW
+}
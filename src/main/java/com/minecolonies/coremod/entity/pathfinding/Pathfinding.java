@@ -2,6 +2,7 @@ package com.minecolonies.coremod.entity.pathfinding;
 
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.Log;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.FontRenderer;
 import net.minecraft.client.renderer.BufferBuilder;
@@ -11,26 +12,48 @@ import net.minecraft.client.renderer.entity.RenderManager;
 import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
 import net.minecraft.entity.Entity;
 import net.minecraft.pathfinding.Path;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import org.jetbrains.annotations.NotNull;
 import org.lwjgl.opengl.GL11;
 
-import java.util.ConcurrentModificationException;
-import java.util.Set;
-import java.util.concurrent.*;
+import java.util.*;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Static class the handles all the Pathfinding.
  */
 public final class Pathfinding
 {
-    private static final BlockingQueue<Runnable> jobQueue = new LinkedBlockingDeque<>();
-    private static final ThreadPoolExecutor executor;
-    static
-    {
-        executor = new ThreadPoolExecutor(1, Configurations.pathfinding.pathfindingMaxThreadCount, 10, TimeUnit.SECONDS, jobQueue);
-    }
+    /**
+     * The scheduler calculating the paths.
+     */
+    private static final PathJobScheduler scheduler =
+      new PathJobScheduler(Configurations.pathfinding.pathfindingMaxThreadCount, Configurations.pathfinding.pathfindingMaxQueuedJobs);
+
+    /**
+     * The latest path request of each entity, replaced requests are cancelled.
+     */
+    private static final Map<Entity, Future<Path>> entityJobs = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Requests cancelled because their entity requested a new path.
+     */
+    private static final AtomicLong superseded = new AtomicLong();
+
+    /**
+     * Cache of the computed paths.
+     */
+    private static final PathCache pathCache = new PathCache();
+
+    /**
+     * The navigation graph of each dimension.
+     */
+    private static final Map<Integer, ColonyNavigationGraph> navigationGraphs = new HashMap<>();
+
     private Pathfinding()
     {
         //Hides default constructor.
@@ -38,13 +61,105 @@ public final class Pathfinding
 
     /**
      * Add a job to the queue for processing.
+     * A job which is still pending for the same entity is cancelled, its path would be discarded anyway.
      *
      * @param job PathJob
      * @return a Future containing the Path
      */
     public static Future<Path> enqueue(@NotNull final AbstractPathJob job)
     {
-        return executor.submit(job);
+        final PathCacheKey key = job.getCacheKey();
+        final Future<Path> future = key == null ? scheduler.submit(job) : pathCache.submit(key, job, scheduler);
+
+        final Entity entity = job.getEntity();
+        if (entity != null)
+        {
+            final Future<Path> previous = entityJobs.put(entity, future);
+            if (previous != null && previous != future && !previous.isDone() && previous.cancel(true))
+            {
+                superseded.incrementAndGet();
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Get the scheduler calculating the paths, for its metrics shown by the colony info command.
+     *
+     * @return the scheduler.
+     */
+    public static PathJobScheduler getScheduler()
+    {
+        return scheduler;
+    }
+
+    /**
+     * Get the amount of requests cancelled because their entity requested a new path, shown by the colony info command.
+     *
+     * @return the amount.
+     */
+    public static long getSuperseded()
+    {
+        return superseded.get();
+    }
+
+    /**
+     * Get the cache of the computed paths, for its hit and miss counters shown by the colony info command.
+     *
+     * @return the path cache.
+     */
+    public static PathCache getPathCache()
+    {
+        return pathCache;
+    }
+
+    /**
+     * Get the colony navigation graph of a server world, called on the server thread when a long path is requested.
+     *
+     * @param world the world.
+     * @return the graph.
+     */
+    public static ColonyNavigationGraph getNavigationGraph(@NotNull final World world)
+    {
+        return navigationGraphs.computeIfAbsent(world.provider.getDimension(), dim -> new ColonyNavigationGraph());
+    }
+
+    /**
+     * Called when a block changed in a server world.
+     * Invalidates the snapshots and cached paths which could be affected.
+     *
+     * @param world    the world.
+     * @param pos      the position of the block.
+     * @param oldState the previous state.
+     * @param newState the new state.
+     */
+    public static void onBlockChanged(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState oldState, @NotNull final IBlockState newState)
+    {
+        SectionSnapshotCache.invalidate(world, pos);
+
+        //  Growing crops and similar changes don't change how the block can be walked through
+        if (WalkClassification.classify(oldState) != WalkClassification.classify(newState))
+        {
+            pathCache.invalidate(world.provider.getDimension(), pos);
+
+            final ColonyNavigationGraph graph = navigationGraphs.get(world.provider.getDimension());
+            if (graph != null)
+            {
+                graph.invalidate(pos);
+            }
+        }
+    }
+
+    /**
+     * Called when a server world unloads, drops everything cached for it.
+     *
+     * @param world the world.
+     */
+    public static void onWorldUnload(@NotNull final World world)
+    {
+        SectionSnapshotCache.clear(world);
+        pathCache.clear(world.provider.getDimension());
+        navigationGraphs.remove(world.provider.getDimension());
     }
 
     /**
@@ -0,0 +1,272 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.util.Log;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server wide cache of chunk section snapshots, shared by all path jobs of a dimension.
+ * Sections are captured on first access and invalidated when a block inside of them changes.
+ * Above a maximum amount of sections, outdated and then least recently used sections are dropped.
+ */
+public final class SectionSnapshotCache
+{
+    /**
+     * Snapshots older than this are captured again, in milliseconds.
+     */
+    private static final long MAX_AGE = 60_000L;
+
+    /**
+     * Amount of cached sections per dimension after which sections are dropped.
+     */
+    private static final int MAX_CACHED_SECTIONS = 4096;
+
+    /**
+     * Amount of sections kept when sections are dropped, below the maximum so that not every capture has to drop sections.
+     */
+    private static final int EVICTION_TARGET = MAX_CACHED_SECTIONS * 3 / 4;
+
+    /**
+     * Attempts to capture a section which is modified at the same time.
+     */
+    private static final int CAPTURE_ATTEMPTS = 3;
+
+    /**
+     * Shift of the x coordinate in the section key.
+     */
+    private static final int SHIFT_X = 36;
+
+    /**
+     * Shift of the y coordinate in the section key.
+     */
+    private static final int SHIFT_Y = 28;
+
+    /**
+     * Mask of the x and z coordinates in the section key.
+     */
+    private static final long XZ_MASK = (1L << 28) - 1L;
+
+    /**
+     * Mask of the section y in the section key.
+     */
+    private static final long Y_MASK = 0xFFL;
+
+    /**
+     * The cache of each dimension.
+     */
+    private static final Map<Integer, DimensionCache> CACHES = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private SectionSnapshotCache()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get the snapshot of a section, capturing it if it isn't cached.
+     * Client worlds are not notified of block changes, their sections are therefore never cached.
+     *
+     * @param world    the world.
+     * @param chunk    the chunk containing the section.
+     * @param sectionY the index of the section in the chunk.
+     * @return the snapshot.
+     */
+    @NotNull
+    public static ChunkSectionSnapshot getOrCapture(@NotNull final World world, @NotNull final Chunk chunk, final int sectionY)
+    {
+        if (world.isRemote)
+        {
+            return capture(chunk, sectionY);
+        }
+
+        final DimensionCache cache = CACHES.computeIfAbsent(world.provider.getDimension(), dim -> new DimensionCache());
+        final long key = sectionKey(chunk.x, sectionY, chunk.z);
+        final long now = System.currentTimeMillis();
+
+        final CachedSection cached = cache.sections.get(key);
+        if (cached != null && now - cached.capturedAt < MAX_AGE)
+        {
+            cached.lastAccess = now;
+            return cached.snapshot;
+        }
+
+        final long modCount = cache.modCount.get();
+        final ChunkSectionSnapshot snapshot = capture(chunk, sectionY);
+
+        //  Only publish the snapshot if no block changed in between, it could be outdated otherwise.
+        //  Invalidations count before they remove, so one which ran before the put is seen by the check after it.
+        if (cache.modCount.get() == modCount)
+        {
+            final CachedSection section = new CachedSection(snapshot, now);
+            cache.sections.put(key, section);
+            if (cache.modCount.get() != modCount)
+            {
+                cache.sections.remove(key, section);
+            }
+            else if (cache.sections.size() > MAX_CACHED_SECTIONS)
+            {
+                evict(cache, now);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Drop the outdated sections of a dimension and then the least recently used ones until the eviction target is reached.
+     *
+     * @param cache the cache of the dimension.
+     * @param now   the current time in milliseconds.
+     */
+    private static void evict(@NotNull final DimensionCache cache, final long now)
+    {
+        synchronized (cache)
+        {
+            if (cache.sections.size() <= MAX_CACHED_SECTIONS)
+            {
+                return;
+            }
+
+            cache.sections.values().removeIf(section -> now - section.capturedAt >= MAX_AGE);
+            final int excess = cache.sections.size() - EVICTION_TARGET;
+            if (excess <= 0)
+            {
+                return;
+            }
+
+            //  Copy the access times, they change while sorting
+            final List<Map.Entry<Long, Long>> accesses = new ArrayList<>(cache.sections.size());
+            for (final Map.Entry<Long, CachedSection> entry : cache.sections.entrySet())
+            {
+                accesses.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue().lastAccess));
+            }
+            accesses.sort(Map.Entry.comparingByValue());
+            for (int i = 0; i < excess && i < accesses.size(); i++)
+            {
+                cache.sections.remove(accesses.get(i).getKey());
+            }
+        }
+    }
+
+    /**
+     * Invalidate the section containing a changed block.
+     *
+     * @param world the world.
+     * @param pos   the position of the changed block.
+     */
+    public static void invalidate(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final DimensionCache cache = CACHES.get(world.provider.getDimension());
+        if (cache != null)
+        {
+            cache.modCount.incrementAndGet();
+            cache.sections.remove(sectionKey(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4));
+        }
+    }
+
+    /**
+     * Drop all snapshots of a world, called when it unloads.
+     *
+     * @param world the world.
+     */
+    public static void clear(@NotNull final World world)
+    {
+        CACHES.remove(world.provider.getDimension());
+    }
+
+    /**
+     * Copy a section of a chunk.
+     * Path jobs read chunks off the server thread, a capture can therefore fail while the section is modified.
+     *
+     * @param chunk    the chunk.
+     * @param sectionY the index of the section.
+     * @return the snapshot.
+     */
+    @NotNull
+    private static ChunkSectionSnapshot capture(@NotNull final Chunk chunk, final int sectionY)
+    {
+        final ExtendedBlockStorage storage = chunk.getBlockStorageArray()[sectionY];
+        RuntimeException lastException = null;
+        for (int attempt = 0; attempt < CAPTURE_ATTEMPTS; attempt++)
+        {
+            try
+            {
+                return ChunkSectionSnapshot.capture(storage);
+            }
+            catch (final RuntimeException e)
+            {
+                lastException = e;
+            }
+        }
+        Log.getLogger().warn("Unable to capture chunk section for pathfinding", lastException);
+        return ChunkSectionSnapshot.EMPTY;
+    }
+
+    private static long sectionKey(final int x, final int y, final int z)
+    {
+        return (((long) x & XZ_MASK) << SHIFT_X) | (((long) y & Y_MASK) << SHIFT_Y) | ((long) z & XZ_MASK);
+    }
+
+    /**
+     * Cached sections of one dimension.
+     */
+    private static final class DimensionCache
+    {
+        /**
+         * The cached sections by section key.
+         */
+        private final Map<Long, CachedSection> sections = new ConcurrentHashMap<>();
+
+        /**
+         * Incremented on every invalidation.
+         */
+        private final AtomicLong modCount = new AtomicLong();
+    }
+
+    /**
+     * A snapshot with its capture time.
+     */
+    private static final class CachedSection
+    {
+        /**
+         * The snapshot.
+         */
+        private final ChunkSectionSnapshot snapshot;
+
+        /**
+         * When it was captured.
+         */
+        private final long capturedAt;
+
+        /**
+         * When it was last used.
+         */
+        private volatile long lastAccess;
+
+        /**
+         * Create a new cached section.
+         *
+         * @param snapshot   the snapshot.
+         * @param capturedAt when it was captured.
+         */
+        private CachedSection(final ChunkSectionSnapshot snapshot, final long capturedAt)
+        {
+            this.snapshot = snapshot;
+            this.capturedAt = capturedAt;
+            this.lastAccess = capturedAt;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Block access used by the path jobs, replacing the vanilla ChunkCache.
+ * Reads blocks from shared {@link ChunkSectionSnapshot}s, which are resolved once per job and section.
+ */
+public class SnapshotBlockAccess implements IBlockAccess
+{
+    /**
+     * Amount of sections in a chunk.
+     */
+    private static final int SECTIONS_PER_CHUNK = 16;
+
+    /**
+     * Height of the world.
+     */
+    private static final int MAX_Y = 256;
+
+    /**
+     * Air state returned outside of the captured area.
+     */
+    private static final IBlockState AIR = Blocks.AIR.getDefaultState();
+
+    /**
+     * The world the snapshots are taken from.
+     */
+    private final World world;
+
+    /**
+     * The chunk coordinates of the lowest corner.
+     */
+    private final int chunkX;
+    private final int chunkZ;
+
+    /**
+     * The size of the area in chunks.
+     */
+    private final int sizeX;
+    private final int sizeZ;
+
+    /**
+     * The chunks of the area, obtained on the calling thread.
+     */
+    private final Chunk[] chunks;
+
+    /**
+     * The sections of the area, resolved on first access.
+     */
+    private final ChunkSectionSnapshot[] sections;
+
+    /**
+     * Create a block access covering all chunks of an area, including a border.
+     *
+     * @param world  the world.
+     * @param from   one corner of the area.
+     * @param to     the other corner of the area.
+     * @param border the border added around the area.
+     */
+    public SnapshotBlockAccess(@NotNull final World world, @NotNull final BlockPos from, @NotNull final BlockPos to, final int border)
+    {
+        this.world = world;
+        this.chunkX = (Math.min(from.getX(), to.getX()) - border) >> 4;
+        this.chunkZ = (Math.min(from.getZ(), to.getZ()) - border) >> 4;
+        this.sizeX = ((Math.max(from.getX(), to.getX()) + border) >> 4) - chunkX + 1;
+        this.sizeZ = ((Math.max(from.getZ(), to.getZ()) + border) >> 4) - chunkZ + 1;
+
+        this.chunks = new Chunk[sizeX * sizeZ];
+        for (int x = 0; x < sizeX; x++)
+        {
+            for (int z = 0; z < sizeZ; z++)
+            {
+                chunks[x * sizeZ + z] = world.getChunk(chunkX + x, chunkZ + z);
+            }
+        }
+        this.sections = new ChunkSectionSnapshot[chunks.length * SECTIONS_PER_CHUNK];
+    }
+
+    /**
+     * Get the state at a position without creating a BlockPos.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @param z the z coordinate.
+     * @return the state, air outside of the area.
+     */
+    @NotNull
+    public IBlockState getBlockState(final int x, final int y, final int z)
+    {
+        final ChunkSectionSnapshot section = getSection(x, y, z);
+        return section == null ? AIR : section.getBlockState(x, y, z);
+    }
+
+    /**
+     * Get the {@link WalkClassification} flags at a position.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @param z the z coordinate.
+     * @return the flags, air outside of the area.
+     */
+    public int getWalkFlags(final int x, final int y, final int z)
+    {
+        final ChunkSectionSnapshot section = getSection(x, y, z);
+        return section == null ? (WalkClassification.AIR | WalkClassification.PASSABLE) : section.getWalkFlags(x, y, z);
+    }
+
+    /**
+     * Get the {@link WalkClassification} flags at a position.
+     *
+     * @param pos the position.
+     * @return the flags, air outside of the area.
+     */
+    public int getWalkFlags(@NotNull final BlockPos pos)
+    {
+        return getWalkFlags(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    @NotNull
+    @Override
+    public IBlockState getBlockState(@NotNull final BlockPos pos)
+    {
+        return getBlockState(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    @Nullable
+    @Override
+    public TileEntity getTileEntity(@NotNull final BlockPos pos)
+    {
+        final Chunk chunk = getChunk(pos.getX() >> 4, pos.getZ() >> 4);
+        return chunk == null ? null : chunk.getTileEntity(pos, Chunk.EnumCreateEntityType.CHECK);
+    }
+
+    @Override
+    public boolean isAirBlock(@NotNull final BlockPos pos)
+    {
+        final IBlockState state = getBlockState(pos);
+        return state.getBlock().isAir(state, this, pos);
+    }
+
+    @Override
+    public int getStrongPower(@NotNull final BlockPos pos, @NotNull final EnumFacing direction)
+    {
+        return getBlockState(pos).getStrongPower(this, pos, direction);
+    }
+
+    @Override
+    public boolean isSideSolid(@NotNull final BlockPos pos, @NotNull final EnumFacing side, final boolean _default)
+    {
+        if (pos.getY() < 0 || pos.getY() >= MAX_Y || getChunk(pos.getX() >> 4, pos.getZ() >> 4) == null)
+        {
+            return _default;
+        }
+        return getBlockState(pos).isSideSolid(this, pos, side);
+    }
+
+    @SideOnly(Side.CLIENT)
+    @Override
+    public int getCombinedLight(@NotNull final BlockPos pos, final int lightValue)
+    {
+        return world.getCombinedLight(pos, lightValue);
+    }
+
+    @SideOnly(Side.CLIENT)
+    @NotNull
+    @Override
+    public Biome getBiome(@NotNull final BlockPos pos)
+    {
+        return world.getBiome(pos);
+    }
+
+    @SideOnly(Side.CLIENT)
+    @NotNull
+    @Override
+    public WorldType getWorldType()
+    {
+        return world.getWorldType();
+    }
+
+    /**
+     * Get the world the snapshots are taken from.
+     *
+     * @return the world.
+     */
+    @NotNull
+    World getWorld()
+    {
+        return world;
+    }
+
+    /**
+     * Get a chunk of the area, obtained when the block access was created.
+     *
+     * @param x the chunk x.
+     * @param z the chunk z.
+     * @return the chunk or null if it is outside of the area.
+     */
+    @Nullable
+    Chunk getChunk(final int x, final int z)
+    {
+        final int localX = x - chunkX;
+        final int localZ = z - chunkZ;
+        if (localX < 0 || localX >= sizeX || localZ < 0 || localZ >= sizeZ)
+        {
+            return null;
+        }
+        return chunks[localX * sizeZ + localZ];
+    }
+
+    @Nullable
+    private ChunkSectionSnapshot getSection(final int x, final int y, final int z)
+    {
+        if (y < 0 || y >= MAX_Y)
+        {
+            return null;
+        }
+
+        final int localX = (x >> 4) - chunkX;
+        final int localZ = (z >> 4) - chunkZ;
+        if (localX < 0 || localX >= sizeX || localZ < 0 || localZ >= sizeZ)
+        {
+            return null;
+        }
+
+        final int chunkIndex = localX * sizeZ + localZ;
+        final int sectionIndex = chunkIndex * SECTIONS_PER_CHUNK + (y >> 4);
+        ChunkSectionSnapshot section = sections[sectionIndex];
+        if (section == null)
+        {
+            section = SectionSnapshotCache.getOrCapture(world, chunks[chunkIndex], y >> 4);
+            sections[sectionIndex] = section;
+        }
+        return section;
+    }
+}
@@ -0,0 +1,124 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.blocks.AbstractBlockBarrel;
+import com.minecolonies.api.blocks.decorative.AbstractBlockMinecoloniesConstructionTape;
+import com.minecolonies.api.blocks.huts.AbstractBlockMinecoloniesDefault;
+import net.minecraft.block.*;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Position independent facts about a block state the pathfinder needs, packed into a byte.
+ * Computed once per palette entry when a chunk section is captured.
+ */
+public final class WalkClassification
+{
+    /**
+     * The block is air.
+     */
+    public static final int AIR = 1;
+
+    /**
+     * The block is a liquid.
+     */
+    public static final int LIQUID = 1 << 1;
+
+    /**
+     * The block is water.
+     */
+    public static final int WATER = 1 << 2;
+
+    /**
+     * The material of the block is solid.
+     */
+    public static final int SOLID = 1 << 3;
+
+    /**
+     * The state does not block movement.
+     */
+    public static final int PASSABLE = 1 << 4;
+
+    /**
+     * The block is a fence, wall or similar and can't be walked on.
+     */
+    public static final int FENCE = 1 << 5;
+
+    /**
+     * The block is construction tape, which can only be dropped into.
+     */
+    public static final int TAPE = 1 << 6;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private WalkClassification()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Compute the classification of a state.
+     *
+     * @param state the state.
+     * @return the classification flags.
+     */
+    public static byte classify(@NotNull final IBlockState state)
+    {
+        final Block block = state.getBlock();
+        final Material material = state.getMaterial();
+        int flags = 0;
+
+        if (material == Material.AIR)
+        {
+            flags |= AIR | PASSABLE;
+        }
+        else if (material.blocksMovement())
+        {
+            if (block instanceof BlockDoor
+                  || block instanceof BlockFenceGate
+                  || block instanceof AbstractBlockMinecoloniesConstructionTape
+                  || block instanceof BlockPressurePlate)
+            {
+                flags |= PASSABLE;
+            }
+        }
+        else if (!material.isLiquid())
+        {
+            flags |= PASSABLE;
+        }
+
+        if (material.isLiquid())
+        {
+            flags |= LIQUID;
+        }
+
+        if (material == Material.WATER)
+        {
+            flags |= WATER;
+        }
+
+        if (material.isSolid())
+        {
+            flags |= SOLID;
+        }
+
+        if (block instanceof BlockFence
+              || block instanceof BlockFenceGate
+              || block instanceof BlockWall
+              || block instanceof AbstractBlockMinecoloniesDefault
+              || block instanceof AbstractBlockBarrel)
+        {
+            flags |= FENCE;
+        }
+
+        if (block instanceof AbstractBlockMinecoloniesConstructionTape)
+        {
+            flags |= TAPE;
+        }
+
+        return (byte) flags;
+    }
+}
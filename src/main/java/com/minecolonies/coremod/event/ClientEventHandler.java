@@ -10,6 +10,7 @@ import com.minecolonies.api.colony.IColonyView;
 import com.minecolonies.api.colony.buildings.views.IBuildingView;
 import com.minecolonies.api.items.ModItems;
 import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.coremod.client.ClientClaimMap;
 import com.minecolonies.coremod.colony.CitizenDataView;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingGuards;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIStructure;
@@ -21,6 +22,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.client.event.RenderWorldLastEvent;
+import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import org.jetbrains.annotations.NotNull;
 
@@ -127,4 +129,18 @@ public class ClientEventHandler
             }
         }
     }
+
+    /**
+     * Apply the known claims to a chunk loaded on the client.
+     *
+     * @param event the chunk load event.
+     */
+    @SubscribeEvent
+    public void onChunkLoad(@NotNull final ChunkEvent.Load event)
+    {
+        if (event.getWorld().isRemote)
+        {
+            ClientClaimMap.onChunkLoad(event.getWorld(), event.getChunk());
+        }
+    }
 }
@@ -19,15 +19,17 @@ import com.minecolonies.coremod.blocks.huts.BlockHutWareHouse;
 import com.minecolonies.coremod.client.render.RenderBipedCitizen;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
+import com.minecolonies.coremod.entity.ai.citizen.fisherman.ColonyPondIndex;
+import com.minecolonies.coremod.entity.ai.citizen.lumberjack.ColonyTreeIndex;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
 import com.minecolonies.coremod.entity.mobs.EntityMercenary;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesChunkCapabilityProvider;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesWorldCapabilityProvider;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesWorldColonyManagerCapabilityProvider;
 import com.minecolonies.coremod.network.messages.OpenSuggestionWindowMessage;
-import com.minecolonies.coremod.network.messages.UpdateChunkCapabilityMessage;
-import com.minecolonies.coremod.network.messages.UpdateChunkRangeCapabilityMessage;
 import com.minecolonies.coremod.util.ChunkDataHelper;
+import com.minecolonies.coremod.util.ChunkStorageRegions;
+import com.minecolonies.coremod.util.ClaimSyncHelper;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockBed;
 import net.minecraft.block.BlockSilverfish;
@@ -59,6 +61,7 @@ import net.minecraftforge.event.entity.EntityJoinWorldEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ChunkDataEvent;
 import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.FMLCommonHandler;
@@ -164,6 +167,8 @@ public class EventHandler
         if (event.getWorld() instanceof WorldServer)
         {
             ChunkDataHelper.loadChunk(event.getChunk(), event.getWorld());
+            ColonyTreeIndex.onChunkLoad(event.getChunk(), event.getWorld());
+            ColonyPondIndex.onChunkLoad(event.getChunk(), event.getWorld());
         }
     }
 
@@ -179,6 +184,20 @@ public class EventHandler
         }
     }
 
+    /**
+     * Called when a chunk gets saved, its applied chunk storage can be dropped now.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public void onChunkSave(@NotNull final ChunkDataEvent.Save event)
+    {
+        if (event.getWorld() instanceof WorldServer)
+        {
+            ChunkStorageRegions.get(event.getWorld()).onChunkSaved(event.getChunk().x, event.getChunk().z);
+        }
+    }
+
     /**
      * Event called when the player enters a new chunk.
      *
@@ -193,17 +212,13 @@ public class EventHandler
         if (entity instanceof EntityPlayerMP)
         {
             final World world = entity.getEntityWorld();
-            MineColonies.getNetwork()
-              .sendTo(new UpdateChunkRangeCapabilityMessage(world, event.getNewChunkX(), event.getNewChunkZ(), Configurations.gameplay.workingRangeTownHallChunks),
-                (EntityPlayerMP) event.getEntity());
+            @NotNull final EntityPlayerMP player = (EntityPlayerMP) entity;
 
             final Chunk newChunk = world.getChunk(event.getNewChunkX(), event.getNewChunkZ());
             ChunkDataHelper.loadChunk(newChunk, entity.world);
+            ClaimSyncHelper.onEnteringChunk(player, newChunk, Configurations.gameplay.workingRangeTownHallChunks);
 
             final IColonyTagCapability newCloseColonies = newChunk.getCapability(CLOSE_COLONY_CAP, null);
-
-            MineColonies.getNetwork().sendTo(new UpdateChunkCapabilityMessage(newCloseColonies, newChunk.x, newChunk.z), (EntityPlayerMP) entity);
-            @NotNull final EntityPlayerMP player = (EntityPlayerMP) entity;
             final Chunk oldChunk = world.getChunk(event.getOldChunkX(), event.getOldChunkZ());
             final IColonyTagCapability oldCloseColonies = oldChunk.getCapability(CLOSE_COLONY_CAP, null);
 
@@ -279,6 +294,7 @@ public class EventHandler
                 colony.getPackageManager().removeCloseSubscriber(player);
                 colony.getPackageManager().removeImportantColonyPlayer(player);
             }
+            ClaimSyncHelper.onPlayerLeave(player);
         }
     }
 
@@ -341,6 +357,11 @@ public class EventHandler
     @SubscribeEvent
     public void onBlockBreak(@NotNull final BlockEvent.BreakEvent event)
     {
+        if (!event.getWorld().isRemote)
+        {
+            ColonyTreeIndex.onBlockBroken(event.getWorld(), event.getPos());
+        }
+
         if (event.getPlayer() != null && event.getPlayer().getHeldItem(EnumHand.MAIN_HAND).getItem() == ModItems.scanTool)
         {
             final ItemStack itemstack = event.getPlayer().getHeldItem(EnumHand.MAIN_HAND);
@@ -358,6 +379,21 @@ public class EventHandler
         }
     }
 
+    /**
+     * Event when a block changed and notifies its neighbours.
+     * Marks the fishing spots close to it to be checked again.
+     *
+     * @param event {@link net.minecraftforge.event.world.BlockEvent.NeighborNotifyEvent}
+     */
+    @SubscribeEvent
+    public void onNeighborNotify(@NotNull final BlockEvent.NeighborNotifyEvent event)
+    {
+        if (!event.getWorld().isRemote)
+        {
+            ColonyPondIndex.onBlockChanged(event.getWorld(), event.getPos());
+        }
+    }
+
     /**
      * Event when a player right clicks a block, or right clicks with an item.
      * Event gets cancelled when player has no permission. Event gets cancelled
@@ -451,6 +487,11 @@ public class EventHandler
     {
         final EntityPlayer player = event.getPlayer();
         final World world = event.getWorld();
+        if (!world.isRemote && event.getPlacedBlock().getBlock().isWood(world, event.getPos()))
+        {
+            ColonyTreeIndex.onTreeCandidate(world, event.getPos());
+        }
+
         if (event.getPlacedBlock().getBlock() instanceof AbstractBlockHut && event.getPlacedBlock().getBlock() != ModBlocks.blockPostBox)
         {
             final IColony colony = IColonyManager.getInstance().getIColony(world, event.getPos());
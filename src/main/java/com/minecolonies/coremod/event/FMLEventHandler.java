@@ -7,6 +7,7 @@ import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.network.messages.ColonyStylesMessage;
 import com.minecolonies.coremod.network.messages.ServerUUIDMessage;
+import com.minecolonies.coremod.util.ChunkDataHelper;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.util.SoundEvent;
 import net.minecraftforge.common.config.Config;
@@ -25,7 +26,7 @@ public class FMLEventHandler
 {
     /**
      * Called when the server ticks.
-     * Calls {@link ColonyManager#onServerTick(TickEvent.ServerTickEvent)}.
+     * Calls {@link ColonyManager#onServerTick(TickEvent.ServerTickEvent)} and syncs the claims changed during the tick.
      *
      * @param event {@link net.minecraftforge.fml.common.gameevent.TickEvent.ServerTickEvent}.
      */
@@ -33,6 +34,10 @@ public class FMLEventHandler
     public void onServerTick(final TickEvent.ServerTickEvent event)
     {
         IColonyManager.getInstance().onServerTick(event);
+        if (event.phase == TickEvent.Phase.END)
+        {
+            ChunkDataHelper.sendChangedChunks();
+        }
     }
 
     /**
@@ -88,6 +93,10 @@ public class FMLEventHandler
     public void onConfigChanged(@NotNull final ConfigChangedEvent.OnConfigChangedEvent event)
     {
         ConfigManager.sync(Constants.MOD_ID, Config.Type.INSTANCE);
+        if (Constants.MOD_ID.equals(event.getModID()))
+        {
+            IColonyManager.getInstance().getCompatibilityManager().invalidateClassifications();
+        }
     }
 
     /**
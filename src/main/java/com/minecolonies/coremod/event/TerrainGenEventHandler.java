@@ -0,0 +1,26 @@
+package com.minecolonies.coremod.event;
+
+import com.minecolonies.coremod.entity.ai.citizen.lumberjack.ColonyTreeIndex;
+import net.minecraftforge.event.terraingen.SaplingGrowTreeEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Handles the events of the terrain generation bus.
+ */
+public class TerrainGenEventHandler
+{
+    /**
+     * Remember a growing sapling as a tree for the lumberjacks of its colony.
+     *
+     * @param event {@link SaplingGrowTreeEvent}
+     */
+    @SubscribeEvent
+    public void onSaplingGrowTree(@NotNull final SaplingGrowTreeEvent event)
+    {
+        if (!event.getWorld().isRemote)
+        {
+            ColonyTreeIndex.onTreeCandidate(event.getWorld(), event.getPos());
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.minecolonies.coremod.network.messages;
+
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.coremod.client.ClientClaimMap;
+import io.netty.buffer.ByteBuf;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Update the client side claim map of the chunks around a player.
+ * Either the full window around the player or only the areas which entered it with the last chunk crossing,
+ * plus the chunks which were unloaded when they were sent before.
+ * Owners are run length encoded, a chunk which is not loaded on the server is sent as unknown and keeps its client value.
+ */
+public class ClaimMapMessage extends AbstractMessage<ClaimMapMessage, IMessage>
+{
+    /**
+     * Max size of a varint.
+     */
+    private static final int VAR_INT_SIZE = 5;
+
+    /**
+     * Encoded owner of a chunk which is not loaded on the server.
+     */
+    public static final int UNKNOWN = 0;
+
+    /**
+     * The dimension of the window.
+     */
+    private int dimension;
+
+    /**
+     * The sequence of the window, per player.
+     */
+    private int sequence;
+
+    /**
+     * If the client has to drop its previous map.
+     */
+    private boolean reset;
+
+    /**
+     * Center chunk x of the window.
+     */
+    private int centerX;
+
+    /**
+     * Center chunk z of the window.
+     */
+    private int centerZ;
+
+    /**
+     * Range of the window in chunks.
+     */
+    private int range;
+
+    /**
+     * Owner of the center chunk.
+     */
+    private int owningColonyId;
+
+    /**
+     * The close colonies of the center chunk.
+     */
+    private List<Integer> closeColonies;
+
+    /**
+     * The areas, as x, z, width and depth in chunks.
+     */
+    private final List<int[]> areas = new ArrayList<>();
+
+    /**
+     * The encoded owners of the areas, row by row.
+     */
+    private final List<int[]> areaOwners = new ArrayList<>();
+
+    /**
+     * Single chunks, as x, z and encoded owner.
+     */
+    private final List<int[]> chunks = new ArrayList<>();
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public ClaimMapMessage()
+    {
+        super();
+    }
+
+    /**
+     * Create a new claim map update.
+     *
+     * @param dimension the dimension.
+     * @param sequence  the sequence of the window.
+     * @param reset     if the client has to drop its previous map.
+     * @param centerX   the center chunk x.
+     * @param centerZ   the center chunk z.
+     * @param range     the range in chunks.
+     * @param centerCap the capability of the center chunk.
+     */
+    public ClaimMapMessage(
+      final int dimension,
+      final int sequence,
+      final boolean reset,
+      final int centerX,
+      final int centerZ,
+      final int range,
+      @NotNull final IColonyTagCapability centerCap)
+    {
+        super();
+        this.dimension = dimension;
+        this.sequence = sequence;
+        this.reset = reset;
+        this.centerX = centerX;
+        this.centerZ = centerZ;
+        this.range = range;
+        this.owningColonyId = centerCap.getOwningColony();
+        this.closeColonies = new ArrayList<>(centerCap.getAllCloseColonies());
+    }
+
+    /**
+     * Add an area of chunks.
+     *
+     * @param x      the min chunk x.
+     * @param z      the min chunk z.
+     * @param width  the width in chunks.
+     * @param depth  the depth in chunks.
+     * @param owners the encoded owners, row by row.
+     */
+    public void addArea(final int x, final int z, final int width, final int depth, @NotNull final int[] owners)
+    {
+        if (width > 0 && depth > 0)
+        {
+            areas.add(new int[] {x, z, width, depth});
+            areaOwners.add(owners);
+        }
+    }
+
+    /**
+     * Add a single chunk.
+     *
+     * @param x     the chunk x.
+     * @param z     the chunk z.
+     * @param owner the encoded owner.
+     */
+    public void addChunk(final int x, final int z, final int owner)
+    {
+        chunks.add(new int[] {x, z, owner});
+    }
+
+    @Override
+    public void fromBytes(@NotNull final ByteBuf buf)
+    {
+        dimension = buf.readInt();
+        sequence = ByteBufUtils.readVarInt(buf, VAR_INT_SIZE);
+        reset = buf.readBoolean();
+        centerX = buf.readInt();
+        centerZ = buf.readInt();
+        range = ByteBufUtils.readVarInt(buf, VAR_INT_SIZE);
+        owningColonyId = ByteBufUtils.readVarInt(buf, VAR_INT_SIZE);
+        final int closeSize = ByteBufUtils.readVarInt(buf, VAR_INT_SIZE);
+        closeColonies = new ArrayList<>(closeSize);
+        for (int i = 0; i < closeSize; i++)
+        {
+            closeColonies.add(ByteBufUtils.readVarInt(buf, VAR_INT_SIZE));
+        }
+
+        final int areaSize = ByteBufUtils.readVarInt(buf, VAR_INT_SIZE);
+        for (int i = 0; i < areaSize; i++)
+        {
+            final int[] area = new int[] {buf.readInt(), buf.readInt(), ByteBufUtils.readVarInt(buf, VAR_INT_SIZE), ByteBufUtils.readVarInt(buf, VAR_INT_SIZE)};
+            final int[] owners = new int[area[2] * area[3]];
+            int index = 0;
+            while (index < owners.length)
+            {
+                final int run = ByteBufUtils.readVarInt(buf, VAR_INT_SIZE);
+                final int owner = ByteBufUtils.readVarInt(buf, VAR_INT_SIZE);
+                for (int j = 0; j < run && index < owners.length; j++)
+                {
+                    owners[index++] = owner;
+                }
+            }
+            areas.add(area);
+            areaOwners.add(owners);
+        }
+
+        final int chunkSize = ByteBufUtils.readVarInt(buf, VAR_INT_SIZE);
+        for (int i = 0; i < chunkSize; i++)
+        {
+            chunks.add(new int[] {buf.readInt(), buf.readInt(), ByteBufUtils.readVarInt(buf, VAR_INT_SIZE)});
+        }
+    }
+
+    @Override
+    public void toBytes(@NotNull final ByteBuf buf)
+    {
+        buf.writeInt(dimension);
+        ByteBufUtils.writeVarInt(buf, sequence, VAR_INT_SIZE);
+        buf.writeBoolean(reset);
+        buf.writeInt(centerX);
+        buf.writeInt(centerZ);
+        ByteBufUtils.writeVarInt(buf, range, VAR_INT_SIZE);
+        ByteBufUtils.writeVarInt(buf, owningColonyId, VAR_INT_SIZE);
+        ByteBufUtils.writeVarInt(buf, closeColonies.size(), VAR_INT_SIZE);
+        for (final int id : closeColonies)
+        {
+            ByteBufUtils.writeVarInt(buf, id, VAR_INT_SIZE);
+        }
+
+        ByteBufUtils.writeVarInt(buf, areas.size(), VAR_INT_SIZE);
+        for (int i = 0; i < areas.size(); i++)
+        {
+            final int[] area = areas.get(i);
+            buf.writeInt(area[0]);
+            buf.writeInt(area[1]);
+            ByteBufUtils.writeVarInt(buf, area[2], VAR_INT_SIZE);
+            ByteBufUtils.writeVarInt(buf, area[3], VAR_INT_SIZE);
+
+            final int[] owners = areaOwners.get(i);
+            int index = 0;
+            while (index < owners.length)
+            {
+                final int owner = owners[index];
+                int run = 1;
+                while (index + run < owners.length && owners[index + run] == owner)
+                {
+                    run++;
+                }
+                ByteBufUtils.writeVarInt(buf, run, VAR_INT_SIZE);
+                ByteBufUtils.writeVarInt(buf, owner, VAR_INT_SIZE);
+                index += run;
+            }
+        }
+
+        ByteBufUtils.writeVarInt(buf, chunks.size(), VAR_INT_SIZE);
+        for (final int[] chunk : chunks)
+        {
+            buf.writeInt(chunk[0]);
+            buf.writeInt(chunk[1]);
+            ByteBufUtils.writeVarInt(buf, chunk[2], VAR_INT_SIZE);
+        }
+    }
+
+    @Override
+    protected void messageOnClientThread(final ClaimMapMessage message, final MessageContext ctx)
+    {
+        if (ctx.getClientHandler().world == null
+              || !ClientClaimMap.startUpdate(message.dimension, message.sequence, message.reset, message.centerX, message.centerZ, message.range))
+        {
+            return;
+        }
+
+        for (int i = 0; i < message.areas.size(); i++)
+        {
+            final int[] area = message.areas.get(i);
+            final int[] owners = message.areaOwners.get(i);
+            for (int dz = 0; dz < area[3]; dz++)
+            {
+                for (int dx = 0; dx < area[2]; dx++)
+                {
+                    final int owner = owners[dz * area[2] + dx];
+                    if (owner != UNKNOWN)
+                    {
+                        ClientClaimMap.setOwner(ctx.getClientHandler().world, area[0] + dx, area[1] + dz, owner - 1);
+                    }
+                }
+            }
+        }
+
+        for (final int[] chunk : message.chunks)
+        {
+            if (chunk[2] != UNKNOWN)
+            {
+                ClientClaimMap.setOwner(ctx.getClientHandler().world, chunk[0], chunk[1], chunk[2] - 1);
+            }
+        }
+
+        ClientClaimMap.setChunk(ctx.getClientHandler().world, message.centerX, message.centerZ, message.owningColonyId, message.closeColonies);
+    }
+}
@@ -0,0 +1,42 @@
+package com.minecolonies.coremod.network.messages;
+
+import com.minecolonies.coremod.util.ClaimSyncHelper;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+
+/**
+ * Sent by a client which missed a claim map update, to receive the full window around its player again.
+ */
+public class ClaimMapResyncMessage extends AbstractMessage<ClaimMapResyncMessage, IMessage>
+{
+    /**
+     * Default constructor for forge
+     */
+    public ClaimMapResyncMessage()
+    {
+        super();
+    }
+
+    @Override
+    public void fromBytes(final ByteBuf byteBuf)
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    @Override
+    public void toBytes(final ByteBuf byteBuf)
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    @Override
+    public void messageOnServerThread(final ClaimMapResyncMessage message, final EntityPlayerMP player)
+    {
+        ClaimSyncHelper.resync(player);
+    }
+}
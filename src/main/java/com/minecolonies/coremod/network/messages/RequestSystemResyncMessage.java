@@ -0,0 +1,69 @@
+package com.minecolonies.coremod.network.messages;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.IColonyView;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Sent by a client which missed a request system delta, to receive a full snapshot with the next view update.
+ */
+public class RequestSystemResyncMessage extends AbstractMessage<RequestSystemResyncMessage, IMessage>
+{
+    /**
+     * The id of the colony.
+     */
+    private int colonyID = 0;
+
+    /**
+     * Dimension id, needed to get the colony.
+     */
+    private int dimension = 0;
+
+    /**
+     * Default constructor for forge
+     */
+    public RequestSystemResyncMessage()
+    {
+        super();
+    }
+
+    /**
+     * Create a resync message for a colony.
+     *
+     * @param colony the view of the colony.
+     */
+    public RequestSystemResyncMessage(@NotNull final IColonyView colony)
+    {
+        super();
+        this.colonyID = colony.getID();
+        this.dimension = colony.getDimension();
+    }
+
+    @Override
+    public void fromBytes(final ByteBuf byteBuf)
+    {
+        colonyID = byteBuf.readInt();
+        dimension = byteBuf.readInt();
+    }
+
+    @Override
+    public void toBytes(final ByteBuf byteBuf)
+    {
+        byteBuf.writeInt(colonyID);
+        byteBuf.writeInt(dimension);
+    }
+
+    @Override
+    public void messageOnServerThread(final RequestSystemResyncMessage message, final EntityPlayerMP player)
+    {
+        final IColony colony = IColonyManager.getInstance().getColonyByDimension(message.colonyID, message.dimension);
+        if (colony != null)
+        {
+            colony.getPackageManager().addRequestSystemResync(player);
+        }
+    }
+}
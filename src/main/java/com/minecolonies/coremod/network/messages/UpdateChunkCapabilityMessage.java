@@ -1,41 +1,54 @@
 package com.minecolonies.coremod.network.messages;
 
 import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.coremod.client.ClientClaimMap;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
 
 /**
- * Update the ChunkCapability with a colony.
+ * Update the ChunkCapability of a batch of chunks with their colonies.
  */
 public class UpdateChunkCapabilityMessage extends AbstractMessage<UpdateChunkCapabilityMessage, IMessage>
 {
     /**
-     * The colony.
+     * Max size of a varint.
      */
-    private int owningColonyId;
+    private static final int VAR_INT_SIZE = 5;
 
     /**
-     * X Position of the chunk.
+     * X Positions of the chunks.
      */
-    private int x;
+    private int[] xs;
 
     /**
-     * Z Position of the chunk.
+     * Z Positions of the chunks.
      */
-    private int z;
+    private int[] zs;
 
     /**
-     * The list of the close colonies.
+     * The owning colonies of the chunks.
      */
-    private List<Integer> closeColonies;
+    private int[] owningColonyIds;
+
+    /**
+     * The lists of the close colonies of the chunks.
+     */
+    private List<List<Integer>> closeColonies;
+
+    /**
+     * The claim map sequence of the message, or -1 if the player has no claim window.
+     */
+    private int sequence;
 
     /**
      * Empty constructor used when registering the message.
@@ -46,63 +59,82 @@ public class UpdateChunkCapabilityMessage extends AbstractMessage<UpdateChunkCap
     }
 
     /**
-     * Create a message to update the chunk cap on the client side.
-     * @param tagCapability the cap.
-     * @param x the x pos.
-     * @param z the z pos.
+     * Create a message to update the chunk caps of some chunks on the client side.
+     * @param chunks   the chunks.
+     * @param sequence the claim map sequence of the player, or -1.
      */
-    public UpdateChunkCapabilityMessage(@NotNull final IColonyTagCapability tagCapability, final int x, final int z)
+    public UpdateChunkCapabilityMessage(@NotNull final Collection<Chunk> chunks, final int sequence)
     {
-        this.x = x;
-        this.z = z;
-        this.owningColonyId = tagCapability.getOwningColony();
-        this.closeColonies = tagCapability.getAllCloseColonies();
+        super();
+        this.sequence = sequence;
+        xs = new int[chunks.size()];
+        zs = new int[chunks.size()];
+        owningColonyIds = new int[chunks.size()];
+        closeColonies = new ArrayList<>(chunks.size());
+
+        int i = 0;
+        for (final Chunk chunk : chunks)
+        {
+            final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
+            xs[i] = chunk.x;
+            zs[i] = chunk.z;
+            owningColonyIds[i] = cap == null ? 0 : cap.getOwningColony();
+            closeColonies.add(cap == null ? new ArrayList<>() : new ArrayList<>(cap.getAllCloseColonies()));
+            i++;
+        }
     }
 
     @Override
     public void fromBytes(@NotNull final ByteBuf buf)
     {
-        x = buf.readInt();
-        z = buf.readInt();
-        owningColonyId = buf.readInt();
-        final int size = buf.readInt();
-        closeColonies = new ArrayList<>();
-        for(int i = 0; i < size; i++)
+        sequence = buf.readInt();
+        final int size = ByteBufUtils.readVarInt(buf, VAR_INT_SIZE);
+        xs = new int[size];
+        zs = new int[size];
+        owningColonyIds = new int[size];
+        closeColonies = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
         {
-            closeColonies.add(buf.readInt());
+            xs[i] = buf.readInt();
+            zs[i] = buf.readInt();
+            owningColonyIds[i] = ByteBufUtils.readVarInt(buf, VAR_INT_SIZE);
+            final int closeSize = ByteBufUtils.readVarInt(buf, VAR_INT_SIZE);
+            final List<Integer> colonies = new ArrayList<>(closeSize);
+            for (int j = 0; j < closeSize; j++)
+            {
+                colonies.add(ByteBufUtils.readVarInt(buf, VAR_INT_SIZE));
+            }
+            closeColonies.add(colonies);
         }
     }
 
     @Override
     public void toBytes(@NotNull final ByteBuf buf)
     {
-        buf.writeInt(x);
-        buf.writeInt(z);
-        buf.writeInt(owningColonyId);
-        buf.writeInt(closeColonies.size());
-        for(final int id: closeColonies)
+        buf.writeInt(sequence);
+        ByteBufUtils.writeVarInt(buf, xs.length, VAR_INT_SIZE);
+        for (int i = 0; i < xs.length; i++)
         {
-            buf.writeInt(id);
+            buf.writeInt(xs[i]);
+            buf.writeInt(zs[i]);
+            ByteBufUtils.writeVarInt(buf, owningColonyIds[i], VAR_INT_SIZE);
+            ByteBufUtils.writeVarInt(buf, closeColonies.get(i).size(), VAR_INT_SIZE);
+            for (final int id : closeColonies.get(i))
+            {
+                ByteBufUtils.writeVarInt(buf, id, VAR_INT_SIZE);
+            }
         }
     }
 
     @Override
     protected void messageOnClientThread(final UpdateChunkCapabilityMessage message, final MessageContext ctx)
     {
-        if(ctx.getClientHandler().world != null)
+        if (ctx.getClientHandler().world != null && ClientClaimMap.acceptClaimChange(message.sequence))
         {
-            final Chunk chunk = ctx.getClientHandler().world.getChunk(message.x, message.z);
-            final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
-
-            if (cap.getOwningColony() != message.owningColonyId)
+            for (int i = 0; i < message.xs.length; i++)
             {
-                cap.reset(chunk);
-                cap.setOwningColony(message.owningColonyId, chunk);
-                for (final int id : message.closeColonies)
-                {
-                    cap.addColony(id, chunk);
-                }
+                ClientClaimMap.setChunk(ctx.getClientHandler().world, message.xs[i], message.zs[i], message.owningColonyIds[i], message.closeColonies.get(i));
             }
         }
     }
-}
\ No newline at end of file
+}
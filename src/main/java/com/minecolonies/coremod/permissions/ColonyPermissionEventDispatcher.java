@@ -0,0 +1,275 @@
+package com.minecolonies.coremod.permissions;
+
+import com.minecolonies.api.blocks.AbstractBlockHut;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.coremod.colony.Colony;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.entity.item.ItemTossEvent;
+import net.minecraftforge.event.entity.player.*;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ExplosionEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
+
+/**
+ * Single event handler for all colony permission checks.
+ * Resolves the colony owning the chunk of an event and forwards the event to the {@link ColonyPermissionEventHandler} of that colony only.
+ */
+public class ColonyPermissionEventDispatcher
+{
+    /**
+     * BlockEvent.PlaceEvent handler.
+     *
+     * @param event BlockEvent.PlaceEvent
+     */
+    @SubscribeEvent
+    public void on(final BlockEvent.PlaceEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * BlockEvent.BreakEvent handler.
+     * Huts are handled by their colony, even if their chunk is not claimed.
+     *
+     * @param event BlockEvent.BreakEvent
+     */
+    @SubscribeEvent
+    public void on(final BlockEvent.BreakEvent event)
+    {
+        ColonyPermissionEventHandler handler = getHandler(event.getWorld(), event.getPos());
+        if (handler == null && event.getState().getBlock() instanceof AbstractBlockHut)
+        {
+            final IBuilding building = IColonyManager.getInstance().getBuilding(event.getWorld(), event.getPos());
+            if (building != null && building.getColony() instanceof Colony)
+            {
+                handler = ((Colony) building.getColony()).getEventHandler();
+            }
+        }
+
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ExplosionEvent.Detonate handler, keeps blocks and entities inside of colonies from being affected.
+     *
+     * @param event ExplosionEvent.Detonate
+     */
+    @SubscribeEvent
+    public void on(final ExplosionEvent.Detonate event)
+    {
+        if (!Configurations.gameplay.turnOffExplosionsInColonies)
+        {
+            return;
+        }
+
+        final World world = event.getWorld();
+        event.getAffectedBlocks().removeIf(pos -> getColony(world, pos) != null);
+        event.getAffectedEntities().removeIf(entity -> getColony(entity.getEntityWorld(), entity.getPosition()) != null);
+    }
+
+    /**
+     * ExplosionEvent.Start handler.
+     *
+     * @param event ExplosionEvent.Start
+     */
+    @SubscribeEvent
+    public void on(final ExplosionEvent.Start event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), new BlockPos(event.getExplosion().getPosition()));
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent handler.
+     *
+     * @param event PlayerInteractEvent
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteract handler.
+     *
+     * @param event PlayerInteractEvent.EntityInteract
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent.EntityInteract event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer().getEntityWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteractSpecific handler.
+     *
+     * @param event PlayerInteractEvent.EntityInteractSpecific
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent.EntityInteractSpecific event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer().getEntityWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerEvent.BreakSpeed handler.
+     *
+     * @param event PlayerEvent.BreakSpeed
+     */
+    @SubscribeEvent
+    public void on(final PlayerEvent.BreakSpeed event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntity().world, event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ItemTossEvent handler.
+     *
+     * @param event ItemTossEvent
+     */
+    @SubscribeEvent
+    public void on(final ItemTossEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getPlayer().getEntityWorld(), event.getPlayer().getPosition());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * EntityItemPickupEvent handler.
+     *
+     * @param event EntityItemPickupEvent
+     */
+    @SubscribeEvent
+    public void on(final EntityItemPickupEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer().getEntityWorld(), event.getEntityPlayer().getPosition());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * FillBucketEvent handler, checked at the target block or at the player if there is none.
+     *
+     * @param event FillBucketEvent
+     */
+    @SubscribeEvent
+    public void on(final FillBucketEvent event)
+    {
+        final BlockPos pos = event.getTarget() == null ? event.getEntityPlayer().getPosition() : event.getTarget().getBlockPos();
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer().getEntityWorld(), pos);
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ArrowLooseEvent handler.
+     *
+     * @param event ArrowLooseEvent
+     */
+    @SubscribeEvent
+    public void on(final ArrowLooseEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer().getEntityWorld(), event.getEntity().getPosition());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * AttackEntityEvent handler.
+     *
+     * @param event AttackEntityEvent
+     */
+    @SubscribeEvent
+    public void on(final AttackEntityEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer().getEntityWorld(), event.getEntityPlayer().getPosition());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * Get the permission handler of the colony owning a position.
+     *
+     * @param world the world.
+     * @param pos   the position.
+     * @return the handler or null if the position is not inside of a loaded colony.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@NotNull final World world, @Nullable final BlockPos pos)
+    {
+        final Colony colony = pos == null ? null : getColony(world, pos);
+        return colony == null ? null : colony.getEventHandler();
+    }
+
+    /**
+     * Get the colony owning the chunk of a position.
+     *
+     * @param world the world.
+     * @param pos   the position.
+     * @return the colony or null.
+     */
+    @Nullable
+    private static Colony getColony(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        if (!world.isBlockLoaded(pos))
+        {
+            return null;
+        }
+
+        final IColonyTagCapability cap = world.getChunk(pos).getCapability(CLOSE_COLONY_CAP, null);
+        if (cap == null || cap.getOwningColony() == 0)
+        {
+            return null;
+        }
+
+        final IColony colony = IColonyManager.getInstance().getColonyByDimension(cap.getOwningColony(), world.provider.getDimension());
+        return colony instanceof Colony ? (Colony) colony : null;
+    }
+}
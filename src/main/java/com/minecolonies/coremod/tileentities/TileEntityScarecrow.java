@@ -10,6 +10,7 @@ import com.minecolonies.api.tileentities.ScarecrowFieldStage;
 import com.minecolonies.api.util.EntityUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.LanguageHandler;
+import com.minecolonies.coremod.entity.ai.citizen.farmer.FieldWorkSet;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockFence;
 import net.minecraft.block.BlockFenceGate;
@@ -519,6 +520,31 @@ public class TileEntityScarecrow extends AbstractScarescrowTileEntity
         }
     }
 
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        dropWorkSet();
+    }
+
+    @Override
+    public void onChunkUnload()
+    {
+        super.onChunkUnload();
+        dropWorkSet();
+    }
+
+    /**
+     * Drop the work set of the field, it is created again when the field is loaded and worked on.
+     */
+    private void dropWorkSet()
+    {
+        if (world != null && !world.isRemote)
+        {
+            FieldWorkSet.remove(world, pos);
+        }
+    }
+
     @Override
     public void readFromNBT(final NBTTagCompound compound)
     {
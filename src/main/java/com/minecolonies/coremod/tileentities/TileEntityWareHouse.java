@@ -18,12 +18,9 @@ import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.TranslationConstants.COM_MINECOLONIES_COREMOD_WAREHOUSE_FULL;
 import static net.minecraftforge.items.CapabilityItemHandler.ITEM_HANDLER_CAPABILITY;
@@ -33,6 +30,16 @@ import static net.minecraftforge.items.CapabilityItemHandler.ITEM_HANDLER_CAPABI
  */
 public class TileEntityWareHouse extends AbstractTileEntityWareHouse
 {
+    /**
+     * Index of the content of the warehouse and its racks.
+     */
+    private final WarehouseItemIndex itemIndex = new WarehouseItemIndex();
+
+    /**
+     * Containers of the warehouse which are no racks and have to be scanned.
+     */
+    private final List<TileEntity> unindexedContainers = new ArrayList<>();
+
     public TileEntityWareHouse()
     {
         super();
@@ -49,8 +56,21 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Override
     public boolean hasMatchingItemStackInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate, int count)
     {
-        final List<ItemStack> targetStacks = getMatchingItemStacksInWarehouse(itemStackSelectionPredicate);
-        return targetStacks.stream().mapToInt(ItemStackUtils::getSize).sum() >= count;
+        if (getBuilding() == null)
+        {
+            return false;
+        }
+
+        int found = getItemIndex().count(itemStackSelectionPredicate, count);
+        for (final TileEntity tileEntity : unindexedContainers)
+        {
+            if (found >= count)
+            {
+                return true;
+            }
+            found += InventoryUtils.filterProvider(tileEntity, itemStackSelectionPredicate).stream().mapToInt(ItemStackUtils::getSize).sum();
+        }
+        return found >= count;
     }
 
     /**
@@ -65,14 +85,12 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     {
         if (getBuilding() != null)
         {
-            final Set<TileEntity> tileEntities = new HashSet<>();
-            tileEntities.add(this);
-
-            return tileEntities.stream()
-                     .flatMap(tileEntity -> InventoryUtils.filterProvider(tileEntity, itemStackSelectionPredicate).stream())
-                     .filter(itemStacks -> !itemStacks.isEmpty())
-              .collect(Collectors.toList());
-
+            final List<ItemStack> stacks = getItemIndex().getMatchingStacks(itemStackSelectionPredicate);
+            for (final TileEntity tileEntity : unindexedContainers)
+            {
+                stacks.addAll(InventoryUtils.filterProvider(tileEntity, itemStackSelectionPredicate));
+            }
+            return stacks;
         }
 
         return Lists.newArrayList();
@@ -84,16 +102,19 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
      * @param itemStackSelectionPredicate the stack to search for.
      * @return the position or null.
      */
+    @Override
     @Nullable
     public BlockPos getPositionOfChestWithItemStack(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
     {
         if (getBuilding() != null)
         {
-            final Set<TileEntity> tileEntities = getBuilding().getAdditionalCountainers().stream().map(pos -> getWorld().getTileEntity(pos)).collect(Collectors.toSet());
-            tileEntities.removeIf(Objects::isNull);
-            tileEntities.add(this);
+            final BlockPos pos = getItemIndex().getPositionOfMatchingStack(itemStackSelectionPredicate);
+            if (pos != null)
+            {
+                return pos;
+            }
 
-            return tileEntities.stream()
+            return unindexedContainers.stream()
                      .filter(tileEntity -> InventoryUtils.hasItemInProvider(tileEntity, itemStackSelectionPredicate))
                      .map(TileEntity::getPos)
                      .findFirst().orElse(null);
@@ -102,6 +123,38 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
         return null;
     }
 
+    /**
+     * Get the item index of the racks, rebuilt if the containers changed or a rack was unloaded since it was built.
+     * Containers which are no racks can't be indexed and are collected in {@link #unindexedContainers}.
+     *
+     * @return the index.
+     */
+    @NotNull
+    private WarehouseItemIndex getItemIndex()
+    {
+        final List<BlockPos> containers = getBuilding().getAdditionalCountainers();
+        if (!itemIndex.isIndexed(containers))
+        {
+            final List<AbstractTileEntityRack> racks = new ArrayList<>();
+            racks.add(this);
+            unindexedContainers.clear();
+            for (final BlockPos pos : containers)
+            {
+                final TileEntity tileEntity = getWorld().getTileEntity(pos);
+                if (tileEntity instanceof AbstractTileEntityRack)
+                {
+                    racks.add((AbstractTileEntityRack) tileEntity);
+                }
+                else if (tileEntity != null)
+                {
+                    unindexedContainers.add(tileEntity);
+                }
+            }
+            itemIndex.rebuild(containers, racks);
+        }
+        return itemIndex;
+    }
+
     /**
      * Dump the inventory of a citizen into the warehouse.
      * Go through all items and search the right chest to dump it in.
@@ -0,0 +1,229 @@
+package com.minecolonies.coremod.tileentities;
+
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.tileentities.AbstractTileEntityRack;
+import com.minecolonies.api.tileentities.IRackContentListener;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Aggregated content of all racks of a warehouse, by item and by container.
+ * Racks push their changes, so availability checks only go through the distinct items instead of all slots.
+ */
+public class WarehouseItemIndex implements IRackContentListener
+{
+    /**
+     * The amount of each item in each container.
+     */
+    private final Map<ItemStorage, Map<BlockPos, Integer>> items = new HashMap<>();
+
+    /**
+     * The indexed content of each container.
+     */
+    private final Map<BlockPos, Map<ItemStorage, Integer>> containers = new HashMap<>();
+
+    /**
+     * The racks the index listens to.
+     */
+    private final Map<BlockPos, AbstractTileEntityRack> racks = new HashMap<>();
+
+    /**
+     * The container positions the index was built for.
+     */
+    private final Set<BlockPos> indexedPositions = new HashSet<>();
+
+    /**
+     * If the index matches the content of the racks.
+     */
+    private boolean valid = false;
+
+    /**
+     * Check if the index is valid for the given containers.
+     *
+     * @param positions the container positions of the warehouse.
+     * @return true if it can be used, false if it has to be rebuilt.
+     */
+    public boolean isIndexed(@NotNull final Collection<BlockPos> positions)
+    {
+        return valid && indexedPositions.size() == positions.size() && indexedPositions.containsAll(positions);
+    }
+
+    /**
+     * Rebuild the index and start listening to the racks.
+     *
+     * @param positions the container positions of the warehouse.
+     * @param racks     the loaded racks at these positions.
+     */
+    public void rebuild(@NotNull final Collection<BlockPos> positions, @NotNull final Collection<AbstractTileEntityRack> racks)
+    {
+        clear();
+        indexedPositions.addAll(positions);
+        for (final AbstractTileEntityRack rack : racks)
+        {
+            this.racks.put(rack.getPos(), rack);
+            rack.setContentListener(this);
+            update(rack);
+        }
+        valid = true;
+    }
+
+    /**
+     * Stop listening to the racks and drop the index.
+     */
+    public void clear()
+    {
+        for (final AbstractTileEntityRack rack : racks.values())
+        {
+            if (rack.getContentListener() == this)
+            {
+                rack.setContentListener(null);
+            }
+        }
+        racks.clear();
+        containers.clear();
+        items.clear();
+        indexedPositions.clear();
+        valid = false;
+    }
+
+    @Override
+    public void onContentChanged(@NotNull final AbstractTileEntityRack rack)
+    {
+        if (racks.get(rack.getPos()) == rack)
+        {
+            update(rack);
+        }
+    }
+
+    @Override
+    public void onRackRemoved(@NotNull final AbstractTileEntityRack rack)
+    {
+        if (racks.get(rack.getPos()) == rack)
+        {
+            clear();
+        }
+    }
+
+    /**
+     * Get the amount of items matching a predicate.
+     *
+     * @param predicate the predicate.
+     * @param limit     the amount after which counting stops.
+     * @return the amount, at most the limit.
+     */
+    public int count(@NotNull final Predicate<ItemStack> predicate, final int limit)
+    {
+        int count = 0;
+        for (final Map.Entry<ItemStorage, Map<BlockPos, Integer>> entry : items.entrySet())
+        {
+            if (predicate.test(entry.getKey().getItemStack()))
+            {
+                for (final int amount : entry.getValue().values())
+                {
+                    count += amount;
+                }
+
+                if (count >= limit)
+                {
+                    return limit;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the stacks matching a predicate, split in stacks of at most the max stack size.
+     *
+     * @param predicate the predicate.
+     * @return the list of new stacks.
+     */
+    @NotNull
+    public List<ItemStack> getMatchingStacks(@NotNull final Predicate<ItemStack> predicate)
+    {
+        final List<ItemStack> stacks = new ArrayList<>();
+        for (final Map.Entry<ItemStorage, Map<BlockPos, Integer>> entry : items.entrySet())
+        {
+            final ItemStack template = entry.getKey().getItemStack();
+            if (!predicate.test(template))
+            {
+                continue;
+            }
+
+            for (final int amount : entry.getValue().values())
+            {
+                int remaining = amount;
+                while (remaining > 0)
+                {
+                    final ItemStack stack = template.copy();
+                    stack.setCount(Math.min(remaining, template.getMaxStackSize()));
+                    remaining -= stack.getCount();
+                    stacks.add(stack);
+                }
+            }
+        }
+        return stacks;
+    }
+
+    /**
+     * Get the position of a container holding items matching a predicate.
+     *
+     * @param predicate the predicate.
+     * @return the position or null if none holds them.
+     */
+    @Nullable
+    public BlockPos getPositionOfMatchingStack(@NotNull final Predicate<ItemStack> predicate)
+    {
+        for (final Map.Entry<ItemStorage, Map<BlockPos, Integer>> entry : items.entrySet())
+        {
+            if (!entry.getValue().isEmpty() && predicate.test(entry.getKey().getItemStack()))
+            {
+                return entry.getValue().keySet().iterator().next();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Replace the indexed content of a rack with its current content.
+     *
+     * @param rack the rack.
+     */
+    private void update(@NotNull final AbstractTileEntityRack rack)
+    {
+        final BlockPos pos = rack.getPos();
+        final Map<ItemStorage, Integer> oldContent = containers.remove(pos);
+        if (oldContent != null)
+        {
+            for (final ItemStorage storage : oldContent.keySet())
+            {
+                final Map<BlockPos, Integer> positions = items.get(storage);
+                if (positions != null)
+                {
+                    positions.remove(pos);
+                    if (positions.isEmpty())
+                    {
+                        items.remove(storage);
+                    }
+                }
+            }
+        }
+
+        final Map<ItemStorage, Integer> content = new HashMap<>(rack.getAllContent());
+        if (content.isEmpty())
+        {
+            return;
+        }
+
+        containers.put(pos, content);
+        for (final Map.Entry<ItemStorage, Integer> entry : content.entrySet())
+        {
+            items.computeIfAbsent(entry.getKey(), storage -> new HashMap<>()).put(pos, entry.getValue());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.util.Log;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Writes save files on a background thread, so that compression and file access don't block the server thread.
+ * The server thread hands over a finished tag which it doesn't modify anymore, writes of the same file which are still queued are replaced.
+ */
+public final class AsyncSaveWriter
+{
+    /**
+     * The single writer thread, keeps the writes in order.
+     */
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable ->
+    {
+        final Thread thread = new Thread(runnable, "MineColonies save writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The latest queued tag of each file.
+     */
+    private static final Map<File, NBTTagCompound> PENDING = new HashMap<>();
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private AsyncSaveWriter()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Queue a tag to be written to a file.
+     *
+     * @param file     the file.
+     * @param compound the tag, not to be modified afterwards.
+     */
+    public static void write(@NotNull final File file, @NotNull final NBTTagCompound compound)
+    {
+        synchronized (PENDING)
+        {
+            if (PENDING.put(file, compound) != null)
+            {
+                return;
+            }
+        }
+
+        WRITER.execute(() ->
+        {
+            final NBTTagCompound latest;
+            synchronized (PENDING)
+            {
+                latest = PENDING.remove(file);
+            }
+
+            try
+            {
+                file.getParentFile().mkdirs();
+                CompressedStreamTools.safeWrite(latest, file);
+            }
+            catch (final IOException exception)
+            {
+                Log.getLogger().error("Exception when saving " + file.getName(), exception);
+            }
+        });
+    }
+
+    /**
+     * Queue a task which works on the written files, it runs after all writes queued before it.
+     *
+     * @param task the task.
+     * @param <T>  the type of its result.
+     * @return the future result of the task.
+     */
+    @NotNull
+    public static <T> CompletableFuture<T> submit(@NotNull final Supplier<T> task)
+    {
+        return CompletableFuture.supplyAsync(task, WRITER);
+    }
+
+    /**
+     * Wait until all queued writes and tasks are done.
+     */
+    public static void flush()
+    {
+        try
+        {
+            WRITER.submit(() -> {}).get();
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch (final ExecutionException e)
+        {
+            Log.getLogger().warn("Unable to wait for the save writer", e);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.minecolonies.coremod.util;
 
-import com.google.common.io.Files;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.IColonyTagCapability;
@@ -18,13 +17,11 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static com.minecolonies.api.util.constant.ColonyManagerConstants.*;
 import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
@@ -33,9 +30,14 @@ import static com.minecolonies.coremod.MineColonies.COLONY_MANAGER_CAP;
 public final class BackUpHelper
 {
     /**
-     * The maximum amount of colonies we're trying to load from a backup
+     * Pattern of the colony file names, with the colony id, the dimension and the deleted suffix.
      */
-    private final static int MAX_COLONY_LOAD = 5000;
+    private static final Pattern COLONY_FILE = Pattern.compile("colony(\\d+)_(-?\\d+)\\.dat(\\.deleted)?");
+
+    /**
+     * Suffix of the files of deleted colonies.
+     */
+    private static final String DELETED_SUFFIX = ".deleted";
 
     /**
      * Private constructor to hide implicit one.
@@ -48,123 +50,183 @@ public final class BackUpHelper
     }
 
     /**
-     * Backup the colony
+     * Backup the colony data into the incremental backup store.
+     * The colonies are saved first, the snapshot is taken by the save writer thread once the files are written.
      *
-     * @return true if succesful.
+     * @return the future result, true if succesful.
      */
-    public static boolean backupColonyData()
+    @NotNull
+    public static CompletableFuture<Boolean> backupColonyData()
     {
         BackUpHelper.saveColonies();
-        try (FileOutputStream fos = new FileOutputStream(getBackupSaveLocation(new Date())))
+
+        final File worldDir = DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory();
+        final Set<String> existingColonies = new HashSet<>();
+        for (final IColony colony : IColonyManager.getInstance().getAllColonies())
         {
-            @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
-            final ZipOutputStream zos = new ZipOutputStream(fos);
+            existingColonies.add(String.format(FILENAME_COLONY, colony.getID(), colony.getDimension()));
+        }
+        final Date date = new Date();
+        final int snapshotsToKeep = Configurations.gameplay.colonyBackupSnapshotsToKeep;
 
-            for (int dim = 0; dim < FMLCommonHandler.instance().getMinecraftServerInstance().worlds.length; dim++)
+        return AsyncSaveWriter.submit(() ->
+        {
+            @NotNull final File saveDir = new File(worldDir, FILENAME_MINECOLONIES_PATH);
+            final List<String> names = new ArrayList<>();
+            final Set<String> files = listColonyFiles(saveDir);
+            for (final String name : files)
             {
-                for (int i = 1; i <= IColonyManager.getInstance().getTopColonyId() + 1; i++)
+                if (name.endsWith(DELETED_SUFFIX))
                 {
-                    @NotNull final File file = new File(saveDir, String.format(FILENAME_COLONY, i, dim));
-                    @NotNull final File fileDeleted = new File(saveDir, String.format(FILENAME_COLONY_DELETED, i, dim));
-                    if (file.exists())
+                    if (!files.contains(name.substring(0, name.length() - DELETED_SUFFIX.length())))
                     {
-                        // mark existing files
-                        if (IColonyManager.getInstance().getColonyByDimension(i, dim) == null)
-                        {
-                            markColonyDeleted(i, dim);
-                            addToZipFile(String.format(FILENAME_COLONY_DELETED, i, dim), zos, saveDir);
-                        }
-                        else
-                        {
-                            addToZipFile(String.format(FILENAME_COLONY, i, dim), zos, saveDir);
-                        }
-                    }
-                    else if (fileDeleted.exists())
-                    {
-                        addToZipFile(String.format(FILENAME_COLONY_DELETED, i, dim), zos, saveDir);
+                        names.add(name);
                     }
                 }
+                else if (existingColonies.contains(name))
+                {
+                    names.add(name);
+                }
+                else
+                {
+                    // mark files of colonies which don't exist anymore
+                    renameToDeleted(saveDir, name);
+                    names.add(name + DELETED_SUFFIX);
+                }
             }
-            addToZipFile(getSaveLocation().getName(), zos, saveDir);
-            zos.close();
-        }
-        catch (final Exception e)
-        {
-            /*
-             * Intentionally not being thrown.
-             */
-            Log.getLogger().warn("Unable to backup colony data, please contact an administrator", e);
-            return false;
-        }
+            names.add(FILENAME_MINECOLONIES);
 
-        return true;
+            try
+            {
+                final ColonyBackupStore store = new ColonyBackupStore(new File(worldDir, BACKUP_PATH));
+                final int stored = store.snapshot(saveDir, names, date);
+                store.prune(snapshotsToKeep);
+                Log.getLogger().info("Backed up " + names.size() + " colony files, " + stored + " of them changed");
+            }
+            catch (final IOException e)
+            {
+                /*
+                 * Intentionally not being thrown.
+                 */
+                Log.getLogger().warn("Unable to backup colony data, please contact an administrator", e);
+                return false;
+            }
+            return true;
+        });
     }
 
     /**
      * Loads all colonies from backup files which the world cap is missing.
+     * Colony files which are missing in the save directory are restored from the latest backup snapshot first.
      */
     public static void loadMissingColonies()
     {
         @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
+        final ColonyBackupStore store = new ColonyBackupStore(new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), BACKUP_PATH));
 
-        for (int dim = 0; dim < FMLCommonHandler.instance().getMinecraftServerInstance().worlds.length; dim++)
+        AsyncSaveWriter.submit(() ->
         {
-            int missingFilesInRow = 0;
-            for (int i = 1; i <= MAX_COLONY_LOAD && missingFilesInRow < 5; i++)
+            final List<String> snapshots = store.getSnapshots();
+            if (snapshots.isEmpty())
             {
-                // Check non-deleted files for colony id + dim
-                @NotNull final File file = new File(saveDir, String.format(FILENAME_COLONY, i, dim));
-                if (file.exists())
+                return null;
+            }
+
+            final String latest = snapshots.get(snapshots.size() - 1);
+            final Map<String, String> files = store.readSnapshot(latest);
+            if (files == null)
+            {
+                return null;
+            }
+
+            for (final String name : files.keySet())
+            {
+                final Matcher matcher = COLONY_FILE.matcher(name);
+                if (matcher.matches()
+                      && matcher.group(3) == null
+                      && !new File(saveDir, name).exists()
+                      && !new File(saveDir, name + DELETED_SUFFIX).exists()
+                      && store.restore(latest, name, saveDir))
                 {
-                    missingFilesInRow = 0;
-                    // Load colony if null
-                    if (IColonyManager.getInstance().getColonyByDimension(i, dim) == null)
-                    {
-                        loadColonyBackup(i, dim, false);
-                    }
+                    Log.getLogger().warn("Restored missing " + name + " from backup snapshot " + latest);
                 }
-                else
+            }
+            return null;
+        }).join();
+
+        for (final String name : listColonyFiles(saveDir))
+        {
+            final Matcher matcher = COLONY_FILE.matcher(name);
+            if (matcher.matches() && matcher.group(3) == null)
+            {
+                final int id = Integer.parseInt(matcher.group(1));
+                final int dim = Integer.parseInt(matcher.group(2));
+                // Load colony if null
+                if (IColonyManager.getInstance().getColonyByDimension(id, dim) == null)
                 {
-                    missingFilesInRow++;
+                    loadColonyBackup(id, dim, false);
                 }
             }
         }
     }
 
     /**
-     * Get save location for Minecolonies backup data, from the world/save directory.
+     * List the colony files of the save directory, deleted ones included.
      *
-     * @return Save file for minecolonies.
+     * @param saveDir the save directory.
+     * @return the file names.
      */
     @NotNull
-    private static File getBackupSaveLocation(final Date date)
+    private static Set<String> listColonyFiles(@NotNull final File saveDir)
     {
-        @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
-        return new File(saveDir, String.format(FILENAME_MINECOLONIES_BACKUP, new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(date)));
+        final Set<String> names = new TreeSet<>();
+        final String[] files = saveDir.list();
+        if (files != null)
+        {
+            for (final String file : files)
+            {
+                if (COLONY_FILE.matcher(file).matches())
+                {
+                    names.add(file);
+                }
+            }
+        }
+        return names;
     }
 
     /**
-     * Add zip to file.
+     * Restore the file of a colony from the newest backup snapshot which holds it.
      *
-     * @param fileName the file name.
-     * @param zos      the output stream.
-     * @param folder   the folder.
+     * @param saveDir   the save directory.
+     * @param colonyId  the id of the colony.
+     * @param dimension the dimension of the colony.
+     * @return the restored file or null if no snapshot holds it.
      */
-    private static void addToZipFile(final String fileName, final ZipOutputStream zos, final File folder)
+    @Nullable
+    private static File restoreFromSnapshots(@NotNull final File saveDir, final int colonyId, final int dimension)
     {
-        final File file = new File(folder, fileName);
-        try (FileInputStream fis = new FileInputStream(file))
-        {
-            zos.putNextEntry(new ZipEntry(fileName));
-            Files.copy(file, zos);
-        }
-        catch (final Exception e)
+        final ColonyBackupStore store = new ColonyBackupStore(new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), BACKUP_PATH));
+        final String name = String.format(FILENAME_COLONY, colonyId, dimension);
+        final String deletedName = String.format(FILENAME_COLONY_DELETED, colonyId, dimension);
+
+        return AsyncSaveWriter.submit(() ->
         {
-            /*
-             * Intentionally not being thrown.
-             */
-            Log.getLogger().warn("Error packing " + fileName + " into the zip.");
-        }
+            final List<String> snapshots = store.getSnapshots();
+            for (int i = snapshots.size() - 1; i >= 0; i--)
+            {
+                if (store.restore(snapshots.get(i), name, saveDir))
+                {
+                    Log.getLogger().warn("Restored " + name + " from backup snapshot " + snapshots.get(i));
+                    return new File(saveDir, name);
+                }
+                if (store.restore(snapshots.get(i), deletedName, saveDir))
+                {
+                    Log.getLogger().warn("Restored " + deletedName + " from backup snapshot " + snapshots.get(i));
+                    return new File(saveDir, deletedName);
+                }
+            }
+            return null;
+        }).join();
     }
 
     /**
@@ -225,25 +287,28 @@ public final class BackUpHelper
 
     /**
      * Save all the Colonies.
+     * The tags are created on the calling thread, compressed and written by the {@link AsyncSaveWriter}.
      */
     public static void saveColonies()
     {
         @NotNull final NBTTagCompound compound = new NBTTagCompound();
         IColonyManager.getInstance().writeToNBT(compound);
 
-        @NotNull final File file = getSaveLocation();
-        saveNBTToPath(file, compound);
+        AsyncSaveWriter.write(getSaveLocation(), compound);
         @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
         for (final IColony colony : IColonyManager.getInstance().getAllColonies())
         {
-            final NBTTagCompound colonyCompound = new NBTTagCompound();
-            colony.writeToNBT(colonyCompound);
-            saveNBTToPath(new File(saveDir, String.format(FILENAME_COLONY, colony.getID(), colony.getDimension())), colonyCompound);
+            final NBTTagCompound colonyCompound = colony.getColonyTag();
+            if (colonyCompound != null)
+            {
+                AsyncSaveWriter.write(new File(saveDir, String.format(FILENAME_COLONY, colony.getID(), colony.getDimension())), colonyCompound);
+            }
         }
     }
 
     /**
      * Marks a colony's backup file as deleted.
+     * Done by the save writer thread, after the writes of the colony which are still queued.
      *
      * @param colonyID    id of the colony to delete
      * @param dimensionID dimension of the colony to delete
@@ -251,12 +316,25 @@ public final class BackUpHelper
     public static void markColonyDeleted(final int colonyID, final int dimensionID)
     {
         @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
-        final File todelete = new File(saveDir, String.format(FILENAME_COLONY, colonyID, dimensionID));
+        AsyncSaveWriter.submit(() -> renameToDeleted(saveDir, String.format(FILENAME_COLONY, colonyID, dimensionID)));
+    }
+
+    /**
+     * Rename a colony file to its deleted name, replacing an older deleted file.
+     *
+     * @param saveDir the save directory.
+     * @param name    the name of the colony file.
+     * @return true if it was renamed.
+     */
+    private static boolean renameToDeleted(@NotNull final File saveDir, @NotNull final String name)
+    {
+        final File todelete = new File(saveDir, name);
         if (todelete.exists())
         {
-            new File(saveDir, String.format(FILENAME_COLONY_DELETED, colonyID, dimensionID)).delete();
-            todelete.renameTo(new File(saveDir, String.format(FILENAME_COLONY_DELETED, colonyID, dimensionID)));
+            new File(saveDir, name + DELETED_SUFFIX).delete();
+            return todelete.renameTo(new File(saveDir, name + DELETED_SUFFIX));
         }
+        return false;
     }
 
     /**
@@ -273,6 +351,10 @@ public final class BackUpHelper
         {
             compound = loadNBTFromPath(new File(saveDir, String.format(FILENAME_COLONY_DELETED, colonyId, dimension)));
             if (compound == null)
+            {
+                compound = loadNBTFromPath(restoreFromSnapshots(saveDir, colonyId, dimension));
+            }
+            if (compound == null)
             {
                 Log.getLogger().warn("Can't find NBT of colony: " + colonyId + " at location: " + new File(saveDir, String.format(FILENAME_COLONY, colonyId, dimension)));
                 return;
@@ -11,16 +11,22 @@ import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.IColonyManagerCapability;
 import com.minecolonies.coremod.network.messages.UpdateChunkCapabilityMessage;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.server.management.PlayerChunkMap;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.common.DimensionManager;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
+import java.util.*;
 
 import static com.minecolonies.api.util.constant.ColonyManagerConstants.*;
 import static com.minecolonies.api.util.constant.Constants.BLOCKS_PER_CHUNK;
@@ -36,6 +42,11 @@ public final class ChunkDataHelper
      */
     private static final int DISTANCE_TO_DELETE = Configurations.gameplay.workingRangeTownHallChunks * BLOCKS_PER_CHUNK * 2 * 5;
 
+    /**
+     * The chunks with changed claims since the last sync, per dimension.
+     */
+    private static final Map<Integer, Map<Long, Chunk>> CHANGED_CHUNKS = new HashMap<>();
+
     /**
      * Private constructor to hide implicit one.
      */
@@ -61,7 +72,7 @@ public final class ChunkDataHelper
             return;
         }
 
-        if (!chunkManager.getAllChunkStorages().isEmpty())
+        if (!chunkManager.getAllChunkStorages().isEmpty() || ChunkStorageRegions.get(world).mayHaveStorage(chunk.x, chunk.z))
         {
             final IColonyManagerCapability cap = world.getCapability(COLONY_MANAGER_CAP, null);
             if (cap == null)
@@ -69,7 +80,7 @@ public final class ChunkDataHelper
                 return;
             }
 
-            final ChunkLoadStorage existingStorage = chunkManager.getChunkStorage(chunk.x, chunk.z);
+            final ChunkLoadStorage existingStorage = takeChunkStorage(world, chunkManager, chunk.x, chunk.z);
             if (existingStorage != null)
             {
                 addStorageToChunk(chunk, existingStorage);
@@ -94,7 +105,7 @@ public final class ChunkDataHelper
                         }
                         if (dirty)
                         {
-                            MineColonies.getNetwork().sendToAll(new UpdateChunkCapabilityMessage(closeCap, chunk.x, chunk.z));
+                            markChunkChanged(world, chunk);
                         }
                     }
                 }
@@ -147,12 +158,12 @@ public final class ChunkDataHelper
 
         if (cap != null)
         {
-            MineColonies.getNetwork().sendToAll(new UpdateChunkCapabilityMessage(cap, chunk.x, chunk.z));
+            markChunkChanged(chunk.getWorld(), chunk);
         }
     }
 
     /**
-     * Load the chunk storages from the server into the world.
+     * Move the chunk storages of the legacy one file per chunk format into the region files of the world.
      *
      * @param world the world to load them to.
      */
@@ -164,30 +175,69 @@ public final class ChunkDataHelper
             return;
         }
 
-        final IChunkmanagerCapability chunkManager = world.getCapability(CHUNK_STORAGE_UPDATE_CAP, null);
-        if (chunkManager == null)
-        {
-            Log.getLogger().error(UNABLE_TO_FIND_WORLD_CAP_TEXT);
-            return;
-        }
-
         final File[] files = chunkDir.listFiles();
         if (files != null)
         {
+            final List<ChunkLoadStorage> storages = new ArrayList<>();
             for (final File file : files)
             {
                 @Nullable final NBTTagCompound chunkData = BackUpHelper.loadNBTFromPath(file);
                 if (chunkData != null)
                 {
-                    final ChunkLoadStorage storage = new ChunkLoadStorage(chunkData);
-                    final int z = (int) (storage.getXz() >> 32);
-                    final int x = (int) storage.getXz();
-
-                    chunkManager.addChunkStorage(x, z, storage);
-                    file.delete();
+                    storages.add(new ChunkLoadStorage(chunkData));
                 }
             }
+
+            ChunkStorageRegions.get(world).add(storages);
+            for (final File file : files)
+            {
+                file.delete();
+            }
+        }
+    }
+
+    /**
+     * Get the pending storage of a chunk to apply it, from the world capability and the region files.
+     * Region file records are only removed once the chunk was saved.
+     *
+     * @param world        the world.
+     * @param chunkManager the chunk manager capability of the world.
+     * @param chunkX       the chunk x.
+     * @param chunkZ       the chunk z.
+     * @return the storage or null if there is none.
+     */
+    @Nullable
+    public static ChunkLoadStorage takeChunkStorage(final World world, final IChunkmanagerCapability chunkManager, final int chunkX, final int chunkZ)
+    {
+        final ChunkLoadStorage storage = chunkManager.getChunkStorage(chunkX, chunkZ);
+        if (world.isRemote)
+        {
+            return storage;
+        }
+
+        final ChunkLoadStorage regionStorage = ChunkStorageRegions.get(world).take(chunkX, chunkZ);
+        if (storage == null)
+        {
+            return regionStorage;
+        }
+
+        if (regionStorage != null)
+        {
+            storage.merge(regionStorage);
         }
+        return storage;
+    }
+
+    /**
+     * Get the amount of pending chunk storages of a world.
+     *
+     * @param world        the world.
+     * @param chunkManager the chunk manager capability of the world.
+     * @return the amount.
+     */
+    public static int getPendingChunkStorageCount(final World world, final IChunkmanagerCapability chunkManager)
+    {
+        return chunkManager.getAllChunkStorages().size() + ChunkStorageRegions.get(world).size();
     }
 
     /**
@@ -256,7 +306,7 @@ public final class ChunkDataHelper
                 {
                     return false;
                 }
-                final ChunkLoadStorage storage = worldCapability.getChunkStorage(chunk.x, chunk.z);
+                final ChunkLoadStorage storage = takeChunkStorage(w, worldCapability, chunk.x, chunk.z);
                 if (storage != null)
                 {
                     storage.applyToCap(colonyCap, chunk);
@@ -310,6 +360,7 @@ public final class ChunkDataHelper
             return;
         }
 
+        final List<ChunkLoadStorage> pendingStorages = new ArrayList<>();
         for (int i = chunkX - range; i <= chunkX + range; i++)
         {
             for (int j = chunkZ - range; j <= chunkZ + range; j++)
@@ -330,10 +381,10 @@ public final class ChunkDataHelper
                     continue;
                 }
 
-                @NotNull final ChunkLoadStorage newStorage = new ChunkLoadStorage(colonyId, ChunkPos.asLong(i, j), dimension, center);
-                chunkManager.addChunkStorage(i, j, newStorage);
+                pendingStorages.add(new ChunkLoadStorage(colonyId, ChunkPos.asLong(i, j), dimension, center));
             }
         }
+        ChunkStorageRegions.get(world).add(pendingStorages);
     }
 
     /**
@@ -370,6 +421,7 @@ public final class ChunkDataHelper
         final int chunkZ = centralChunk.z;
 
         final int maxRange = range * 2 + buffer;
+        final List<ChunkLoadStorage> pendingStorages = new ArrayList<>();
         for (int i = chunkX - maxRange; i <= chunkX + maxRange; i++)
         {
             for (int j = chunkZ - maxRange; j <= chunkZ + maxRange; j++)
@@ -387,10 +439,10 @@ public final class ChunkDataHelper
                 }
 
                 final boolean owning = i >= chunkX - range && j >= chunkZ - range && i <= chunkX + range && j <= chunkZ + range;
-                @NotNull final ChunkLoadStorage newStorage = new ChunkLoadStorage(colonyId, ChunkPos.asLong(i, j), add, dimension, owning);
-                chunkManager.addChunkStorage(i, j, newStorage);
+                pendingStorages.add(new ChunkLoadStorage(colonyId, ChunkPos.asLong(i, j), add, dimension, owning));
             }
         }
+        ChunkStorageRegions.get(world).add(pendingStorages);
     }
 
     /**
@@ -452,7 +504,7 @@ public final class ChunkDataHelper
         }
 
         // Before directly adding cap data, apply data from our cache.
-        final ChunkLoadStorage chunkLoadStorage = chunkManager.getChunkStorage(chunk.x,chunk.z);
+        final ChunkLoadStorage chunkLoadStorage = takeChunkStorage(world, chunkManager, chunk.x, chunk.z);
         if (chunkLoadStorage != null)
         {
             chunkLoadStorage.applyToCap(cap, chunk);
@@ -478,7 +530,7 @@ public final class ChunkDataHelper
             cap.removeColony(id, chunk);
         }
 
-        MineColonies.getNetwork().sendToAll(new UpdateChunkCapabilityMessage(cap, chunk.x, chunk.z));
+        markChunkChanged(world, chunk);
         return true;
     }
 
@@ -509,7 +561,7 @@ public final class ChunkDataHelper
         }
 
         // Before directly adding cap data, apply data from our cache.
-        final ChunkLoadStorage chunkLoadStorage = chunkManager.getChunkStorage(chunk.x,chunk.z);
+        final ChunkLoadStorage chunkLoadStorage = takeChunkStorage(world, chunkManager, chunk.x, chunk.z);
         if (chunkLoadStorage != null)
         {
             chunkLoadStorage.applyToCap(cap, chunk);
@@ -524,7 +576,67 @@ public final class ChunkDataHelper
             cap.removeBuildingClaim(id, buildingPos, chunk);
         }
 
-        MineColonies.getNetwork().sendToAll(new UpdateChunkCapabilityMessage(cap, chunk.x, chunk.z));
+        markChunkChanged(world, chunk);
         return true;
     }
+
+    /**
+     * Mark a chunk to have its claims synced to the clients at the end of the tick.
+     *
+     * @param world the world of the chunk.
+     * @param chunk the chunk.
+     */
+    private static void markChunkChanged(final World world, final Chunk chunk)
+    {
+        if (!world.isRemote)
+        {
+            CHANGED_CHUNKS.computeIfAbsent(world.provider.getDimension(), dim -> new LinkedHashMap<>()).put(ChunkPos.asLong(chunk.x, chunk.z), chunk);
+        }
+    }
+
+    /**
+     * Send the claims of all chunks changed during this tick.
+     * Every player gets a single message per dimension with the chunks it tracks or has in its claim window.
+     */
+    public static void sendChangedChunks()
+    {
+        if (CHANGED_CHUNKS.isEmpty())
+        {
+            return;
+        }
+
+        for (final Map.Entry<Integer, Map<Long, Chunk>> entry : CHANGED_CHUNKS.entrySet())
+        {
+            final WorldServer world = DimensionManager.getWorld(entry.getKey());
+            if (world == null)
+            {
+                continue;
+            }
+
+            final PlayerChunkMap playerChunkMap = world.getPlayerChunkMap();
+            for (final EntityPlayer entityPlayer : world.playerEntities)
+            {
+                if (!(entityPlayer instanceof EntityPlayerMP))
+                {
+                    continue;
+                }
+
+                final EntityPlayerMP player = (EntityPlayerMP) entityPlayer;
+                final List<Chunk> chunks = new ArrayList<>();
+                for (final Chunk chunk : entry.getValue().values())
+                {
+                    if (playerChunkMap.isPlayerWatchingChunk(player, chunk.x, chunk.z) || ClaimSyncHelper.isInWindow(player, entry.getKey(), chunk.x, chunk.z))
+                    {
+                        chunks.add(chunk);
+                    }
+                }
+
+                if (!chunks.isEmpty())
+                {
+                    MineColonies.getNetwork().sendTo(new UpdateChunkCapabilityMessage(chunks, ClaimSyncHelper.nextSequence(player, entry.getKey())), player);
+                }
+            }
+        }
+        CHANGED_CHUNKS.clear();
+    }
 }
@@ -0,0 +1,286 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.util.Log;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * A file holding the pending chunk load storages of a region of 32x32 chunks.
+ * Starts with a table of the offset and length of each chunk record, the records are appended after it.
+ * Records are read with positional reads, the file is never mapped so that it can be replaced and deleted once closed.
+ * Removed and replaced records leave garbage which is dropped when the file is opened.
+ */
+public final class ChunkStorageRegionFile implements Closeable
+{
+    /**
+     * Chunks per region side.
+     */
+    public static final int REGION_SIZE = 32;
+
+    /**
+     * Shift from chunk to region coordinates.
+     */
+    public static final int REGION_SHIFT = 5;
+
+    /**
+     * Number of chunks in a region.
+     */
+    private static final int ENTRIES = REGION_SIZE * REGION_SIZE;
+
+    /**
+     * Size of the offset table.
+     */
+    private static final int HEADER_SIZE = ENTRIES * 2 * Integer.BYTES;
+
+    /**
+     * Garbage a file may hold on top of its live records before it is compacted.
+     */
+    private static final int MAX_GARBAGE = 64 * 1024;
+
+    /**
+     * The file.
+     */
+    private final File file;
+
+    /**
+     * The open file.
+     */
+    private final RandomAccessFile access;
+
+    /**
+     * Offset of each record, 0 if there is none.
+     */
+    private final int[] offsets = new int[ENTRIES];
+
+    /**
+     * Length of each record.
+     */
+    private final int[] lengths = new int[ENTRIES];
+
+    /**
+     * The amount of records.
+     */
+    private int count = 0;
+
+    /**
+     * Open or create a region file.
+     *
+     * @param file the file.
+     * @throws IOException if it can't be read.
+     */
+    public ChunkStorageRegionFile(@NotNull final File file) throws IOException
+    {
+        this.file = file;
+        if (file.exists())
+        {
+            compactIfNeeded(file);
+        }
+        else
+        {
+            file.getParentFile().mkdirs();
+        }
+
+        access = new RandomAccessFile(file, "rw");
+        if (access.length() < HEADER_SIZE)
+        {
+            access.setLength(0);
+            access.write(new byte[HEADER_SIZE]);
+        }
+        else
+        {
+            access.seek(0);
+            for (int i = 0; i < ENTRIES; i++)
+            {
+                offsets[i] = access.readInt();
+                lengths[i] = access.readInt();
+                if (offsets[i] != 0)
+                {
+                    count++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the index of a chunk in its region.
+     *
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     * @return the index.
+     */
+    public static int getIndex(final int chunkX, final int chunkZ)
+    {
+        return (chunkX & (REGION_SIZE - 1)) + (chunkZ & (REGION_SIZE - 1)) * REGION_SIZE;
+    }
+
+    /**
+     * Check if the region has no records left.
+     *
+     * @return true if so.
+     */
+    public boolean isEmpty()
+    {
+        return count == 0;
+    }
+
+    /**
+     * Get the amount of records.
+     *
+     * @return the amount.
+     */
+    public int size()
+    {
+        return count;
+    }
+
+    /**
+     * Read the record of a chunk.
+     *
+     * @param index the index of the chunk.
+     * @return the record or null if there is none or it can't be read.
+     */
+    @Nullable
+    public NBTTagCompound read(final int index)
+    {
+        if (offsets[index] == 0)
+        {
+            return null;
+        }
+
+        try
+        {
+            final FileChannel channel = access.getChannel();
+            final ByteBuffer data = ByteBuffer.allocate(lengths[index]);
+            while (data.hasRemaining())
+            {
+                if (channel.read(data, (long) offsets[index] + data.position()) < 0)
+                {
+                    throw new EOFException("Chunk storage " + index + " ends behind the end of " + file.getName());
+                }
+            }
+            return CompressedStreamTools.readCompressed(new ByteArrayInputStream(data.array()));
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to read chunk storage " + index + " of " + file.getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Append the record of a chunk, replacing the previous one.
+     *
+     * @param index    the index of the chunk.
+     * @param compound the record.
+     * @throws IOException if it can't be written.
+     */
+    public void write(final int index, @NotNull final NBTTagCompound compound) throws IOException
+    {
+        final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        CompressedStreamTools.writeCompressed(compound, data);
+
+        final long offset = access.length();
+        access.seek(offset);
+        access.write(data.toByteArray());
+
+        if (offsets[index] == 0)
+        {
+            count++;
+        }
+        setEntry(index, (int) offset, data.size());
+    }
+
+    /**
+     * Remove the record of a chunk.
+     *
+     * @param index the index of the chunk.
+     * @throws IOException if it can't be written.
+     */
+    public void remove(final int index) throws IOException
+    {
+        if (offsets[index] != 0)
+        {
+            count--;
+            setEntry(index, 0, 0);
+        }
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        access.close();
+    }
+
+    private void setEntry(final int index, final int offset, final int length) throws IOException
+    {
+        offsets[index] = offset;
+        lengths[index] = length;
+        access.seek((long) index * 2 * Integer.BYTES);
+        access.writeInt(offset);
+        access.writeInt(length);
+    }
+
+    /**
+     * Rewrite a file without its garbage, before it is opened.
+     *
+     * @param file the file.
+     * @throws IOException if it can't be read or written.
+     */
+    private static void compactIfNeeded(@NotNull final File file) throws IOException
+    {
+        final byte[] content = Files.readAllBytes(file.toPath());
+        if (content.length < HEADER_SIZE)
+        {
+            return;
+        }
+
+        final ByteBuffer header = ByteBuffer.wrap(content, 0, HEADER_SIZE);
+        final int[] offsets = new int[ENTRIES];
+        final int[] lengths = new int[ENTRIES];
+        long live = 0;
+        for (int i = 0; i < ENTRIES; i++)
+        {
+            offsets[i] = header.getInt();
+            lengths[i] = header.getInt();
+            live += lengths[i];
+        }
+
+        if (content.length - HEADER_SIZE - live <= Math.max(live, MAX_GARBAGE))
+        {
+            return;
+        }
+
+        final ByteArrayOutputStream compacted = new ByteArrayOutputStream();
+        final DataOutputStream table = new DataOutputStream(compacted);
+        int offset = HEADER_SIZE;
+        for (int i = 0; i < ENTRIES; i++)
+        {
+            table.writeInt(offsets[i] == 0 ? 0 : offset);
+            table.writeInt(offsets[i] == 0 ? 0 : lengths[i]);
+            if (offsets[i] != 0)
+            {
+                offset += lengths[i];
+            }
+        }
+        for (int i = 0; i < ENTRIES; i++)
+        {
+            if (offsets[i] != 0)
+            {
+                compacted.write(content, offsets[i], lengths[i]);
+            }
+        }
+
+        //  Replace the file only once the compacted copy is complete, a crash in between leaves the old file intact.
+        final File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+        Files.write(temp.toPath(), compacted.toByteArray());
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
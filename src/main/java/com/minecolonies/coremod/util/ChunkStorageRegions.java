@@ -0,0 +1,370 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.colony.IChunkmanagerCapability;
+import com.minecolonies.api.util.ChunkLoadStorage;
+import com.minecolonies.api.util.Log;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.CHUNK_REGION_PATH;
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.UNABLE_TO_FIND_WORLD_CAP_TEXT;
+import static com.minecolonies.coremod.MineColonies.CHUNK_STORAGE_UPDATE_CAP;
+import static com.minecolonies.coremod.util.ChunkStorageRegionFile.REGION_SHIFT;
+
+/**
+ * The pending chunk load storages of the unloaded chunks of a world, grouped in region files.
+ * Only the names of the region files are listed when the world loads, a region file is opened when one of its chunks loads or gets a storage.
+ * A storage which was applied to its chunk stays in its region file until the chunk was saved, so that a crash in between doesn't lose it.
+ * Only a bounded amount of region files is kept open, the least recently used one is closed first.
+ * Storages which can't be written to their region file are kept in the chunk manager capability of the world instead.
+ * Only accessed from the server thread.
+ */
+public final class ChunkStorageRegions
+{
+    /**
+     * The region storages of the loaded worlds, by dimension.
+     */
+    private static final Map<Integer, ChunkStorageRegions> REGIONS = new HashMap<>();
+
+    /**
+     * File name pattern of the region files.
+     */
+    private static final Pattern FILE_NAME = Pattern.compile("r\\.(-?\\d+)\\.(-?\\d+)\\.dat");
+
+    /**
+     * Maximum amount of open region files.
+     */
+    private static final int MAX_OPEN_REGIONS = 16;
+
+    /**
+     * The world.
+     */
+    private final World world;
+
+    /**
+     * The directory of the region files.
+     */
+    private final File directory;
+
+    /**
+     * The regions which have a file.
+     */
+    private final Set<Long> regionsOnDisk = new HashSet<>();
+
+    /**
+     * The opened region files, in the order they were last used.
+     */
+    private final Map<Long, ChunkStorageRegionFile> openRegions = new LinkedHashMap<Long, ChunkStorageRegionFile>(MAX_OPEN_REGIONS, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Long, ChunkStorageRegionFile> eldest)
+        {
+            if (size() > MAX_OPEN_REGIONS)
+            {
+                closeRegion(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * The storages which were applied to their loaded chunk but are still in their region file, by chunk.
+     */
+    private final Map<Long, NBTTagCompound> appliedStorages = new HashMap<>();
+
+    /**
+     * Create the region storage of a world.
+     *
+     * @param world     the world.
+     * @param directory the directory of the region files.
+     */
+    private ChunkStorageRegions(@NotNull final World world, @NotNull final File directory)
+    {
+        this.world = world;
+        this.directory = directory;
+        final String[] names = directory.list();
+        if (names != null)
+        {
+            for (final String name : names)
+            {
+                final Matcher matcher = FILE_NAME.matcher(name);
+                if (matcher.matches())
+                {
+                    regionsOnDisk.add(ChunkPos.asLong(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the region storage of a server world.
+     *
+     * @param world the world.
+     * @return the storage.
+     */
+    @NotNull
+    public static ChunkStorageRegions get(@NotNull final World world)
+    {
+        return REGIONS.computeIfAbsent(world.provider.getDimension(),
+          dim -> new ChunkStorageRegions(world, new File(world.getSaveHandler().getWorldDirectory(), CHUNK_REGION_PATH + "/" + dim)));
+    }
+
+    /**
+     * Close the region files of an unloaded world.
+     *
+     * @param world the world.
+     */
+    public static void onWorldUnload(@NotNull final World world)
+    {
+        final ChunkStorageRegions regions = REGIONS.remove(world.provider.getDimension());
+        if (regions != null)
+        {
+            regions.close();
+        }
+    }
+
+    /**
+     * Check if a chunk might have a pending storage, without touching the disk.
+     *
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     * @return false if its region has no file.
+     */
+    public boolean mayHaveStorage(final int chunkX, final int chunkZ)
+    {
+        return regionsOnDisk.contains(ChunkPos.asLong(chunkX >> REGION_SHIFT, chunkZ >> REGION_SHIFT));
+    }
+
+    /**
+     * Get the pending storage of a chunk to apply it.
+     * The storage is kept in its region file until the chunk was saved, it isn't returned again before.
+     *
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     * @return the storage or null.
+     */
+    @Nullable
+    public ChunkLoadStorage take(final int chunkX, final int chunkZ)
+    {
+        if (!mayHaveStorage(chunkX, chunkZ) || appliedStorages.containsKey(ChunkPos.asLong(chunkX, chunkZ)))
+        {
+            return null;
+        }
+
+        final ChunkStorageRegionFile region = getRegion(chunkX >> REGION_SHIFT, chunkZ >> REGION_SHIFT);
+        if (region == null)
+        {
+            return null;
+        }
+
+        final NBTTagCompound compound = region.read(ChunkStorageRegionFile.getIndex(chunkX, chunkZ));
+        if (compound == null)
+        {
+            return null;
+        }
+
+        appliedStorages.put(ChunkPos.asLong(chunkX, chunkZ), compound);
+        return new ChunkLoadStorage(compound);
+    }
+
+    /**
+     * Remove the storage of a saved chunk from its region file, if it was applied and not replaced since.
+     *
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     */
+    public void onChunkSaved(final int chunkX, final int chunkZ)
+    {
+        if (appliedStorages.isEmpty())
+        {
+            return;
+        }
+
+        final NBTTagCompound applied = appliedStorages.remove(ChunkPos.asLong(chunkX, chunkZ));
+        if (applied == null)
+        {
+            return;
+        }
+
+        final ChunkStorageRegionFile region = getRegion(chunkX >> REGION_SHIFT, chunkZ >> REGION_SHIFT);
+        final int index = ChunkStorageRegionFile.getIndex(chunkX, chunkZ);
+        if (region != null && applied.equals(region.read(index)))
+        {
+            try
+            {
+                region.remove(index);
+            }
+            catch (final IOException e)
+            {
+                Log.getLogger().warn("Unable to remove chunk storage at " + chunkX + " " + chunkZ, e);
+            }
+        }
+    }
+
+    /**
+     * Add pending storages, merged into the existing storages of their chunks.
+     * A storage which can't be written to its region file is added to the chunk manager capability of the world.
+     *
+     * @param storages the storages.
+     */
+    public void add(@NotNull final Collection<ChunkLoadStorage> storages)
+    {
+        for (final ChunkLoadStorage storage : storages)
+        {
+            final int chunkX = (int) storage.getXz();
+            final int chunkZ = (int) (storage.getXz() >> 32);
+            //  The new storage isn't applied yet, so the record has to stay after the next save.
+            appliedStorages.remove(ChunkPos.asLong(chunkX, chunkZ));
+            final ChunkStorageRegionFile region = getRegion(chunkX >> REGION_SHIFT, chunkZ >> REGION_SHIFT);
+            if (region == null)
+            {
+                addToWorldCapability(chunkX, chunkZ, storage);
+                continue;
+            }
+            regionsOnDisk.add(ChunkPos.asLong(chunkX >> REGION_SHIFT, chunkZ >> REGION_SHIFT));
+
+            final int index = ChunkStorageRegionFile.getIndex(chunkX, chunkZ);
+            final NBTTagCompound existing = region.read(index);
+            final ChunkLoadStorage merged;
+            if (existing == null)
+            {
+                merged = storage;
+            }
+            else
+            {
+                merged = new ChunkLoadStorage(existing);
+                merged.merge(storage);
+            }
+
+            try
+            {
+                region.write(index, merged.toNBT());
+            }
+            catch (final IOException e)
+            {
+                //  The existing record stays in the region file, both are merged when the chunk loads.
+                Log.getLogger().warn("Unable to write chunk storage at " + chunkX + " " + chunkZ + ", keeping it in the world", e);
+                addToWorldCapability(chunkX, chunkZ, storage);
+            }
+        }
+    }
+
+    /**
+     * Keep a storage in the chunk manager capability of the world, as before region files were used.
+     *
+     * @param chunkX  the chunk x.
+     * @param chunkZ  the chunk z.
+     * @param storage the storage.
+     */
+    private void addToWorldCapability(final int chunkX, final int chunkZ, @NotNull final ChunkLoadStorage storage)
+    {
+        final IChunkmanagerCapability chunkManager = world.getCapability(CHUNK_STORAGE_UPDATE_CAP, null);
+        if (chunkManager == null)
+        {
+            Log.getLogger().error(UNABLE_TO_FIND_WORLD_CAP_TEXT);
+            return;
+        }
+        chunkManager.addChunkStorage(chunkX, chunkZ, storage);
+    }
+
+    /**
+     * Get the amount of pending storages, opens all region files.
+     *
+     * @return the amount.
+     */
+    public int size()
+    {
+        int size = 0;
+        for (final long key : new ArrayList<>(regionsOnDisk))
+        {
+            final ChunkStorageRegionFile region = getRegion((int) key, (int) (key >> 32));
+            if (region != null)
+            {
+                size += region.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Get an open region file, opening it if needed.
+     *
+     * @param regionX the region x.
+     * @param regionZ the region z.
+     * @return the region or null if it can't be opened.
+     */
+    @Nullable
+    private ChunkStorageRegionFile getRegion(final int regionX, final int regionZ)
+    {
+        final long key = ChunkPos.asLong(regionX, regionZ);
+        ChunkStorageRegionFile region = openRegions.get(key);
+        if (region == null)
+        {
+            try
+            {
+                region = new ChunkStorageRegionFile(new File(directory, "r." + regionX + "." + regionZ + ".dat"));
+                openRegions.put(key, region);
+            }
+            catch (final IOException e)
+            {
+                Log.getLogger().warn("Unable to open chunk storage region " + regionX + " " + regionZ, e);
+            }
+        }
+        return region;
+    }
+
+    /**
+     * Close all region files, deleting the ones without records.
+     */
+    private void close()
+    {
+        for (final Map.Entry<Long, ChunkStorageRegionFile> entry : openRegions.entrySet())
+        {
+            closeRegion(entry.getKey(), entry.getValue());
+        }
+        openRegions.clear();
+        regionsOnDisk.clear();
+        appliedStorages.clear();
+    }
+
+    /**
+     * Close a region file, deleting it if it has no records.
+     *
+     * @param key    the region key.
+     * @param region the region file.
+     */
+    private void closeRegion(final long key, @NotNull final ChunkStorageRegionFile region)
+    {
+        try
+        {
+            region.close();
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to close chunk storage region", e);
+        }
+
+        if (region.isEmpty())
+        {
+            final File file = new File(directory, "r." + (int) key + "." + (int) (key >> 32) + ".dat");
+            if (file.delete())
+            {
+                regionsOnDisk.remove(key);
+            }
+            else
+            {
+                Log.getLogger().info("Unable to delete empty chunk storage region " + file.getName() + ", it will be removed later");
+            }
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.network.messages.ClaimMapMessage;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
+
+/**
+ * Keeps the client side claim maps of the players up to date.
+ * Remembers the window each player received last, so that a chunk crossing only sends the chunks which entered the window.
+ * Window and claim change messages share a sequence per player, a client which sees a gap asks for the full window again.
+ * Only accessed from the server thread.
+ */
+public final class ClaimSyncHelper
+{
+    /**
+     * The last window sent to each player.
+     */
+    private static final Map<UUID, ClaimWindow> WINDOWS = new HashMap<>();
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private ClaimSyncHelper()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Send the claims which entered the window of a player which entered a chunk.
+     * The full window is sent if the player has no window yet, changed dimension, or moved further than the window.
+     *
+     * @param player the player.
+     * @param chunk  the entered chunk.
+     * @param range  the range of the window in chunks.
+     */
+    public static void onEnteringChunk(@NotNull final EntityPlayerMP player, @NotNull final Chunk chunk, final int range)
+    {
+        sendWindow(player, chunk, range, false);
+    }
+
+    /**
+     * Send the full window around a player whose client missed an update.
+     *
+     * @param player the player.
+     */
+    public static void resync(@NotNull final EntityPlayerMP player)
+    {
+        sendWindow(player, player.world.getChunk(player.chunkCoordX, player.chunkCoordZ), Configurations.gameplay.workingRangeTownHallChunks, true);
+    }
+
+    /**
+     * Get the sequence of the next claim change message for a player.
+     *
+     * @param player    the player.
+     * @param dimension the dimension of the changed chunks.
+     * @return the sequence, or -1 if the player has no window in the dimension.
+     */
+    public static int nextSequence(@NotNull final EntityPlayerMP player, final int dimension)
+    {
+        final ClaimWindow window = WINDOWS.get(player.getUniqueID());
+        if (window == null || window.dimension != dimension)
+        {
+            return -1;
+        }
+        return ++window.sequence;
+    }
+
+    /**
+     * Send the window around a chunk to a player.
+     *
+     * @param player     the player.
+     * @param chunk      the center chunk.
+     * @param range      the range of the window in chunks.
+     * @param forceReset if the full window has to be sent.
+     */
+    private static void sendWindow(@NotNull final EntityPlayerMP player, @NotNull final Chunk chunk, final int range, final boolean forceReset)
+    {
+        final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
+        if (cap == null)
+        {
+            return;
+        }
+
+        final World world = player.world;
+        final ClaimWindow old = WINDOWS.get(player.getUniqueID());
+        final ClaimWindow window = new ClaimWindow(world.provider.getDimension(), chunk.x, chunk.z, range, old == null ? 0 : old.sequence + 1);
+        final boolean reset = forceReset || old == null || !old.overlaps(window);
+        final ClaimMapMessage message = new ClaimMapMessage(window.dimension, window.sequence, reset, window.centerX, window.centerZ, range, cap);
+
+        if (reset)
+        {
+            addArea(world, message, window, window.minX(), window.minZ(), window.size(), window.size());
+        }
+        else
+        {
+            final int dx = window.centerX - old.centerX;
+            final int dz = window.centerZ - old.centerZ;
+
+            // Columns which entered the window, over its full depth.
+            addArea(world, message, window, dx > 0 ? old.maxX() + 1 : window.minX(), window.minZ(), Math.abs(dx), window.size());
+            // Rows which entered the window, over the columns both windows share.
+            addArea(world, message, window, dx > 0 ? window.minX() : old.minX(), dz > 0 ? old.maxZ() + 1 : window.minZ(), window.size() - Math.abs(dx), Math.abs(dz));
+
+            for (final long key : old.unknown)
+            {
+                final int x = (int) key;
+                final int z = (int) (key >>> Integer.SIZE);
+                if (window.contains(x, z))
+                {
+                    final int owner = getEncodedOwner(world, x, z);
+                    if (owner == ClaimMapMessage.UNKNOWN)
+                    {
+                        window.unknown.add(key);
+                    }
+                    else
+                    {
+                        message.addChunk(x, z, owner);
+                    }
+                }
+            }
+        }
+
+        WINDOWS.put(player.getUniqueID(), window);
+        MineColonies.getNetwork().sendTo(message, player);
+    }
+
+    /**
+     * Check if a chunk is in the claim window of a player.
+     *
+     * @param player    the player.
+     * @param dimension the dimension of the chunk.
+     * @param x         the chunk x.
+     * @param z         the chunk z.
+     * @return true if the client of the player keeps the claim of the chunk.
+     */
+    public static boolean isInWindow(@NotNull final EntityPlayerMP player, final int dimension, final int x, final int z)
+    {
+        final ClaimWindow window = WINDOWS.get(player.getUniqueID());
+        return window != null && window.dimension == dimension && window.contains(x, z);
+    }
+
+    /**
+     * Forget the window of a player which logged out.
+     *
+     * @param player the player.
+     */
+    public static void onPlayerLeave(@NotNull final EntityPlayerMP player)
+    {
+        WINDOWS.remove(player.getUniqueID());
+    }
+
+    /**
+     * Add an area of the window to a message, remembering the chunks which are not loaded.
+     */
+    private static void addArea(
+      @NotNull final World world,
+      @NotNull final ClaimMapMessage message,
+      @NotNull final ClaimWindow window,
+      final int minX,
+      final int minZ,
+      final int width,
+      final int depth)
+    {
+        if (width <= 0 || depth <= 0)
+        {
+            return;
+        }
+
+        final int[] owners = new int[width * depth];
+        for (int z = 0; z < depth; z++)
+        {
+            for (int x = 0; x < width; x++)
+            {
+                final int owner = getEncodedOwner(world, minX + x, minZ + z);
+                if (owner == ClaimMapMessage.UNKNOWN)
+                {
+                    window.unknown.add(ChunkPos.asLong(minX + x, minZ + z));
+                }
+                owners[z * width + x] = owner;
+            }
+        }
+        message.addArea(minX, minZ, width, depth, owners);
+    }
+
+    /**
+     * Get the owner of a chunk, encoded for the claim map message.
+     *
+     * @return the owner plus one, or unknown if the chunk is not loaded.
+     */
+    private static int getEncodedOwner(@NotNull final World world, final int x, final int z)
+    {
+        final Chunk chunk = world.getChunkProvider().getLoadedChunk(x, z);
+        if (chunk == null)
+        {
+            return ClaimMapMessage.UNKNOWN;
+        }
+
+        final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
+        return cap == null ? ClaimMapMessage.UNKNOWN : cap.getOwningColony() + 1;
+    }
+
+    /**
+     * The square of chunks around a player which the client knows.
+     */
+    private static final class ClaimWindow
+    {
+        private final int dimension;
+        private final int centerX;
+        private final int centerZ;
+        private final int range;
+
+        /**
+         * The sequence of the last message sent to the player.
+         */
+        private int sequence;
+
+        /**
+         * The chunks of the window which were not loaded when they were sent.
+         */
+        private final Set<Long> unknown = new HashSet<>();
+
+        private ClaimWindow(final int dimension, final int centerX, final int centerZ, final int range, final int sequence)
+        {
+            this.dimension = dimension;
+            this.centerX = centerX;
+            this.centerZ = centerZ;
+            this.range = range;
+            this.sequence = sequence;
+        }
+
+        private int minX()
+        {
+            return centerX - range;
+        }
+
+        private int maxX()
+        {
+            return centerX + range;
+        }
+
+        private int minZ()
+        {
+            return centerZ - range;
+        }
+
+        private int maxZ()
+        {
+            return centerZ + range;
+        }
+
+        private int size()
+        {
+            return range * 2 + 1;
+        }
+
+        private boolean contains(final int x, final int z)
+        {
+            return Math.abs(x - centerX) <= range && Math.abs(z - centerZ) <= range;
+        }
+
+        private boolean overlaps(@NotNull final ClaimWindow other)
+        {
+            return dimension == other.dimension
+                     && range == other.range
+                     && Math.abs(centerX - other.centerX) < size()
+                     && Math.abs(centerZ - other.centerZ) < size();
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.minecolonies.coremod.util;
+
+import com.google.common.hash.Hashing;
+import com.minecolonies.api.util.Log;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraftforge.common.util.Constants;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
+import java.util.*;
+
+/**
+ * Incremental backups of the colony save files.
+ * Every file is stored once under the hash of its content, a snapshot only lists the names and hashes of its files.
+ * Unchanged files of a new snapshot therefore cost no space, objects are deleted once no kept snapshot references them.
+ * Not thread safe, only used from the save writer thread.
+ */
+public final class ColonyBackupStore
+{
+    /**
+     * Directory of the stored files, below the backup directory.
+     */
+    private static final String OBJECTS_DIR = "objects";
+
+    /**
+     * Directory of the snapshots, below the backup directory.
+     */
+    private static final String SNAPSHOTS_DIR = "snapshots";
+
+    /**
+     * Suffix of the stored files and snapshots.
+     */
+    private static final String SUFFIX = ".dat";
+
+    /**
+     * Snapshot names, sorting by name sorts them by age.
+     */
+    private static final String SNAPSHOT_DATE_FORMAT = "yyyy-MM-dd_HH.mm.ss";
+
+    /**
+     * Tag of the file list of a snapshot.
+     */
+    private static final String TAG_FILES = "files";
+
+    /**
+     * Tag of the name of a file.
+     */
+    private static final String TAG_NAME = "name";
+
+    /**
+     * Tag of the hash of a file.
+     */
+    private static final String TAG_HASH = "hash";
+
+    /**
+     * Directory of the stored files.
+     */
+    private final File objects;
+
+    /**
+     * Directory of the snapshots.
+     */
+    private final File snapshots;
+
+    /**
+     * Create the store in a directory.
+     *
+     * @param directory the backup directory.
+     */
+    public ColonyBackupStore(@NotNull final File directory)
+    {
+        this.objects = new File(directory, OBJECTS_DIR);
+        this.snapshots = new File(directory, SNAPSHOTS_DIR);
+    }
+
+    /**
+     * Create a snapshot of files, only storing the files which no earlier snapshot holds.
+     *
+     * @param sourceDir the directory of the files.
+     * @param names     the names of the files, missing files are skipped.
+     * @param date      the date of the snapshot.
+     * @return the amount of newly stored files.
+     * @throws IOException if a file can't be read or stored.
+     */
+    public int snapshot(@NotNull final File sourceDir, @NotNull final Collection<String> names, @NotNull final Date date) throws IOException
+    {
+        int stored = 0;
+        final NBTTagList files = new NBTTagList();
+        for (final String name : names)
+        {
+            final File file = new File(sourceDir, name);
+            if (!file.exists())
+            {
+                continue;
+            }
+
+            final byte[] content = Files.readAllBytes(file.toPath());
+            final String hash = Hashing.sha256().hashBytes(content).toString();
+            final File object = getObject(hash);
+            if (!object.exists())
+            {
+                object.getParentFile().mkdirs();
+                final File temp = new File(object.getParentFile(), hash + ".tmp");
+                Files.write(temp.toPath(), content);
+                Files.move(temp.toPath(), object.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                stored++;
+            }
+
+            final NBTTagCompound entry = new NBTTagCompound();
+            entry.setString(TAG_NAME, name);
+            entry.setString(TAG_HASH, hash);
+            files.appendTag(entry);
+        }
+
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setTag(TAG_FILES, files);
+        snapshots.mkdirs();
+        CompressedStreamTools.safeWrite(compound, new File(snapshots, new SimpleDateFormat(SNAPSHOT_DATE_FORMAT).format(date) + SUFFIX));
+        return stored;
+    }
+
+    /**
+     * Delete the oldest snapshots and the files only they referenced.
+     *
+     * @param keep the amount of snapshots to keep.
+     */
+    public void prune(final int keep)
+    {
+        final List<String> names = getSnapshots();
+        if (names.size() <= keep)
+        {
+            return;
+        }
+
+        for (final String name : names.subList(0, names.size() - keep))
+        {
+            if (!new File(snapshots, name + SUFFIX).delete())
+            {
+                Log.getLogger().warn("Unable to delete backup snapshot " + name);
+            }
+        }
+
+        final Set<String> referenced = new HashSet<>();
+        for (final String name : names.subList(names.size() - keep, names.size()))
+        {
+            final Map<String, String> files = readSnapshot(name);
+            if (files == null)
+            {
+                // An unreadable snapshot might reference any object, keep them all.
+                return;
+            }
+            referenced.addAll(files.values());
+        }
+
+        final File[] buckets = objects.listFiles(File::isDirectory);
+        if (buckets == null)
+        {
+            return;
+        }
+        for (final File bucket : buckets)
+        {
+            final File[] stored = bucket.listFiles();
+            if (stored == null)
+            {
+                continue;
+            }
+            for (final File object : stored)
+            {
+                final String hash = object.getName().endsWith(SUFFIX) ? object.getName().substring(0, object.getName().length() - SUFFIX.length()) : null;
+                if ((hash == null || !referenced.contains(hash)) && !object.delete())
+                {
+                    Log.getLogger().warn("Unable to delete backup object " + object.getName());
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the names of the snapshots, oldest first.
+     *
+     * @return the sorted names.
+     */
+    @NotNull
+    public List<String> getSnapshots()
+    {
+        final List<String> names = new ArrayList<>();
+        final String[] files = snapshots.list();
+        if (files != null)
+        {
+            for (final String file : files)
+            {
+                if (file.endsWith(SUFFIX))
+                {
+                    names.add(file.substring(0, file.length() - SUFFIX.length()));
+                }
+            }
+        }
+        Collections.sort(names);
+        return names;
+    }
+
+    /**
+     * Read the files of a snapshot.
+     *
+     * @param snapshot the name of the snapshot.
+     * @return the hashes by file name, or null if the snapshot can't be read.
+     */
+    @Nullable
+    public Map<String, String> readSnapshot(@NotNull final String snapshot)
+    {
+        final NBTTagCompound compound;
+        try
+        {
+            compound = CompressedStreamTools.read(new File(snapshots, snapshot + SUFFIX));
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to read backup snapshot " + snapshot, e);
+            return null;
+        }
+
+        if (compound == null)
+        {
+            return null;
+        }
+
+        final Map<String, String> files = new LinkedHashMap<>();
+        final NBTTagList list = compound.getTagList(TAG_FILES, Constants.NBT.TAG_COMPOUND);
+        for (int i = 0; i < list.tagCount(); i++)
+        {
+            final NBTTagCompound entry = list.getCompoundTagAt(i);
+            files.put(entry.getString(TAG_NAME), entry.getString(TAG_HASH));
+        }
+        return files;
+    }
+
+    /**
+     * Restore a file of a snapshot.
+     *
+     * @param snapshot  the name of the snapshot.
+     * @param name      the name of the file.
+     * @param targetDir the directory to restore it to.
+     * @return true if the snapshot held the file and it was restored.
+     */
+    public boolean restore(@NotNull final String snapshot, @NotNull final String name, @NotNull final File targetDir)
+    {
+        final Map<String, String> files = readSnapshot(snapshot);
+        final String hash = files == null ? null : files.get(name);
+        if (hash == null)
+        {
+            return false;
+        }
+
+        try
+        {
+            targetDir.mkdirs();
+            Files.copy(getObject(hash).toPath(), new File(targetDir, name).toPath(), StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to restore " + name + " from backup snapshot " + snapshot, e);
+            return false;
+        }
+    }
+
+    /**
+     * Get the file of a stored object.
+     *
+     * @param hash the hash of its content.
+     * @return the file, in a directory named after the first two characters of the hash.
+     */
+    @NotNull
+    private File getObject(@NotNull final String hash)
+    {
+        return new File(new File(objects, hash.substring(0, 2)), hash + SUFFIX);
+    }
+}
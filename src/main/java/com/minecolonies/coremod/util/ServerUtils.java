@@ -2,7 +2,6 @@ package com.minecolonies.coremod.util;
 
 import com.minecolonies.api.colony.permissions.Player;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -28,6 +27,7 @@ public final class ServerUtils
 
     /**
      * Returns the online EntityPlayer with the given UUID.
+     * Looked up in the player list of the server, only client worlds are scanned.
      *
      * @param world world the player is in
      * @param id    the player's UUID
@@ -36,6 +36,12 @@ public final class ServerUtils
     @Nullable
     public static EntityPlayer getPlayerFromUUID(@NotNull final World world, @NotNull final UUID id)
     {
+        if (world.getMinecraftServer() != null)
+        {
+            final EntityPlayer player = world.getMinecraftServer().getPlayerList().getPlayerByUUID(id);
+            return player != null && player.world == world ? player : null;
+        }
+
         for (int i = 0; i < world.playerEntities.size(); ++i)
         {
             if (id.equals((world.playerEntities.get(i)).getGameProfile().getId()))
@@ -62,6 +68,19 @@ public final class ServerUtils
         }
         @NotNull final List<EntityPlayer> players = new ArrayList<>();
 
+        if (world.getMinecraftServer() != null)
+        {
+            for (final UUID id : ids)
+            {
+                final EntityPlayer player = getPlayerFromUUID(world, id);
+                if (player != null)
+                {
+                    players.add(player);
+                }
+            }
+            return players;
+        }
+
         for (final Object o : world.playerEntities)
         {
             if (o instanceof EntityPlayer)
@@ -141,14 +160,6 @@ public final class ServerUtils
         {
             return null;
         }
-        final List<EntityPlayerMP> allPlayers = world.getMinecraftServer().getPlayerList().getPlayers();
-        for (@NotNull final EntityPlayerMP player : allPlayers)
-        {
-            if (player.getUniqueID().equals(uuid))
-            {
-                return player;
-            }
-        }
-        return null;
+        return world.getMinecraftServer().getPlayerList().getPlayerByUUID(uuid);
     }
 }
@@ -0,0 +1,96 @@
+package com.minecolonies.api.entity.ai.statemachine.tickratestatemachine;
+
+import com.minecolonies.api.entity.ai.statemachine.AIEventTarget;
+import com.minecolonies.api.entity.ai.statemachine.states.AIBlockingEventType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState.IDLE;
+import static com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState.START_WORKING;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test for the compiled transitions of the {@link TickRateStateMachine}.
+ */
+public class TickRateStateMachineTest
+{
+    private TickRateStateMachine machine;
+
+    @Before
+    public void setUp()
+    {
+        machine = new TickRateStateMachine(IDLE, e -> {
+            throw e;
+        });
+    }
+
+    @Test
+    public void transitionsRunAtTheirTickRate()
+    {
+        final AtomicInteger everyTick = new AtomicInteger();
+        final AtomicInteger everyTenTicks = new AtomicInteger();
+        machine.addTransition(new TickingTransition(IDLE, () -> everyTick.incrementAndGet() < 0, () -> IDLE, 1));
+        machine.addTransition(new TickingTransition(IDLE, () -> everyTenTicks.incrementAndGet() < 0, () -> IDLE, 10));
+
+        for (int i = 0; i < 100; i++)
+        {
+            machine.tick();
+        }
+
+        assertEquals(100, everyTick.get());
+        assertEquals(10, everyTenTicks.get());
+    }
+
+    @Test
+    public void firstApplyingTransitionWins()
+    {
+        final AtomicInteger second = new AtomicInteger();
+        machine.addTransition(new TickingTransition(IDLE, () -> true, () -> START_WORKING, 1));
+        machine.addTransition(new TickingTransition(IDLE, () -> second.incrementAndGet() < 0, () -> IDLE, 1));
+        machine.addTransition(new TickingTransition(START_WORKING, () -> true, () -> null, 1));
+
+        machine.tick();
+        machine.tick();
+
+        assertEquals(START_WORKING, machine.getState());
+        assertEquals(0, second.get());
+    }
+
+    @Test
+    public void eventsRunBeforeStateTransitions()
+    {
+        final AtomicInteger stateChecks = new AtomicInteger();
+        machine.addTransition(new TickingTransition(IDLE, () -> stateChecks.incrementAndGet() < 0, () -> IDLE, 1));
+        machine.tick();
+
+        machine.addTransition(new AIEventTarget(AIBlockingEventType.AI_BLOCKING, () -> true, () -> START_WORKING, 1));
+        machine.addTransition(new TickingTransition(START_WORKING, () -> false, () -> IDLE, 1));
+        machine.tick();
+
+        assertEquals(1, stateChecks.get());
+        assertEquals(START_WORKING, machine.getState());
+    }
+
+    @Test
+    public void removedTransitionsAreNotChecked()
+    {
+        final AtomicInteger checks = new AtomicInteger();
+        final TickingTransition transition = new TickingTransition(IDLE, () -> checks.incrementAndGet() < 0, () -> IDLE, 1);
+        machine.addTransition(transition);
+        machine.tick();
+        machine.removeTransition(transition);
+        machine.tick();
+
+        assertEquals(1, checks.get());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void missingStateTransitionsAreReported()
+    {
+        machine.addTransition(new TickingTransition(IDLE, () -> true, () -> START_WORKING, 1));
+        machine.tick();
+        machine.tick();
+    }
+}
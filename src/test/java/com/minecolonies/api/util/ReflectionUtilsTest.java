@@ -9,6 +9,7 @@ import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 /**
  * Test for the {@link ReflectionUtils} class.
@@ -25,4 +26,18 @@ public class ReflectionUtilsTest
         final Set<TypeToken> interfaceTypes = ReflectionUtils.getSuperClasses(new TypeToken<IToken<UUID>>() {});
         assertEquals(2, interfaceTypes.size());
     }
+
+    @Test
+    public void getSuperClassesIsCached()
+    {
+        final Set<TypeToken> types = ReflectionUtils.getSuperClasses(TypeConstants.STANDARDTOKEN);
+        assertSame(types, ReflectionUtils.getSuperClasses(TypeConstants.STANDARDTOKEN));
+        assertEquals(types, ReflectionUtils.getSuperClasses(TypeToken.of(TypeConstants.STANDARDTOKEN.getRawType())));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void getSuperClassesIsUnmodifiable()
+    {
+        ReflectionUtils.getSuperClasses(TypeConstants.STANDARDTOKEN).remove(TypeConstants.OBJECT);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.minecolonies.coremod.colony.requestsystem.resolvers;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class RetryTimingWheelTest
+{
+    private static final int ENTRY_COUNT = 500;
+
+    private RetryTimingWheel<Integer> wheel;
+
+    @Before
+    public void setUp()
+    {
+        wheel = new RetryTimingWheel<>();
+    }
+
+    @Test
+    public void testEntriesAreDueAtTheirTick()
+    {
+        final Random random = new Random(ENTRY_COUNT);
+        final Map<Integer, Integer> delays = new HashMap<>();
+        for (int i = 0; i < ENTRY_COUNT; i++)
+        {
+            final int delay = 1 + random.nextInt(300_000);
+            delays.put(i, delay);
+            wheel.schedule(i, delay);
+        }
+
+        final int maxDelay = Collections.max(delays.values());
+        for (int tick = 1; tick <= maxDelay; tick++)
+        {
+            for (final Integer entry : wheel.advance())
+            {
+                assertEquals(tick, (int) delays.remove(entry));
+            }
+        }
+        assertTrue(delays.isEmpty());
+        assertTrue(wheel.getRemainingTicks().isEmpty());
+    }
+
+    @Test
+    public void testRescheduleAndRemove()
+    {
+        wheel.schedule(1, 100);
+        wheel.schedule(2, 100);
+        wheel.schedule(1, 5);
+        assertTrue(wheel.remove(2));
+        assertFalse(wheel.remove(2));
+        assertEquals(Integer.valueOf(5), wheel.getRemainingTicks().get(1));
+
+        for (int tick = 1; tick < 5; tick++)
+        {
+            assertTrue(wheel.advance().isEmpty());
+        }
+        assertEquals(Collections.singletonList(1), wheel.advance());
+        for (int tick = 5; tick < 200; tick++)
+        {
+            assertTrue(wheel.advance().isEmpty());
+        }
+    }
+
+    @Test
+    public void testDelayIsAtLeastOneTick()
+    {
+        wheel.schedule(1, 0);
+        wheel.schedule(2, -10);
+        assertEquals(Arrays.asList(1, 2), wheel.advance());
+        assertFalse(wheel.contains(1));
+    }
+}
@@ -0,0 +1,153 @@
+package com.minecolonies.coremod.entity.ai.citizen.deliveryman;
+
+import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.IBuildingWorker;
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.requestable.Delivery;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.colony.requestsystem.token.StandardToken;
+import com.minecolonies.coremod.colony.jobs.JobDeliveryman;
+import com.minecolonies.coremod.colony.requestsystem.locations.StaticLocation;
+import net.minecraft.util.math.BlockPos;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class DeliveryPlannerTest
+{
+    private static final StaticLocation WAREHOUSE = new StaticLocation(new BlockPos(0, 64, 0), 0);
+    private static final StaticLocation OTHER_START = new StaticLocation(new BlockPos(100, 64, 0), 0);
+
+    private IColony colony;
+
+    private IRequestManager requestManager;
+
+    @Before
+    public void setUp()
+    {
+        colony = Mockito.mock(IColony.class);
+        requestManager = Mockito.mock(IRequestManager.class);
+        Mockito.when(colony.getRequestManager()).thenReturn(requestManager);
+    }
+
+    @Test
+    public void testCapacityGrowsWithTheHutLevel()
+    {
+        assertEquals(1, DeliveryPlanner.getCapacity(Mockito.mock(ICitizenData.class)));
+        assertEquals(2, DeliveryPlanner.getCapacity(deliveryman(1, 5)));
+        assertEquals(3, DeliveryPlanner.getCapacity(deliveryman(2, 5)));
+        assertEquals(5, DeliveryPlanner.getCapacity(deliveryman(3, 5)));
+        assertEquals(9, DeliveryPlanner.getCapacity(deliveryman(4, 5)));
+        assertEquals(16, DeliveryPlanner.getCapacity(deliveryman(5, 5)));
+        assertEquals(Integer.MAX_VALUE, DeliveryPlanner.getStackLimit(hut(5, 5)));
+        assertEquals(9, DeliveryPlanner.getStackLimit(hut(4, 5)));
+    }
+
+    @Test
+    public void testDeliveryJoinsTheBatchWithTheSameStartAndCloseTarget()
+    {
+        final List<IToken<?>> queue = Arrays.asList(queue(WAREHOUSE, 10), queue(WAREHOUSE, 20));
+
+        assertEquals(queue.get(1), DeliveryPlanner.findBatchEnd(colony, queue, delivery(WAREHOUSE, 30), 3));
+        assertNull(DeliveryPlanner.findBatchEnd(colony, queue, delivery(OTHER_START, 30), 3));
+        assertNull(DeliveryPlanner.findBatchEnd(colony, queue, delivery(WAREHOUSE, 60), 3));
+    }
+
+    @Test
+    public void testFullBatchTakesNoFurtherDelivery()
+    {
+        final List<IToken<?>> queue = Arrays.asList(queue(WAREHOUSE, 10), queue(WAREHOUSE, 20));
+
+        assertNull(DeliveryPlanner.findBatchEnd(colony, queue, delivery(WAREHOUSE, 30), 2));
+    }
+
+    @Test
+    public void testBatchesEndAtRunBoundaries()
+    {
+        final List<IToken<?>> queue = Arrays.asList(queue(WAREHOUSE, 10), queue(OTHER_START, 10), queue(OTHER_START, 20));
+
+        assertEquals(queue.get(0), DeliveryPlanner.findBatchEnd(colony, queue, delivery(WAREHOUSE, 15), 4));
+        assertEquals(queue.get(2), DeliveryPlanner.findBatchEnd(colony, queue, delivery(OTHER_START, 15), 4));
+    }
+
+    @Test
+    public void testUnknownTokensSplitBatches()
+    {
+        final IToken<?> unknown = new StandardToken(UUID.randomUUID());
+        final List<IToken<?>> queue = Arrays.asList(queue(WAREHOUSE, 10), unknown, queue(WAREHOUSE, 20));
+
+        assertEquals(queue.get(0), DeliveryPlanner.findBatchEnd(colony, queue, delivery(WAREHOUSE, 15), 4));
+        assertEquals(queue.get(0), DeliveryPlanner.findBatchEnd(colony, Arrays.asList(queue.get(0), unknown), delivery(WAREHOUSE, 15), 4));
+        assertNull(DeliveryPlanner.findBatchEnd(colony, Collections.singletonList(unknown), delivery(WAREHOUSE, 15), 4));
+    }
+
+    @Test
+    public void testHeadBatch()
+    {
+        final List<IToken<?>> queue = Arrays.asList(queue(WAREHOUSE, 10), queue(WAREHOUSE, 20), queue(OTHER_START, 10), queue(WAREHOUSE, 30));
+        final JobDeliveryman job = job(queue);
+
+        assertEquals(queue.subList(0, 2), tokens(DeliveryPlanner.getBatch(job, 4)));
+        assertEquals(queue.subList(0, 1), tokens(DeliveryPlanner.getBatch(job, 1)));
+        assertTrue(DeliveryPlanner.getBatch(job(Collections.emptyList()), 4).isEmpty());
+        assertTrue(DeliveryPlanner.getBatch(job(Collections.singletonList(new StandardToken(UUID.randomUUID()))), 4).isEmpty());
+    }
+
+    private IToken<?> queue(final StaticLocation start, final int targetX)
+    {
+        final IToken<?> token = new StandardToken(UUID.randomUUID());
+        final IRequest<?> request = Mockito.mock(IRequest.class);
+        Mockito.doReturn(token).when(request).getId();
+        Mockito.doReturn(delivery(start, targetX)).when(request).getRequest();
+        Mockito.doReturn(request).when(requestManager).getRequestForToken(token);
+        return token;
+    }
+
+    private static Delivery delivery(final StaticLocation start, final int targetX)
+    {
+        final Delivery delivery = Mockito.mock(Delivery.class);
+        Mockito.when(delivery.getStart()).thenReturn(start);
+        Mockito.when(delivery.getTarget()).thenReturn(new StaticLocation(new BlockPos(targetX, 64, 50), 0));
+        return delivery;
+    }
+
+    private JobDeliveryman job(final List<IToken<?>> queue)
+    {
+        final JobDeliveryman job = Mockito.mock(JobDeliveryman.class);
+        Mockito.when(job.getTaskQueue()).thenReturn(queue);
+        Mockito.when(job.getColony()).thenReturn(colony);
+        return job;
+    }
+
+    private static ICitizenData deliveryman(final int level, final int maxLevel)
+    {
+        final IBuildingWorker building = hut(level, maxLevel);
+        final ICitizenData citizen = Mockito.mock(ICitizenData.class);
+        Mockito.when(citizen.getWorkBuilding()).thenReturn(building);
+        return citizen;
+    }
+
+    private static IBuildingWorker hut(final int level, final int maxLevel)
+    {
+        final IBuildingWorker building = Mockito.mock(IBuildingWorker.class);
+        Mockito.when(building.getBuildingLevel()).thenReturn(level);
+        Mockito.when(building.getMaxBuildingLevel()).thenReturn(maxLevel);
+        return building;
+    }
+
+    private static List<IToken<?>> tokens(final List<IRequest<? extends Delivery>> batch)
+    {
+        final List<IToken<?>> tokens = new ArrayList<>();
+        for (final IRequest<? extends Delivery> request : batch)
+        {
+            tokens.add(request.getId());
+        }
+        return tokens;
+    }
+}
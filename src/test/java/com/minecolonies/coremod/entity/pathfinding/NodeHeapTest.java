@@ -0,0 +1,77 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class NodeHeapTest
+{
+    private static final int NODE_COUNT = 2000;
+
+    private NodeHeap   heap;
+    private NodeMap    map;
+    private List<Node> nodes;
+
+    @Before
+    public void setUp()
+    {
+        heap = new NodeHeap(1);
+        map = new NodeMap(1);
+        nodes = new ArrayList<>();
+
+        final Random random = new Random(NODE_COUNT);
+        for (int i = 0; i < NODE_COUNT; i++)
+        {
+            final Node node = new Node().reset(null, i, i % 256, -i, 0, 0, random.nextDouble() * NODE_COUNT);
+            node.setCounterAdded(i);
+            nodes.add(node);
+            heap.offer(node);
+            map.put(i * 31L, node);
+        }
+    }
+
+    @Test
+    public void testPollOrder()
+    {
+        assertEquals(NODE_COUNT, heap.size());
+        double last = Double.NEGATIVE_INFINITY;
+        Node node;
+        while ((node = heap.poll()) != null)
+        {
+            assertTrue(node.getScore() >= last);
+            assertFalse(heap.contains(node));
+            last = node.getScore();
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void testDecreaseKey()
+    {
+        final Node node = nodes.get(NODE_COUNT / 2);
+        node.setScore(-1);
+        assertTrue(heap.decreaseKey(node));
+        assertSame(node, heap.poll());
+        assertFalse(heap.decreaseKey(node));
+    }
+
+    @Test
+    public void testMapLookup()
+    {
+        assertEquals(NODE_COUNT, map.size());
+        for (int i = 0; i < NODE_COUNT; i++)
+        {
+            assertSame(nodes.get(i), map.get(i * 31L));
+        }
+        assertNull(map.get(-1L));
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertNull(map.get(0L));
+    }
+}